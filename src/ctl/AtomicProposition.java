@@ -8,14 +8,39 @@ package ctl;
 
 public class AtomicProposition extends StateFormula {
 
-	String formula;		// the name of a static boolean field of some Java class
+	final int id;		// the PropositionTable id of the name of a static boolean field of some Java class
 
 	/**
-	 * Initializes the {@code formula} field to the provided {@code name}.
+	 * Initializes the {@code id} field to the id of the provided {@code name}.
 	 * @param	name	A string representing a static boolean field defined in some Java class
 	 */
 	public AtomicProposition(String name) {
-		this.formula = name;
+		super(name);
+		this.id = PropositionTable.id(name);
+	}
+
+	/**
+	 * Initializes the {@code id} field to an id of the {@link PropositionTable}.
+	 */
+	AtomicProposition(int id) {
+		super(PropositionTable.name(id));	// rejects unknown ids
+		this.id = id;
+	}
+
+	/**
+	 * Returns the {@link PropositionTable} id of the name of this <i>AtomicProposition</i>.
+	 * @return	The dense id of the name
+	 */
+	public int getId() {
+		return id;
+	}
+
+	/**
+	 * Returns the name of this <i>AtomicProposition</i>.
+	 * @return	The name of a static boolean field defined in some Java class
+	 */
+	public String getName() {
+		return PropositionTable.name(id);
 	}
 	
 	/**
@@ -34,12 +59,9 @@ public class AtomicProposition extends StateFormula {
 		if (getClass() != obj.getClass())
 			return false;
 		AtomicProposition other = (AtomicProposition) obj;
-		if (formula == null) {
-			if (other.formula != null)
-				return false;
-		} else if (!formula.equals(other.formula))
+		if (interned && other.interned)
 			return false;
-		return true;
+		return id == other.id;
 	}
 
 	/**
@@ -50,7 +72,7 @@ public class AtomicProposition extends StateFormula {
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + ((formula == null) ? 0 : formula.hashCode());
+		result = prime * result + id;
 		return result;
 	}
 
@@ -60,7 +82,53 @@ public class AtomicProposition extends StateFormula {
 	 */
 	@Override
 	public String toString() {
-		return this.formula;
+		return PropositionTable.name(id);
+	}
+
+	/**
+	 * Returns the number of direct sub-formulas of this <i>AtomicProposition</i> formula.
+	 * @return	Always 0, since this formula has no sub-formulas
+	 */
+	@Override
+	public int getChildCount() {
+		return 0;
+	}
+
+	/**
+	 * Always throws, since this <i>AtomicProposition</i> formula has no sub-formulas.
+	 * @param	index	Any position
+	 * @return	Never returns normally
+	 */
+	@Override
+	public Formula getChild(int index) {
+		throw new IndexOutOfBoundsException("Index: " + index);
+	}
+
+	/**
+	 * Returns the whole text of this formula, since it has no sub-formulas.
+	 */
+	@Override
+	String token(int index) {
+		return toString();
+	}
+
+	/**
+	 * Returns the opcode of <i>AtomicProposition</i> formulas.
+	 * @return	{@link FormulaArena#ATOM}
+	 */
+	@Override
+	public byte opcode() {
+		return FormulaArena.ATOM;
+	}
+
+	/**
+	 * Accepts a visitor by calling its method for <i>AtomicProposition</i> formulas.
+	 * @param	visitor		The visitor of this formula
+	 * @return	The result of {@code visitor.visitAtomicProposition(this)}
+	 */
+	@Override
+	public <R> R accept(StateFormulaVisitor<R> visitor) {
+		return visitor.visitAtomicProposition(this);
 	}
 
 	/**
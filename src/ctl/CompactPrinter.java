@@ -0,0 +1,187 @@
+package ctl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ *
+ * This class prints formulas in the syntax of the CTL grammar with only the
+ * parentheses that the grammar needs. The operators bind, from loosest to
+ * tightest, {@code <->}, {@code ->}, {@code ||} and {@code &&}, and the
+ * prefix operators {@code !}, {@code AX}, {@code EX}, {@code AF}, {@code EF},
+ * {@code AG} and {@code EG} bind tighter than all of them. Only {@code &&}
+ * groups to the left. Quantified untils are printed as {@code A(l U r)} and
+ * {@code E(l U r)}, and weak untils and releases alike with {@code W} and
+ * {@code R}. Like {@link FormulaPrinter} it keeps its own stack, so
+ * formulas of any depth can be printed.
+ *
+ */
+
+final class CompactPrinter {
+
+	private static final int IFF = 1;		// binding strength of <->
+	private static final int IMPLIES = 2;	// binding strength of ->
+	private static final int OR = 3;		// binding strength of ||
+	private static final int AND = 4;		// binding strength of &&
+	private static final int PREFIX = 5;	// binding strength of prefix operators, constants and propositions
+
+	private CompactPrinter() {}
+
+	/**
+	 * Returns the compact representation of the given formula.
+	 * @param	form	The {@code Formula} to be printed
+	 * @return	The formula with the fewest parentheses the grammar accepts
+	 */
+	static String print(Formula form) {
+		StringBuilder out = new StringBuilder();
+		try {
+			print(form, out);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);	// a StringBuilder never throws
+		}
+		return out.toString();
+	}
+
+	/**
+	 * Writes the compact representation of the given formula to {@code out}.
+	 * @param	form	The {@code Formula} to be printed
+	 * @param	out		The destination of the printed formula
+	 * @throws	IOException	If {@code out} fails to accept the text
+	 */
+	static void print(Formula form, Appendable out) throws IOException {
+		print(form, out, Collections.emptyMap());
+	}
+
+	/**
+	 * Writes the compact representation of the given formula to {@code out},
+	 * writing the name of every proper sub-formula that has one in
+	 * {@code names} instead of the sub-formula.
+	 * @param	form	The {@code Formula} to be printed
+	 * @param	out		The destination of the printed formula
+	 * @param	names	Names of sub-formula objects, printed like propositions
+	 * @throws	IOException	If {@code out} fails to accept the text
+	 */
+	static void print(Formula form, Appendable out, Map<Formula, String> names) throws IOException {
+		Formula[] nodes = new Formula[16];
+		int[] positions = new int[16];
+		boolean[] brackets = new boolean[16];
+		int top = 0;
+		nodes[0] = form;
+		while (top >= 0) {
+			Formula node = nodes[top];
+			int position = positions[top];
+			if (position == 0 && brackets[top])
+				out.append('(');
+			if (position == node.getChildCount()) {
+				if (position == 0)
+					out.append(node.toString());
+				else if (isUntil(node))
+					out.append(')');
+				if (brackets[top])
+					out.append(')');
+				nodes[top--] = null;
+				continue;
+			}
+			out.append(token(node, position));
+			Formula child = node.getChild(position);
+			positions[top] = position + 1;
+			String name = names.get(child);
+			if (name != null) {
+				out.append(name);
+				continue;
+			}
+			if (++top == nodes.length) {
+				nodes = Arrays.copyOf(nodes, top * 2);
+				positions = Arrays.copyOf(positions, top * 2);
+				brackets = Arrays.copyOf(brackets, top * 2);
+			}
+			nodes[top] = child;
+			positions[top] = 0;
+			brackets[top] = needsBrackets(node, position, child);
+		}
+	}
+
+	/**
+	 * Returns the text printed in front of the sub-formula at {@code position}.
+	 */
+	private static String token(Formula node, int position) {
+		switch (node.opcode()) {
+		case FormulaArena.NOT:
+			return "!";
+		case FormulaArena.AND:
+			return position == 0 ? "" : "&&";
+		case FormulaArena.OR:
+			return position == 0 ? "" : "||";
+		case FormulaArena.IMPLIES:
+			return position == 0 ? "" : "->";
+		case FormulaArena.IFF:
+			return position == 0 ? "" : "<->";
+		case FormulaArena.FORALL:
+			return "A";
+		case FormulaArena.EXISTS:
+			return "E";
+		case FormulaArena.NEXT:
+			return "X ";
+		case FormulaArena.ALWAYS:
+			return "G ";
+		case FormulaArena.EVENTUALLY:
+			return "F ";
+		case FormulaArena.UNTIL:
+			return position == 0 ? "(" : " U ";
+		case FormulaArena.WEAK_UNTIL:
+			return position == 0 ? "(" : " W ";
+		default:
+			return position == 0 ? "(" : " R ";
+		}
+	}
+
+	private static boolean isUntil(Formula node) {
+		return node.opcode() >= FormulaArena.UNTIL;
+	}
+
+	/**
+	 * Checks if the sub-formula at {@code position} of {@code parent} has to be
+	 * put in parentheses to be parsed back as that sub-formula.
+	 */
+	private static boolean needsBrackets(Formula parent, int position, Formula child) {
+		int strength = strength(child);
+		switch (parent.opcode()) {
+		case FormulaArena.AND:
+			return position == 0 ? strength < AND : strength <= AND;
+		case FormulaArena.OR:
+			return position == 0 ? strength <= OR : strength < OR;
+		case FormulaArena.IMPLIES:
+			return position == 0 ? strength <= IMPLIES : strength < IMPLIES;
+		case FormulaArena.IFF:
+			return position == 0 ? strength <= IFF : strength < IFF;
+		case FormulaArena.NOT:
+		case FormulaArena.NEXT:
+		case FormulaArena.ALWAYS:
+		case FormulaArena.EVENTUALLY:
+			return strength < PREFIX;
+		default:
+			return false;	// the path of a quantifier, or an operand of an until
+		}
+	}
+
+	/**
+	 * Returns how tightly the top operator of a formula binds.
+	 */
+	private static int strength(Formula form) {
+		switch (form.opcode()) {
+		case FormulaArena.IFF:
+			return IFF;
+		case FormulaArena.IMPLIES:
+			return IMPLIES;
+		case FormulaArena.OR:
+			return OR;
+		case FormulaArena.AND:
+			return AND;
+		default:
+			return PREFIX;
+		}
+	}
+}
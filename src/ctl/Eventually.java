@@ -9,7 +9,8 @@ package ctl;
 
 public class Eventually extends PathFormula {
 
-	StateFormula inner;	// the inner StateFormula that this Eventually Pathformula refers to
+	final StateFormula inner;	// the inner StateFormula that this Eventually Pathformula refers to
+	private final int hash;	// cached at construction, see computeHashCode()
 	
 	/**
 	 * Initializes the {@code inner} formula to the <i>StateFormula</i>
@@ -17,7 +18,9 @@ public class Eventually extends PathFormula {
 	 * @param	formula		A state formula
 	 */
 	public Eventually(StateFormula formula) {
+		super(formula, null);
 		this.inner = formula;
+		this.hash = computeHashCode();
 	}
 
 	/**
@@ -29,18 +32,40 @@ public class Eventually extends PathFormula {
 	 */
 	@Override
 	public boolean equals(Object obj) {
-		// TODO Auto-generated method stub
-		return false;
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		Eventually other = (Eventually) obj;
+		if (interned && other.interned)
+			return false;
+		if (hash != other.hash)
+			return false;
+		return FormulaEquality.equal(this, other);
 	}
 
 	/**
-	 * Returns the {@code hashCode} of this <i>Eventually</i> formula.
+	 * Returns the {@code hashCode} of this <i>Eventually</i> formula. It is computed
+	 * once when the formula is created, so this call takes constant time.
 	 * @return	An integer value representing this object's {@code hashCode}
 	 */
 	@Override
 	public int hashCode() {
-		// TODO Auto-generated method stub
-		return 0;
+		return hash;
+	}
+
+	/**
+	 * Computes the {@code hashCode} of this <i>Eventually</i> formula from the cached
+	 * hash codes of its sub-formulas.
+	 * @return	An integer value representing this object's {@code hashCode}
+	 */
+	private int computeHashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((inner == null) ? 0 : inner.hashCode());
+		return result;
 	}
 
 	/**
@@ -50,7 +75,55 @@ public class Eventually extends PathFormula {
 	 */
 	@Override
 	public String toString() {
-		return "F(" + inner.toString() + ")";
+		return FormulaPrinter.print(this);
+	}
+
+	/**
+	 * Returns the number of direct sub-formulas of this <i>Eventually</i> formula.
+	 * @return	Always 1, for the {@code inner} formula
+	 */
+	@Override
+	public int getChildCount() {
+		return 1;
+	}
+
+	/**
+	 * Returns the {@code inner} formula of this <i>Eventually</i> formula.
+	 * @param	index	Must be 0
+	 * @return	The {@code inner} formula
+	 */
+	@Override
+	public StateFormula getChild(int index) {
+		if (index != 0)
+			throw new IndexOutOfBoundsException("Index: " + index);
+		return inner;
+	}
+
+	/**
+	 * Returns the text printed before and after the {@code inner} formula.
+	 */
+	@Override
+	String token(int index) {
+		return index == 0 ? "F(" : ")";
+	}
+
+	/**
+	 * Returns the opcode of <i>Eventually</i> formulas.
+	 * @return	{@link FormulaArena#EVENTUALLY}
+	 */
+	@Override
+	public byte opcode() {
+		return FormulaArena.EVENTUALLY;
+	}
+
+	/**
+	 * Accepts a visitor by calling its method for <i>Eventually</i> formulas.
+	 * @param	visitor		The visitor of this formula
+	 * @return	The result of {@code visitor.visitEventually(this)}
+	 */
+	@Override
+	public <R> R accept(PathFormulaVisitor<R> visitor) {
+		return visitor.visitEventually(this);
 	}
 	
 	/**
@@ -59,7 +132,7 @@ public class Eventually extends PathFormula {
 	 */
 	@Override
 	public PathFormula existentialNormalForm() {
-		return new Eventually(inner.existentialNormalForm());
+		return Formulas.eventually(inner.existentialNormalForm());
 	}
 	
 	/**
@@ -68,6 +141,6 @@ public class Eventually extends PathFormula {
 	 */
 	@Override
 	public PathFormula positiveNormalForm() {
-		return new Eventually(inner.positiveNormalForm());
+		return Formulas.eventually(inner.positiveNormalForm());
 	}
 }
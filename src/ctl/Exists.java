@@ -8,7 +8,8 @@ package ctl;
 
 public class Exists extends StateFormula {
 
-	PathFormula inner;	// the inner PathFormula that this Exists Stateformula refers to
+	final PathFormula inner;	// the inner PathFormula that this Exists Stateformula refers to
+	private final int hash;	// cached at construction, see computeHashCode()
 	
 	/**
 	 * Initializes the {@code inner} formula to the <i>PathFormula</i>
@@ -16,7 +17,9 @@ public class Exists extends StateFormula {
 	 * @param	formula		A path formula
 	 */
 	public Exists(PathFormula formula) {
+		super(formula, null);
 		this.inner = formula;
+		this.hash = computeHashCode();
 	}
 
 	/**
@@ -35,20 +38,29 @@ public class Exists extends StateFormula {
 		if (getClass() != obj.getClass())
 			return false;
 		Exists other = (Exists) obj;
-		if (inner == null) {
-			if (other.inner != null)
-				return false;
-		} else if (!inner.equals(other.inner))
+		if (interned && other.interned)
 			return false;
-		return true;
+		if (hash != other.hash)
+			return false;
+		return FormulaEquality.equal(this, other);
 	}
 
 	/**
-	 * Returns the {@code hashCode} of this <i>Exists</i> formula.
+	 * Returns the {@code hashCode} of this <i>Exists</i> formula. It is computed
+	 * once when the formula is created, so this call takes constant time.
 	 * @return	An integer value representing this object's {@code hashCode}
 	 */
 	@Override
 	public int hashCode() {
+		return hash;
+	}
+
+	/**
+	 * Computes the {@code hashCode} of this <i>Exists</i> formula from the cached
+	 * hash codes of its sub-formulas.
+	 * @return	An integer value representing this object's {@code hashCode}
+	 */
+	private int computeHashCode() {
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + ((inner == null) ? 0 : inner.hashCode());
@@ -62,7 +74,55 @@ public class Exists extends StateFormula {
 	 */
 	@Override
 	public String toString() {
-		return "E(" + inner.toString() + ")";
+		return FormulaPrinter.print(this);
+	}
+
+	/**
+	 * Returns the number of direct sub-formulas of this <i>Exists</i> formula.
+	 * @return	Always 1, for the {@code inner} formula
+	 */
+	@Override
+	public int getChildCount() {
+		return 1;
+	}
+
+	/**
+	 * Returns the {@code inner} formula of this <i>Exists</i> formula.
+	 * @param	index	Must be 0
+	 * @return	The {@code inner} formula
+	 */
+	@Override
+	public PathFormula getChild(int index) {
+		if (index != 0)
+			throw new IndexOutOfBoundsException("Index: " + index);
+		return inner;
+	}
+
+	/**
+	 * Returns the text printed before and after the {@code inner} formula.
+	 */
+	@Override
+	String token(int index) {
+		return index == 0 ? "E(" : ")";
+	}
+
+	/**
+	 * Returns the opcode of <i>Exists</i> formulas.
+	 * @return	{@link FormulaArena#EXISTS}
+	 */
+	@Override
+	public byte opcode() {
+		return FormulaArena.EXISTS;
+	}
+
+	/**
+	 * Accepts a visitor by calling its method for <i>Exists</i> formulas.
+	 * @param	visitor		The visitor of this formula
+	 * @return	The result of {@code visitor.visitExists(this)}
+	 */
+	@Override
+	public <R> R accept(StateFormulaVisitor<R> visitor) {
+		return visitor.visitExists(this);
 	}
 	
 	/**
@@ -80,7 +140,7 @@ public class Exists extends StateFormula {
 	 */
 	@Override
 	public StateFormula existentialNormalForm() {
-		return new Exists(inner.existentialNormalForm());
+		return Formulas.exists(inner.existentialNormalForm());
 	}
 	
 	/**
@@ -89,6 +149,6 @@ public class Exists extends StateFormula {
 	 */
 	@Override
 	public StateFormula positiveNormalForm() {
-		return new Exists(inner.positiveNormalForm());
+		return Formulas.exists(inner.positiveNormalForm());
 	}
 }
@@ -8,7 +8,7 @@ package ctl;
 
 public class False extends StateFormula {
 
-	boolean formula;	// store as a primitive boolean for the smallest footprint
+	final boolean formula;	// store as a primitive boolean for the smallest footprint
 	
 	/**
 	 * Initializes the {@code formula} field to <i>false</i>.
@@ -33,6 +33,8 @@ public class False extends StateFormula {
 		if (getClass() != obj.getClass())
 			return false;
 		False other = (False) obj;
+		if (interned && other.interned)
+			return false;
 		if (formula != other.formula)
 			return false;
 		return true;
@@ -58,6 +60,52 @@ public class False extends StateFormula {
 	public String toString() {
 		return String.valueOf(formula);
 	}
+
+	/**
+	 * Returns the number of direct sub-formulas of this <i>False</i> formula.
+	 * @return	Always 0, since this formula has no sub-formulas
+	 */
+	@Override
+	public int getChildCount() {
+		return 0;
+	}
+
+	/**
+	 * Always throws, since this <i>False</i> formula has no sub-formulas.
+	 * @param	index	Any position
+	 * @return	Never returns normally
+	 */
+	@Override
+	public Formula getChild(int index) {
+		throw new IndexOutOfBoundsException("Index: " + index);
+	}
+
+	/**
+	 * Returns the whole text of this formula, since it has no sub-formulas.
+	 */
+	@Override
+	String token(int index) {
+		return toString();
+	}
+
+	/**
+	 * Returns the opcode of <i>False</i> formulas.
+	 * @return	{@link FormulaArena#FALSE}
+	 */
+	@Override
+	public byte opcode() {
+		return FormulaArena.FALSE;
+	}
+
+	/**
+	 * Accepts a visitor by calling its method for <i>False</i> formulas.
+	 * @param	visitor		The visitor of this formula
+	 * @return	The result of {@code visitor.visitFalse(this)}
+	 */
+	@Override
+	public <R> R accept(StateFormulaVisitor<R> visitor) {
+		return visitor.visitFalse(this);
+	}
 	
 	/**
 	 * Returns a {@code StateFormula} for the existential normal form of <i>False</i>.
@@ -0,0 +1,84 @@
+package ctl;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ *
+ * This class computes the 64-bit structural fingerprints returned by
+ * {@link Formula#fingerprint()}. The algorithm is part of the contract of
+ * that method and must not change, since fingerprints are meant to be stored
+ * and compared across runs of the program:
+ * <ol>
+ * <li>{@code mix(h)} is the 64-bit finalizer of MurmurHash3:
+ * {@code h ^= h >>> 33; h *= 0xff51afd7ed558ccd; h ^= h >>> 33;
+ * h *= 0xc4ceb9fe1a85ec53; h ^= h >>> 33}.</li>
+ * <li>A node starts from {@code h = mix(0x9e3779b97f4a7c15 * (opcode + 1))},
+ * where the opcode is the {@link FormulaArena} constant of its type.</li>
+ * <li>Each sub-formula, from left to right, is folded in with
+ * {@code h = mix(h ^ (child * 0xbf58476d1ce4e5b9))}, where {@code child} is
+ * the fingerprint of the sub-formula.</li>
+ * <li>An atomic proposition folds in the 64-bit FNV-1a hash of the UTF-8
+ * bytes of its name in the same way, as if it were its only sub-formula.</li>
+ * </ol>
+ * All arithmetic wraps around modulo 2<sup>64</sup>.
+ *
+ */
+
+final class Fingerprints {
+
+	private static final long GOLDEN = 0x9e3779b97f4a7c15L;
+	private static final long CHILD = 0xbf58476d1ce4e5b9L;
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private Fingerprints() {}
+
+	/**
+	 * Returns the fingerprint of a node from its opcode and the fingerprints
+	 * of its sub-formulas, skipping missing ones.
+	 */
+	static long node(byte op, Formula left, Formula right) {
+		long h = start(op);
+		if (left != null)
+			h = fold(h, left.fingerprint());
+		if (right != null)
+			h = fold(h, right.fingerprint());
+		return h;
+	}
+
+	/**
+	 * Returns the fingerprint of the atomic proposition with the given name.
+	 */
+	static long atom(String name) {
+		long fnv = FNV_OFFSET;
+		for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+			fnv ^= b & 0xff;
+			fnv *= FNV_PRIME;
+		}
+		return fold(start(FormulaArena.ATOM), fnv);
+	}
+
+	/**
+	 * Returns the fingerprint of a node with the given opcode before any
+	 * sub-formula is folded in.
+	 */
+	static long start(byte op) {
+		return mix(GOLDEN * (op + 1));
+	}
+
+	/**
+	 * Folds the fingerprint of the next sub-formula into {@code h}.
+	 */
+	static long fold(long h, long child) {
+		return mix(h ^ (child * CHILD));
+	}
+
+	private static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
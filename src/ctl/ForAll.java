@@ -8,7 +8,8 @@ package ctl;
 
 public class ForAll extends StateFormula {
 
-	PathFormula inner;	// the inner PathFormula that this ForAll Stateformula refers to
+	final PathFormula inner;	// the inner PathFormula that this ForAll Stateformula refers to
+	private final int hash;	// cached at construction, see computeHashCode()
 	
 	/**
 	 * Initializes the {@code inner} formula to the <i>PathFormula</i>
@@ -16,7 +17,9 @@ public class ForAll extends StateFormula {
 	 * @param	formula		A path formula
 	 */
 	public ForAll(PathFormula formula) {
+		super(formula, null);
 		this.inner = formula;
+		this.hash = computeHashCode();
 	}
 
 	/**
@@ -35,20 +38,29 @@ public class ForAll extends StateFormula {
 		if (getClass() != obj.getClass())
 			return false;
 		ForAll other = (ForAll) obj;
-		if (inner == null) {
-			if (other.inner != null)
-				return false;
-		} else if (!inner.equals(other.inner))
+		if (interned && other.interned)
 			return false;
-		return true;
+		if (hash != other.hash)
+			return false;
+		return FormulaEquality.equal(this, other);
 	}
 
 	/**
-	 * Returns the {@code hashCode} of this <i>ForAll</i> formula.
+	 * Returns the {@code hashCode} of this <i>ForAll</i> formula. It is computed
+	 * once when the formula is created, so this call takes constant time.
 	 * @return	An integer value representing this object's {@code hashCode}
 	 */
 	@Override
 	public int hashCode() {
+		return hash;
+	}
+
+	/**
+	 * Computes the {@code hashCode} of this <i>ForAll</i> formula from the cached
+	 * hash codes of its sub-formulas.
+	 * @return	An integer value representing this object's {@code hashCode}
+	 */
+	private int computeHashCode() {
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + ((inner == null) ? 0 : inner.hashCode());
@@ -62,7 +74,55 @@ public class ForAll extends StateFormula {
 	 */
 	@Override
 	public String toString() {
-		return "A(" + inner.toString() + ")";
+		return FormulaPrinter.print(this);
+	}
+
+	/**
+	 * Returns the number of direct sub-formulas of this <i>ForAll</i> formula.
+	 * @return	Always 1, for the {@code inner} formula
+	 */
+	@Override
+	public int getChildCount() {
+		return 1;
+	}
+
+	/**
+	 * Returns the {@code inner} formula of this <i>ForAll</i> formula.
+	 * @param	index	Must be 0
+	 * @return	The {@code inner} formula
+	 */
+	@Override
+	public PathFormula getChild(int index) {
+		if (index != 0)
+			throw new IndexOutOfBoundsException("Index: " + index);
+		return inner;
+	}
+
+	/**
+	 * Returns the text printed before and after the {@code inner} formula.
+	 */
+	@Override
+	String token(int index) {
+		return index == 0 ? "A(" : ")";
+	}
+
+	/**
+	 * Returns the opcode of <i>ForAll</i> formulas.
+	 * @return	{@link FormulaArena#FORALL}
+	 */
+	@Override
+	public byte opcode() {
+		return FormulaArena.FORALL;
+	}
+
+	/**
+	 * Accepts a visitor by calling its method for <i>ForAll</i> formulas.
+	 * @param	visitor		The visitor of this formula
+	 * @return	The result of {@code visitor.visitForAll(this)}
+	 */
+	@Override
+	public <R> R accept(StateFormulaVisitor<R> visitor) {
+		return visitor.visitForAll(this);
 	}
 	
 	/**
@@ -82,32 +142,44 @@ public class ForAll extends StateFormula {
 	 */
 	@Override
 	public StateFormula existentialNormalForm() {
-		if(inner instanceof Next){
-			Next next = (Next) inner;
-			return new Not(new Exists(new Next(new Not(next.inner.existentialNormalForm()))));
-		}else if(inner instanceof Until){
+		return inner.accept(EXISTENTIAL);
+	}
 
-			Until current = (Until) inner;
+	/**
+	 * Selects the duality law for the {@code inner} PathFormula of a <i>ForAll</i>
+	 * with a single call, and applies it to the translated sub-formulas.
+	 */
+	private static final PathFormulaVisitor<StateFormula> EXISTENTIAL = new FormulaBaseVisitor<StateFormula>() {
+
+		@Override
+		protected StateFormula visitFormula(Formula form) {
+			return Formulas.forAll((PathFormula) form.existentialNormalForm());
+		}
+
+		@Override
+		public StateFormula visitNext(Next next) {
+			return Formulas.not(Formulas.exists(Formulas.next(Formulas.not(next.inner.existentialNormalForm()))));
+		}
+
+		@Override
+		public StateFormula visitUntil(Until current) {
 			StateFormula left = current.left;
 			StateFormula right = current.right;
 
 			StateFormula leftTranslated = left.existentialNormalForm();
 			StateFormula rightTranslated = right.existentialNormalForm();
-			
-			StateFormula leftInnerAnd = new And(new Not(leftTranslated), new Not(rightTranslated));
 
-			Until leftUntil = new Until(new Not(rightTranslated), leftInnerAnd);
+			StateFormula leftInnerAnd = Formulas.and(Formulas.not(leftTranslated), Formulas.not(rightTranslated));
 
-			StateFormula leftPart = new Not(new Exists(leftUntil));
+			Until leftUntil = Formulas.until(Formulas.not(rightTranslated), leftInnerAnd);
 
-			StateFormula rightPart = new Not(new Exists(new Always(new Not(rightTranslated))));
+			StateFormula leftPart = Formulas.not(Formulas.exists(leftUntil));
 
-			StateFormula result = new And(leftPart.existentialNormalForm(),rightPart.existentialNormalForm());
+			StateFormula rightPart = Formulas.not(Formulas.exists(Formulas.always(Formulas.not(rightTranslated))));
 
-			return result;
-		}else
-		return new ForAll(inner.existentialNormalForm());
-	}
+			return Formulas.and(leftPart, rightPart);	// both parts are built from translated formulas only
+		}
+	};
 	
 	/**
 	 * Returns a {@code StateFormula} for the positive normal form of <i>ForAll</i>
@@ -115,6 +187,6 @@ public class ForAll extends StateFormula {
 	 */
 	@Override
 	public StateFormula positiveNormalForm() {
-		return new ForAll(inner.positiveNormalForm());
+		return Formulas.forAll(inner.positiveNormalForm());
 	}
 }
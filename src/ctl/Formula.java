@@ -1,20 +1,290 @@
 package ctl;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
- * 
- * This class represents a CTL formula.
+ *
+ * This class represents a CTL formula. Formulas are immutable once created,
+ * which allows every subclass to compute its hash code in its constructor.
  *
  */
 
 public abstract class Formula {
 
-	public Formula() {}
-	
+	boolean interned;	// set once this formula is the shared instance held by Formulas
+
+	private final long size;		// number of nodes of the formula as a tree, see size()
+	private final int depth;		// number of nodes on the longest path to a leaf
+	private final long fingerprint;	// structural fingerprint, see Fingerprints
+	private volatile long shape;	// dagSize() << 32 | propositionCount(), 0 until first asked
+
+	public Formula() {
+		this(null, null);
+	}
+
+	/**
+	 * Measures and fingerprints an atomic proposition.
+	 * @param	name	The name of the atomic proposition
+	 */
+	Formula(String name) {
+		this.size = 1;
+		this.depth = 1;
+		this.fingerprint = Fingerprints.atom(name);
+	}
+
+	/**
+	 * Measures and fingerprints a formula from its sub-formulas, which have
+	 * already been measured. Calls {@link #opcode()}, which must not depend on
+	 * the fields of the subclass.
+	 * @param	left	The left, or only, sub-formula, or null
+	 * @param	right	The right sub-formula, or null
+	 */
+	Formula(Formula left, Formula right) {
+		long size = 1;
+		int depth = 0;
+		if (left != null) {
+			size += left.size;
+			depth = left.depth;
+		}
+		if (right != null) {
+			size += right.size;
+			depth = Math.max(depth, right.depth);
+		}
+		this.size = size < 0 ? Long.MAX_VALUE : size;	// saturates for huge shared formulas
+		this.depth = depth + 1;
+		this.fingerprint = Fingerprints.node(opcode(), left, right);
+	}
+
 	public abstract boolean equals(Object obj);
 	public abstract int hashCode();
 	public abstract String toString();
 	public abstract Formula existentialNormalForm();
 	public abstract Formula positiveNormalForm();
 
-	
+	/**
+	 * Returns the number of nodes of this formula counted as a tree, so a
+	 * sub-formula occurring twice is counted twice. This is the size of the
+	 * printed formula up to a constant factor. Computed at construction.
+	 * @return	The tree size, or {@code Long.MAX_VALUE} if it does not fit a {@code long}
+	 */
+	public final long size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of nodes on the longest path from this formula to a
+	 * constant or atomic proposition. Computed at construction.
+	 * @return	1 for constants and atomic propositions, and one more than the
+	 * 			deepest sub-formula otherwise
+	 */
+	public final int depth() {
+		return depth;
+	}
+
+	/**
+	 * Returns this formula in the syntax of the CTL grammar with only the
+	 * parentheses the grammar needs, e.g. {@code a.b&&!(c.d||E(e.f U g.h))}.
+	 * Parsing the result gives back an equal formula for every operator,
+	 * including weak until and release.
+	 * @return	The compact representation of this formula
+	 */
+	public final String toCompactString() {
+		return CompactPrinter.print(this);
+	}
+
+	/**
+	 * Returns this formula with every shared composite state sub-formula
+	 * written once, as a {@code let} binding, see {@link LetFormat}. The text
+	 * is proportional to {@link #dagSize()} rather than to {@link #size()}.
+	 * @return	The bindings of the shared sub-formulas, one per line, followed
+	 * 			by this formula
+	 */
+	public final String toLetString() {
+		return LetFormat.print(this);
+	}
+
+	/**
+	 * Writes {@link #toCompactString()} to {@code out} without building the
+	 * whole string first.
+	 * @param	out		The destination, e.g. a buffered {@code Writer}
+	 * @throws	IOException	If {@code out} fails to accept the text
+	 */
+	public final void appendCompactTo(Appendable out) throws IOException {
+		CompactPrinter.print(this, out);
+	}
+
+	/**
+	 * Returns the 64-bit structural fingerprint of this formula. Equal formulas
+	 * have equal fingerprints, and different formulas almost never do, so the
+	 * fingerprint can key persistent caches and deduplicate large corpora.
+	 * The algorithm, documented in {@code Fingerprints}, only depends on the
+	 * structure and the names of the atomic propositions, so fingerprints are
+	 * the same in every run and on every JVM. Computed at construction.
+	 * @return	The fingerprint of this formula
+	 */
+	public final long fingerprint() {
+		return fingerprint;
+	}
+
+	/**
+	 * Returns the number of distinct nodes of this formula, counting a shared
+	 * sub-formula object once. For formulas built by {@link Formulas} this is
+	 * the number of distinct sub-formulas. Computed on the first call.
+	 * @return	The number of distinct nodes
+	 */
+	public final int dagSize() {
+		return (int) (measureShape() >>> 32);
+	}
+
+	/**
+	 * Returns the number of distinct atomic propositions in this formula.
+	 * Computed on the first call.
+	 * @return	The number of distinct atomic propositions
+	 */
+	public final int propositionCount() {
+		return (int) measureShape();
+	}
+
+	/**
+	 * Walks the distinct nodes of this formula once, without recursion, and
+	 * caches the DAG size and proposition count. Racing threads compute the
+	 * same value, so the cache needs no lock.
+	 */
+	private long measureShape() {
+		long known = shape;
+		if (known != 0)
+			return known;
+		Set<Formula> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+		BitSet propositions = new BitSet();
+		ArrayDeque<Formula> pending = new ArrayDeque<>();
+		pending.push(this);
+		seen.add(this);
+		while (!pending.isEmpty()) {
+			Formula node = pending.pop();
+			if (node instanceof AtomicProposition)
+				propositions.set(((AtomicProposition) node).id);
+			for (int i = 0; i < node.getChildCount(); i++) {
+				Formula child = node.getChild(i);
+				if (seen.add(child))
+					pending.push(child);
+			}
+		}
+		known = (long) seen.size() << 32 | propositions.cardinality();
+		shape = known;
+		return known;
+	}
+
+	/**
+	 * Returns a stream of this formula and all its sub-formulas, counting a
+	 * sub-formula once per occurrence, as {@link #size()} does. A sequential
+	 * stream visits them in pre-order, from the left. A parallel stream splits
+	 * the work at binary formulas, so analyses of very large formulas can run
+	 * on all cores, e.g. {@code form.subformulas().parallel().filter(...)}.
+	 * @return	A stream of {@link #size()} formulas
+	 */
+	public final Stream<Formula> subformulas() {
+		return subformulas(false);
+	}
+
+	/**
+	 * Returns a stream of this formula and its sub-formulas. If {@code distinct}
+	 * is set, a sub-formula object reachable along several paths is visited
+	 * only once, with its own sub-formulas, and the stream has {@link #dagSize()}
+	 * elements. Parallel streams share the set of visited formulas.
+	 * @param	distinct	Whether shared sub-formulas are visited once
+	 * @return	A stream of the sub-formulas of this formula
+	 */
+	public final Stream<Formula> subformulas(boolean distinct) {
+		return StreamSupport.stream(new SubformulaSpliterator(this, distinct), false);
+	}
+
+	/**
+	 * Returns a copy of this formula in which the sub-formula at {@code path}
+	 * is replaced. Only the formulas on the path are copied, every other
+	 * sub-formula is shared with this formula, and this formula is unchanged.
+	 * The copy is interned if this formula is.
+	 * @param	path			The child indexes leading from this formula to the
+	 * 							replaced sub-formula; empty for this formula itself
+	 * @param	replacement		The new sub-formula
+	 * @return	The edited copy of this formula
+	 * @throws	IndexOutOfBoundsException	If {@code path} leads to no sub-formula
+	 * @throws	IllegalArgumentException	If {@code replacement} cannot take the
+	 * 										place of the replaced sub-formula
+	 */
+	public final Formula replaceAt(int[] path, Formula replacement) {
+		return FormulaEdits.replaceAt(this, path, replacement);
+	}
+
+	/**
+	 * Returns a copy of this formula in which every sub-formula is mapped by
+	 * {@code fn}, from the leaves up. Each node is first rebuilt from its
+	 * mapped sub-formulas, and then passed to {@code fn}. A node reachable
+	 * along several paths is mapped once, and nodes that {@code fn} returns
+	 * unchanged, and whose sub-formulas are unchanged, are shared with this
+	 * formula.
+	 * @param	fn		The function applied to every rebuilt node
+	 * @return	The mapped copy of this formula
+	 * @throws	IllegalArgumentException	If {@code fn} returns a formula that
+	 * 										cannot take the place of its node
+	 */
+	public final Formula map(Function<? super Formula, ? extends Formula> fn) {
+		return FormulaEdits.map(this, fn);
+	}
+
+	/**
+	 * Returns the number of direct sub-formulas of this formula.
+	 * @return	0 for constants and atomic propositions, 1 for unary and 2 for binary formulas
+	 */
+	public abstract int getChildCount();
+
+	/**
+	 * Returns the direct sub-formula at the given position, counting from the left.
+	 * @param	index	A position between 0 and {@code getChildCount() - 1}
+	 * @return	The sub-formula at {@code index}
+	 * @throws	IndexOutOfBoundsException	If this formula has no such sub-formula
+	 */
+	public abstract Formula getChild(int index);
+
+	/**
+	 * Returns the text that {@code toString} prints in front of the sub-formula
+	 * at {@code index}, or after the last sub-formula when {@code index} equals
+	 * {@link #getChildCount()}.
+	 * @param	index	A position between 0 and {@code getChildCount()}
+	 * @return	The literal text at that position of the printed formula
+	 */
+	abstract String token(int index);
+
+	/**
+	 * Returns the opcode of this formula, which names its type with one of the
+	 * constants of {@link FormulaArena}.
+	 * @return	The opcode of this formula
+	 */
+	public abstract byte opcode();
+
+	/**
+	 * Accepts a visitor by calling its method for the type of this formula.
+	 * @param	visitor		The visitor of this formula
+	 * @return	The result of the visitor for this formula
+	 */
+	public abstract <R> R accept(FormulaVisitor<R> visitor);
+
+	/**
+	 * Writes the string representation of this formula to {@code out}. Every
+	 * character is written once, so large formulas can be streamed to a
+	 * {@code Writer} without building the whole string first.
+	 * @param	out		The destination, e.g. a buffered {@code Writer}
+	 * @throws	IOException	If {@code out} fails to accept the text
+	 */
+	public final void appendTo(Appendable out) throws IOException {
+		FormulaPrinter.print(this, out);
+	}
+
 }
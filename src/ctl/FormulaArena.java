@@ -0,0 +1,689 @@
+package ctl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ *
+ * This class stores formulas as rows of parallel primitive arrays instead of
+ * one object per node. A node is an {@code int} index holding an opcode, the
+ * index of its left and right sub-formulas, or the {@link PropositionTable}
+ * id of an atomic proposition. Nodes are hash-consed, so structurally equal formulas have the
+ * same index, and the sub-formulas of a node always have smaller indexes.
+ * The arena translates and prints formulas directly on the arrays, and
+ * remembers every translation it has done.
+ *
+ */
+
+public final class FormulaArena {
+
+	public static final byte TRUE = 0;
+	public static final byte FALSE = 1;
+	public static final byte ATOM = 2;
+	public static final byte NOT = 3;
+	public static final byte AND = 4;
+	public static final byte OR = 5;
+	public static final byte IMPLIES = 6;
+	public static final byte IFF = 7;
+	public static final byte FORALL = 8;
+	public static final byte EXISTS = 9;
+	public static final byte NEXT = 10;
+	public static final byte ALWAYS = 11;
+	public static final byte EVENTUALLY = 12;
+	public static final byte UNTIL = 13;
+	public static final byte WEAK_UNTIL = 14;
+	public static final byte RELEASE = 15;
+
+	/** The child index of a missing sub-formula. */
+	public static final int NONE = -1;
+
+	private static final String[][] TOKENS = {
+			{ "true" }, { "false" }, null, { "!(", ")" },
+			{ "(", ")&&(", ")" }, { "(", ")||(", ")" }, { "(", ")->(", ")" }, { "(", ")<->(", ")" },
+			{ "A(", ")" }, { "E(", ")" }, { "X(", ")" }, { "G(", ")" }, { "F(", ")" },
+			{ "(", ")U(", ")" }, { "(", ")W(", ")" }, { "(", ")R(", ")" } };
+
+	private static final byte ENF = 0;		// existential normal form of a node
+	private static final byte POSITIVE = 1;	// positive normal form of a node
+	private static final byte NEGATIVE = 2;	// positive normal form of the negation of a node
+
+	private byte[] ops;
+	private int[] lefts;
+	private int[] rights;
+	private int size;
+
+	private int[] table;	// open addressing table of node indexes, NONE when empty
+
+	private int[][] memos = new int[3][];	// translations by kind, created on first use
+
+	/**
+	 * Creates an empty arena.
+	 */
+	public FormulaArena() {
+		this(64);
+	}
+
+	/**
+	 * Creates an empty arena with room for {@code capacity} nodes before its
+	 * arrays have to grow.
+	 * @param	capacity	The expected number of nodes
+	 */
+	public FormulaArena(int capacity) {
+		capacity = Math.max(capacity, 16);
+		ops = new byte[capacity];
+		lefts = new int[capacity];
+		rights = new int[capacity];
+		table = new int[Integer.highestOneBit(capacity - 1) << 2];
+		Arrays.fill(table, NONE);
+	}
+
+	/**
+	 * Returns the number of distinct nodes in this arena.
+	 * @return	The number of nodes
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the opcode of a node, one of the constants of this class.
+	 * @param	node	The index of the node
+	 * @return	The opcode of {@code node}
+	 */
+	public byte opcode(int node) {
+		check(node);
+		return ops[node];
+	}
+
+	/**
+	 * Returns the left, or only, sub-formula of a node.
+	 * @param	node	The index of the node
+	 * @return	The index of the sub-formula, or {@link #NONE} for constants and atomic propositions
+	 */
+	public int left(int node) {
+		check(node);
+		return ops[node] == ATOM ? NONE : lefts[node];
+	}
+
+	/**
+	 * Returns the right sub-formula of a binary node.
+	 * @param	node	The index of the node
+	 * @return	The index of the sub-formula, or {@link #NONE} if {@code node} is not binary
+	 */
+	public int right(int node) {
+		check(node);
+		return rights[node];
+	}
+
+	/**
+	 * Returns the name of an atomic proposition.
+	 * @param	node	The index of an {@link #ATOM} node
+	 * @return	The name of the atomic proposition
+	 * @throws	IllegalArgumentException	If {@code node} is not an atomic proposition
+	 */
+	public String name(int node) {
+		check(node);
+		if (ops[node] != ATOM)
+			throw new IllegalArgumentException("Node " + node + " is not an atomic proposition");
+		return PropositionTable.name(lefts[node]);
+	}
+
+	/**
+	 * Returns the {@link PropositionTable} id of an atomic proposition.
+	 * @param	node	The index of an {@link #ATOM} node
+	 * @return	The id of the name of the atomic proposition
+	 * @throws	IllegalArgumentException	If {@code node} is not an atomic proposition
+	 */
+	public int proposition(int node) {
+		check(node);
+		if (ops[node] != ATOM)
+			throw new IllegalArgumentException("Node " + node + " is not an atomic proposition");
+		return lefts[node];
+	}
+
+	/**
+	 * Returns the number of sub-formulas of the nodes with the given opcode.
+	 * @param	op	An opcode of this class
+	 * @return	0 for constants and atomic propositions, 1 for unary and 2 for binary opcodes
+	 */
+	public static int arity(byte op) {
+		switch (op) {
+		case TRUE:
+		case FALSE:
+		case ATOM:
+			return 0;
+		case AND:
+		case OR:
+		case IMPLIES:
+		case IFF:
+		case UNTIL:
+		case WEAK_UNTIL:
+		case RELEASE:
+			return 2;
+		default:
+			return 1;
+		}
+	}
+
+	/**
+	 * Checks whether the nodes with the given opcode are PathFormulas.
+	 * @param	op	An opcode of this class
+	 * @return	<i>true</i> for the path operators X, G, F, U, W and R
+	 */
+	public static boolean isPath(byte op) {
+		return op >= NEXT;
+	}
+
+	/**
+	 * Returns the node of an atomic proposition.
+	 * @param	name	The name of the atomic proposition
+	 * @return	The index of the node
+	 */
+	public int atom(String name) {
+		return unique(ATOM, PropositionTable.id(name), NONE);
+	}
+
+	/**
+	 * Returns the node with the given opcode and sub-formulas, adding it to
+	 * this arena unless it is already there.
+	 * @param	op		An opcode of this class other than {@link #ATOM}
+	 * @param	left	The left, or only, sub-formula, or {@link #NONE}
+	 * @param	right	The right sub-formula, or {@link #NONE}
+	 * @return	The index of the node
+	 * @throws	IllegalArgumentException	If the sub-formulas do not fit the opcode
+	 */
+	public int node(byte op, int left, int right) {
+		if (op < TRUE || op > RELEASE || op == ATOM)
+			throw new IllegalArgumentException("Opcode " + op + " does not take sub-formulas");
+		int arity = arity(op);
+		boolean path = op == FORALL || op == EXISTS;
+		if (!fits(left, arity > 0, path) || !fits(right, arity > 1, false))
+			throw new IllegalArgumentException("Sub-formulas of the wrong kind for opcode " + op);
+		return unique(op, left, right);
+	}
+
+	/**
+	 * Checks that {@code child} is a sub-formula of the expected kind, or
+	 * {@link #NONE} if no sub-formula is expected.
+	 */
+	private boolean fits(int child, boolean expected, boolean path) {
+		if (!expected)
+			return child == NONE;
+		return child >= 0 && child < size && isPath(ops[child]) == path;
+	}
+
+	/**
+	 * Adds a formula and all its sub-formulas to this arena, without recursion.
+	 * @param	form	The {@code Formula} to be added
+	 * @return	The index of the node of {@code form}
+	 */
+	public int add(Formula form) {
+		Map<Formula, Integer> done = new IdentityHashMap<>();
+		Formula[] nodes = new Formula[16];
+		int[] positions = new int[16];
+		int[] results = new int[16];
+		int top = 0;
+		int count = 0;
+		nodes[0] = form;
+		while (top >= 0) {
+			Formula current = nodes[top];
+			int position = positions[top];
+			if (position == current.getChildCount()) {
+				int right = position == 2 ? results[--count] : NONE;
+				int left = position >= 1 ? results[--count] : NONE;
+				byte op = current.opcode();
+				int index = op == ATOM ? unique(ATOM, ((AtomicProposition) current).id, NONE) : unique(op, left, right);
+				done.put(current, index);
+				nodes[top--] = null;
+				results[count++] = index;
+				continue;
+			}
+			positions[top] = position + 1;
+			Formula child = current.getChild(position);
+			Integer known = done.get(child);
+			if (known != null) {
+				results[count++] = known;
+			} else {
+				if (++top == nodes.length) {
+					nodes = Arrays.copyOf(nodes, top * 2);
+					positions = Arrays.copyOf(positions, top * 2);
+				}
+				nodes[top] = child;
+				positions[top] = 0;
+			}
+			if (count + 2 >= results.length)
+				results = Arrays.copyOf(results, results.length * 2);
+		}
+		return results[0];
+	}
+
+	/**
+	 * Returns the {@code Formula} of a node, built with {@link Formulas} so
+	 * that shared nodes become shared objects.
+	 * @param	node	The index of the node
+	 * @return	The interned {@code Formula} of {@code node}
+	 */
+	public Formula toFormula(int node) {
+		check(node);
+		boolean[] reachable = reachable(node);
+		Formula[] built = new Formula[node + 1];
+		for (int i = 0; i <= node; i++) {
+			if (!reachable[i])
+				continue;
+			Formula left = ops[i] == ATOM || lefts[i] == NONE ? null : built[lefts[i]];
+			Formula right = rights[i] == NONE ? null : built[rights[i]];
+			built[i] = build(i, left, right);
+		}
+		return built[node];
+	}
+
+	/**
+	 * Returns the fingerprint of a node, which is the same as the
+	 * {@link Formula#fingerprint()} of its {@code Formula}.
+	 * @param	node	The index of the node
+	 * @return	The 64-bit structural fingerprint of {@code node}
+	 */
+	public long fingerprint(int node) {
+		check(node);
+		boolean[] reachable = reachable(node);
+		long[] fingerprints = new long[node + 1];
+		for (int i = 0; i <= node; i++) {
+			if (!reachable[i])
+				continue;
+			if (ops[i] == ATOM) {
+				fingerprints[i] = Fingerprints.atom(PropositionTable.name(lefts[i]));
+				continue;
+			}
+			long h = Fingerprints.start(ops[i]);
+			if (lefts[i] != NONE)
+				h = Fingerprints.fold(h, fingerprints[lefts[i]]);
+			if (rights[i] != NONE)
+				h = Fingerprints.fold(h, fingerprints[rights[i]]);
+			fingerprints[i] = h;
+		}
+		return fingerprints[node];
+	}
+
+	/**
+	 * Marks the nodes reachable from {@code node}, which all have smaller
+	 * indexes, in one backward pass.
+	 */
+	private boolean[] reachable(int node) {
+		boolean[] reachable = new boolean[node + 1];
+		reachable[node] = true;
+		for (int i = node; i >= 0; i--) {
+			if (!reachable[i] || ops[i] == ATOM)
+				continue;
+			if (lefts[i] != NONE)
+				reachable[lefts[i]] = true;
+			if (rights[i] != NONE)
+				reachable[rights[i]] = true;
+		}
+		return reachable;
+	}
+
+	/**
+	 * Builds the {@code Formula} of node {@code i} from its built sub-formulas.
+	 */
+	private Formula build(int i, Formula left, Formula right) {
+		switch (ops[i]) {
+		case TRUE:
+			return Formulas.TRUE;
+		case FALSE:
+			return Formulas.FALSE;
+		case ATOM:
+			return Formulas.intern(new AtomicProposition(lefts[i]));
+		case NOT:
+			return Formulas.not((StateFormula) left);
+		case AND:
+			return Formulas.and((StateFormula) left, (StateFormula) right);
+		case OR:
+			return Formulas.or((StateFormula) left, (StateFormula) right);
+		case IMPLIES:
+			return Formulas.implies((StateFormula) left, (StateFormula) right);
+		case IFF:
+			return Formulas.iff((StateFormula) left, (StateFormula) right);
+		case FORALL:
+			return Formulas.forAll((PathFormula) left);
+		case EXISTS:
+			return Formulas.exists((PathFormula) left);
+		case NEXT:
+			return Formulas.next((StateFormula) left);
+		case ALWAYS:
+			return Formulas.always((StateFormula) left);
+		case EVENTUALLY:
+			return Formulas.eventually((StateFormula) left);
+		case UNTIL:
+			return Formulas.until((StateFormula) left, (StateFormula) right);
+		case WEAK_UNTIL:
+			return Formulas.weakUntil((StateFormula) left, (StateFormula) right);
+		default:
+			return Formulas.release((StateFormula) left, (StateFormula) right);
+		}
+	}
+
+	/**
+	 * Translates a node into its existential normal form. The result is the
+	 * node of {@link Formula#existentialNormalForm()} of the node's formula.
+	 * @param	node	The index of the node
+	 * @return	The index of the translated node
+	 */
+	public int existentialNormalForm(int node) {
+		check(node);
+		return translate(ENF, node);
+	}
+
+	/**
+	 * Translates a node into its positive normal form. The result is the
+	 * node of {@link Formula#positiveNormalForm()} of the node's formula.
+	 * @param	node	The index of the node
+	 * @return	The index of the translated node
+	 */
+	public int positiveNormalForm(int node) {
+		check(node);
+		return translate(POSITIVE, node);
+	}
+
+	/**
+	 * Runs the translations that {@code node} depends on from a work stack
+	 * until the translation of {@code node} is known. Every translated node is
+	 * remembered, so shared nodes are translated once.
+	 */
+	private int translate(byte kind, int node) {
+		int known = memo(kind, node);
+		if (known != NONE)
+			return known;
+		Tasks tasks = new Tasks();
+		tasks.push(kind, node);
+		while (tasks.top >= 0) {
+			byte current = tasks.kinds[tasks.top];
+			int operand = tasks.nodes[tasks.top];
+			if (memo(current, operand) != NONE) {
+				tasks.top--;
+				continue;
+			}
+			int result;
+			switch (current) {
+			case ENF:
+				result = existential(tasks, operand);
+				break;
+			case POSITIVE:
+				result = positive(tasks, operand);
+				break;
+			default:
+				result = negative(tasks, operand);
+				break;
+			}
+			if (result != NONE) {
+				memos[current][operand] = result;
+				tasks.top--;
+			}
+		}
+		return memo(kind, node);
+	}
+
+	/**
+	 * Returns the translation of {@code node} if it is known, and otherwise
+	 * schedules it and returns {@link #NONE}.
+	 */
+	private int need(Tasks tasks, byte kind, int node) {
+		int known = memo(kind, node);
+		if (known == NONE)
+			tasks.push(kind, node);
+		return known;
+	}
+
+	/**
+	 * Applies the duality rules of <i>ForAll</i> once the translated
+	 * sub-formulas are known, as {@link ForAll#existentialNormalForm()} does.
+	 */
+	private int existential(Tasks tasks, int node) {
+		byte op = ops[node];
+		if (op == FORALL && ops[lefts[node]] == NEXT) {
+			int inner = need(tasks, ENF, lefts[lefts[node]]);
+			if (inner == NONE)
+				return NONE;
+			return unique(NOT, unique(EXISTS, unique(NEXT, unique(NOT, inner, NONE), NONE), NONE), NONE);
+		}
+		if (op == FORALL && ops[lefts[node]] == UNTIL) {
+			int left = need(tasks, ENF, lefts[lefts[node]]);
+			int right = need(tasks, ENF, rights[lefts[node]]);
+			if (left == NONE || right == NONE)
+				return NONE;
+			int notRight = unique(NOT, right, NONE);
+			int leftInnerAnd = unique(AND, unique(NOT, left, NONE), notRight);
+			int leftPart = unique(NOT, unique(EXISTS, unique(UNTIL, notRight, leftInnerAnd), NONE), NONE);
+			int rightPart = unique(NOT, unique(EXISTS, unique(ALWAYS, notRight, NONE), NONE), NONE);
+			return unique(AND, leftPart, rightPart);
+		}
+		return rebuild(tasks, ENF, node);
+	}
+
+	/**
+	 * Translates a node into positive normal form, which only changes negations.
+	 */
+	private int positive(Tasks tasks, int node) {
+		if (ops[node] == NOT)
+			return need(tasks, NEGATIVE, lefts[node]);
+		return rebuild(tasks, POSITIVE, node);
+	}
+
+	/**
+	 * Translates the negation of a node, following the duality laws applied
+	 * by {@link Not#positiveNormalForm()}.
+	 */
+	private int negative(Tasks tasks, int node) {
+		byte op = ops[node];
+		switch (op) {
+		case TRUE:
+			return unique(FALSE, NONE, NONE);
+		case FALSE:
+			return unique(TRUE, NONE, NONE);
+		case NOT:
+			return need(tasks, POSITIVE, lefts[node]);
+		case AND: {
+			int negatedLeft = need(tasks, NEGATIVE, lefts[node]);
+			int negatedRight = need(tasks, NEGATIVE, rights[node]);
+			if (negatedLeft == NONE || negatedRight == NONE)
+				return NONE;
+			return unique(OR, negatedLeft, negatedRight);
+		}
+		case FORALL:
+		case EXISTS: {
+			byte dual = op == FORALL ? EXISTS : FORALL;
+			int path = lefts[node];
+			if (ops[path] == NEXT) {
+				int negated = need(tasks, NEGATIVE, lefts[path]);
+				if (negated == NONE)
+					return NONE;
+				return unique(dual, unique(NEXT, negated, NONE), NONE);
+			}
+			if (ops[path] == EVENTUALLY || ops[path] == ALWAYS) {
+				int negated = need(tasks, NEGATIVE, lefts[path]);
+				if (negated == NONE)
+					return NONE;
+				return unique(dual, unique(ops[path] == EVENTUALLY ? ALWAYS : EVENTUALLY, negated, NONE), NONE);
+			}
+			if (ops[path] == UNTIL) {
+				int left = need(tasks, POSITIVE, lefts[path]);
+				int negatedLeft = need(tasks, NEGATIVE, lefts[path]);
+				int negatedRight = need(tasks, NEGATIVE, rights[path]);
+				if (left == NONE || negatedLeft == NONE || negatedRight == NONE)
+					return NONE;
+				int weakUntil = unique(WEAK_UNTIL, unique(AND, left, negatedRight), unique(AND, negatedLeft, negatedRight));
+				return unique(dual, weakUntil, NONE);
+			}
+			if (ops[path] == RELEASE) {
+				int negatedLeft = need(tasks, NEGATIVE, lefts[path]);
+				int negatedRight = need(tasks, NEGATIVE, rights[path]);
+				if (negatedLeft == NONE || negatedRight == NONE)
+					return NONE;
+				return unique(dual, unique(UNTIL, negatedLeft, negatedRight), NONE);
+			}
+			break;
+		}
+		default:
+			break;
+		}
+		int translated = need(tasks, POSITIVE, node);
+		return translated == NONE ? NONE : unique(NOT, translated, NONE);
+	}
+
+	/**
+	 * Rebuilds a node from the translations of its sub-formulas, or returns
+	 * the node itself if it has none.
+	 */
+	private int rebuild(Tasks tasks, byte kind, int node) {
+		byte op = ops[node];
+		if (op <= ATOM)
+			return node;
+		int left = need(tasks, kind, lefts[node]);
+		int right = rights[node] == NONE ? NONE : need(tasks, kind, rights[node]);
+		if (left == NONE || (right == NONE && rights[node] != NONE))
+			return NONE;
+		return unique(op, left, right);
+	}
+
+	/**
+	 * Returns the remembered translation of {@code node}, or {@link #NONE}.
+	 */
+	private int memo(byte kind, int node) {
+		int[] memo = memos[kind];
+		if (memo == null || memo.length < ops.length) {
+			int old = memo == null ? 0 : memo.length;
+			memo = memo == null ? new int[ops.length] : Arrays.copyOf(memo, ops.length);
+			Arrays.fill(memo, old, memo.length, NONE);
+			memos[kind] = memo;
+		}
+		return memo[node];
+	}
+
+	/**
+	 * Returns the string representation of a node, which is the same as the
+	 * {@code toString} of its {@code Formula}.
+	 * @param	node	The index of the node
+	 * @return	A pretty print version of the node
+	 */
+	public String toString(int node) {
+		StringBuilder out = new StringBuilder();
+		try {
+			appendTo(node, out);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);	// a StringBuilder never throws
+		}
+		return out.toString();
+	}
+
+	/**
+	 * Writes the string representation of a node to {@code out}, without
+	 * recursion.
+	 * @param	node	The index of the node
+	 * @param	out		The destination, e.g. a buffered {@code Writer}
+	 * @throws	IOException	If {@code out} fails to accept the text
+	 */
+	public void appendTo(int node, Appendable out) throws IOException {
+		check(node);
+		int[] nodes = new int[16];
+		int[] positions = new int[16];
+		int top = 0;
+		nodes[0] = node;
+		while (top >= 0) {
+			int current = nodes[top];
+			int position = positions[top];
+			byte op = ops[current];
+			if (op == ATOM) {
+				out.append(PropositionTable.name(lefts[current]));
+				top--;
+				continue;
+			}
+			out.append(TOKENS[op][position]);
+			int arity = arity(op);
+			if (position == arity) {
+				top--;
+				continue;
+			}
+			positions[top] = position + 1;
+			if (++top == nodes.length) {
+				nodes = Arrays.copyOf(nodes, top * 2);
+				positions = Arrays.copyOf(positions, top * 2);
+			}
+			nodes[top] = position == 0 ? lefts[current] : rights[current];
+			positions[top] = 0;
+		}
+	}
+
+	/**
+	 * Returns the index of the node with the given fields, adding it if it is
+	 * not in the table yet.
+	 */
+	private int unique(byte op, int left, int right) {
+		int mask = table.length - 1;
+		int slot = hash(op, left, right) & mask;
+		for (int index; (index = table[slot]) != NONE; slot = (slot + 1) & mask) {
+			if (ops[index] == op && lefts[index] == left && rights[index] == right)
+				return index;
+		}
+		if (size == ops.length) {
+			int capacity = size * 2;
+			ops = Arrays.copyOf(ops, capacity);
+			lefts = Arrays.copyOf(lefts, capacity);
+			rights = Arrays.copyOf(rights, capacity);
+		}
+		int index = size++;
+		ops[index] = op;
+		lefts[index] = left;
+		rights[index] = right;
+		table[slot] = index;
+		if (size * 2 > table.length)
+			rehash();
+		return index;
+	}
+
+	/**
+	 * Doubles the table, keeping its load factor at most one half.
+	 */
+	private void rehash() {
+		table = new int[table.length * 2];
+		Arrays.fill(table, NONE);
+		int mask = table.length - 1;
+		for (int index = 0; index < size; index++) {
+			int slot = hash(ops[index], lefts[index], rights[index]) & mask;
+			while (table[slot] != NONE)
+				slot = (slot + 1) & mask;
+			table[slot] = index;
+		}
+	}
+
+	private static int hash(byte op, int left, int right) {
+		int h = (op * 31 + left) * 31 + right;
+		return h ^ (h >>> 16) ^ (h >>> 7);
+	}
+
+	private void check(int node) {
+		if (node < 0 || node >= size)
+			throw new IndexOutOfBoundsException("Node: " + node + ", Size: " + size);
+	}
+
+	/**
+	 * The stack of pending translations, as pairs of a kind and a node.
+	 */
+	private static final class Tasks {
+
+		byte[] kinds = new byte[16];
+		int[] nodes = new int[16];
+		int top = -1;
+
+		void push(byte kind, int node) {
+			if (++top == nodes.length) {
+				kinds = Arrays.copyOf(kinds, top * 2);
+				nodes = Arrays.copyOf(nodes, top * 2);
+			}
+			kinds[top] = kind;
+			nodes[top] = node;
+		}
+
+	}
+}
@@ -0,0 +1,181 @@
+package ctl;
+
+/**
+ *
+ * This class provides a default implementation of {@link FormulaVisitor} that
+ * sends every formula to {@link #visitFormula}, which can be extended to create
+ * a visitor which only needs to handle a subset of the formula types.
+ *
+ * @param <R>	The result type of the visit operation
+ *
+ */
+
+public abstract class FormulaBaseVisitor<R> implements FormulaVisitor<R> {
+
+	/**
+	 * Visits a formula whose type is not handled by a more specific method.
+	 * @param	form	The visited formula
+	 * @return	The result of this visitor for {@code form}
+	 */
+	protected abstract R visitFormula(Formula form);
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of {@link #visitFormula}.</p>
+	 */
+	@Override
+	public R visitTrue(True form) {
+		return visitFormula(form);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of {@link #visitFormula}.</p>
+	 */
+	@Override
+	public R visitFalse(False form) {
+		return visitFormula(form);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of {@link #visitFormula}.</p>
+	 */
+	@Override
+	public R visitAtomicProposition(AtomicProposition form) {
+		return visitFormula(form);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of {@link #visitFormula}.</p>
+	 */
+	@Override
+	public R visitNot(Not form) {
+		return visitFormula(form);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of {@link #visitFormula}.</p>
+	 */
+	@Override
+	public R visitAnd(And form) {
+		return visitFormula(form);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of {@link #visitFormula}.</p>
+	 */
+	@Override
+	public R visitOr(Or form) {
+		return visitFormula(form);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of {@link #visitFormula}.</p>
+	 */
+	@Override
+	public R visitImplies(Implies form) {
+		return visitFormula(form);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of {@link #visitFormula}.</p>
+	 */
+	@Override
+	public R visitIff(Iff form) {
+		return visitFormula(form);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of {@link #visitFormula}.</p>
+	 */
+	@Override
+	public R visitForAll(ForAll form) {
+		return visitFormula(form);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of {@link #visitFormula}.</p>
+	 */
+	@Override
+	public R visitExists(Exists form) {
+		return visitFormula(form);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of {@link #visitFormula}.</p>
+	 */
+	@Override
+	public R visitNext(Next form) {
+		return visitFormula(form);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of {@link #visitFormula}.</p>
+	 */
+	@Override
+	public R visitUntil(Until form) {
+		return visitFormula(form);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of {@link #visitFormula}.</p>
+	 */
+	@Override
+	public R visitWeakUntil(WeakUntil form) {
+		return visitFormula(form);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of {@link #visitFormula}.</p>
+	 */
+	@Override
+	public R visitRelease(Release form) {
+		return visitFormula(form);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of {@link #visitFormula}.</p>
+	 */
+	@Override
+	public R visitAlways(Always form) {
+		return visitFormula(form);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of {@link #visitFormula}.</p>
+	 */
+	@Override
+	public R visitEventually(Eventually form) {
+		return visitFormula(form);
+	}
+}
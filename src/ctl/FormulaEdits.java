@@ -0,0 +1,101 @@
+package ctl;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ *
+ * This class edits formulas persistently. An edit copies only the nodes on
+ * the path from the root to the changed sub-formulas and shares every other
+ * sub-formula with the original, which stays unchanged. Edited copies of an
+ * interned formula are interned, and edited copies of other formulas are
+ * built with the constructors.
+ *
+ */
+
+final class FormulaEdits {
+
+	private FormulaEdits() {}
+
+	/**
+	 * Returns a copy of {@code root} in which the sub-formula at {@code path}
+	 * is replaced, see {@link Formula#replaceAt(int[], Formula)}.
+	 */
+	static Formula replaceAt(Formula root, int[] path, Formula replacement) {
+		Formula[] spine = new Formula[path.length];
+		Formula node = root;
+		for (int i = 0; i < path.length; i++) {
+			spine[i] = node;
+			node = node.getChild(path[i]);
+		}
+		Formula result = replacement;
+		for (int i = path.length - 1; i >= 0; i--) {
+			Formula parent = spine[i];
+			Formula[] children = new Formula[parent.getChildCount()];
+			for (int j = 0; j < children.length; j++)
+				children[j] = j == path[i] ? result : parent.getChild(j);
+			result = Formulas.rebuild(parent, children);
+		}
+		return result;
+	}
+
+	/**
+	 * Applies {@code fn} bottom-up to every distinct node of {@code root}, see
+	 * {@link Formula#map(Function)}.
+	 */
+	static Formula map(Formula root, Function<? super Formula, ? extends Formula> fn) {
+		return map(root, (node, rebuilt) -> fn.apply(rebuilt));
+	}
+
+	/**
+	 * Applies {@code fn} bottom-up to every distinct node of {@code root} and
+	 * the node rebuilt from its mapped sub-formulas, in this order.
+	 */
+	static Formula map(Formula root, BiFunction<Formula, Formula, ? extends Formula> fn) {
+		Map<Formula, Formula> done = new IdentityHashMap<>();
+		Formula[] nodes = new Formula[16];
+		int[] positions = new int[16];
+		Formula[] results = new Formula[16];
+		int top = 0;
+		int count = 0;
+		nodes[0] = root;
+		while (top >= 0) {
+			Formula node = nodes[top];
+			int position = positions[top];
+			int children = node.getChildCount();
+			if (position < children) {
+				positions[top] = position + 1;
+				Formula child = node.getChild(position);
+				Formula known = done.get(child);
+				if (known != null) {
+					if (count == results.length)
+						results = Arrays.copyOf(results, count * 2);
+					results[count++] = known;
+					continue;
+				}
+				if (++top == nodes.length) {
+					nodes = Arrays.copyOf(nodes, top * 2);
+					positions = Arrays.copyOf(positions, top * 2);
+				}
+				nodes[top] = child;
+				positions[top] = 0;
+				continue;
+			}
+			Formula[] mapped = Arrays.copyOfRange(results, count - children, count);
+			Arrays.fill(results, count - children, count, null);
+			count -= children;
+			Formula result = fn.apply(node, Formulas.rebuild(node, mapped));
+			if (result == null)
+				throw new NullPointerException("The function mapped " + node + " to null");
+			done.put(node, result);
+			if (count == results.length)
+				results = Arrays.copyOf(results, count * 2);
+			results[count++] = result;
+			nodes[top--] = null;
+		}
+		return results[0];
+	}
+}
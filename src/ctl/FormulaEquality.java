@@ -0,0 +1,139 @@
+package ctl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ *
+ * This class compares formulas structurally. Sub-formulas are compared
+ * recursively up to a fixed depth and a fixed number of pairs, which keeps
+ * ordinary formulas as fast as before. Pairs below that depth are compared
+ * with an explicit work stack so that very deep formulas cannot overflow the
+ * call stack, and once the pairs run out the comparison starts again on the
+ * work stack, visiting every pair of sub-formula objects once, so two
+ * separately built copies of a shared DAG are compared in time linear in the
+ * DAG rather than the tree.
+ *
+ */
+
+final class FormulaEquality {
+
+	private static final int RECURSION_LIMIT = 256;	// nesting compared on the call stack
+	private static final int STEP_LIMIT = 1 << 16;	// pairs compared before the comparison is memoized
+
+	private FormulaEquality() {}
+
+	/**
+	 * Checks if two formulas are structurally equal.
+	 * @param	a	The first formula, may be {@code null}
+	 * @param	b	The second formula, may be {@code null}
+	 * @return	Returns <i>true</i> if both are {@code null} or have the same
+	 * 			structure, and <i>false</i> if otherwise.
+	 */
+	static boolean equal(Formula a, Formula b) {
+		int[] steps = {STEP_LIMIT};
+		boolean equal = equal(a, b, RECURSION_LIMIT, steps);
+		return steps[0] < 0 ? equalIteratively(a, b) : equal;
+	}
+
+	/**
+	 * Compares two formulas recursively. Once the steps run out, the count
+	 * turns negative and the comparison gives up, answering <i>false</i>.
+	 */
+
+	private static boolean equal(Formula a, Formula b, int budget, int[] steps) {
+		if (a == b)
+			return true;
+		if (!sameNode(a, b))
+			return false;
+		int count = a.getChildCount();
+		if (count == 0)
+			return a.equals(b);
+		if (--steps[0] < 0)
+			return false;
+		if (budget == 0)
+			return equalIteratively(a, b);
+		for (int i = 0; i < count; i++)
+			if (!equal(a.getChild(i), b.getChild(i), budget - 1, steps))
+				return false;
+		return true;
+	}
+
+	/**
+	 * Compares two formulas on a work stack, expanding each pair of
+	 * sub-formula objects once. A pair met again is either already proven
+	 * equal or still being compared, and in the latter case any difference
+	 * below it is found through its first visit, so skipping it is sound.
+	 */
+	private static boolean equalIteratively(Formula a, Formula b) {
+		Set<Pair> visited = new HashSet<>();
+		Deque<Formula> pending = new ArrayDeque<>();
+		pending.push(b);
+		pending.push(a);
+		while (!pending.isEmpty()) {
+			Formula left = pending.pop();
+			Formula right = pending.pop();
+			if (left == right)
+				continue;
+			if (!sameNode(left, right))
+				return false;
+			if (left.getChildCount() > 0 && !visited.add(new Pair(left, right)))
+				continue;
+			int count = left.getChildCount();
+			if (count == 0 && !left.equals(right))
+				return false;
+			for (int i = count - 1; i >= 0; i--) {
+				Formula leftChild = left.getChild(i);
+				Formula rightChild = right.getChild(i);
+				if (leftChild == rightChild)
+					continue;
+				if (leftChild == null || rightChild == null)
+					return false;
+				pending.push(rightChild);
+				pending.push(leftChild);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks everything about two distinct formulas that can be decided without
+	 * looking at their sub-formulas.
+	 */
+	private static boolean sameNode(Formula a, Formula b) {
+		if (a == null || b == null)
+			return false;
+		if (a.getClass() != b.getClass() || a.hashCode() != b.hashCode() || a.fingerprint() != b.fingerprint())
+			return false;
+		return !(a.interned && b.interned);
+	}
+
+	/**
+	 * A pair of formula objects, compared by identity.
+	 */
+	private static final class Pair {
+
+		private final Formula left;
+		private final Formula right;
+
+		Pair(Formula left, Formula right) {
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Pair))
+				return false;
+			Pair other = (Pair) obj;
+			return left == other.left && right == other.right;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(left) + System.identityHashCode(right);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package ctl;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+
+/**
+ *
+ * This class orders formulas by their structure. Formulas are compared by
+ * opcode, then by size, then atomic propositions by name and composite
+ * formulas sub-formula by sub-formula from the left. The order only depends
+ * on the structure and the names of the propositions, never on ids or object
+ * identities, so it is the same in every run of the program. It is consistent
+ * with {@code equals}, and compares formulas of any depth without recursion.
+ *
+ */
+
+public final class FormulaOrder implements Comparator<Formula> {
+
+	/**
+	 * The only instance of this order.
+	 */
+	public static final FormulaOrder INSTANCE = new FormulaOrder();
+
+	private FormulaOrder() {}
+
+	/**
+	 * Compares two formulas by their structure.
+	 * @param	a	The first formula
+	 * @param	b	The second formula
+	 * @return	A negative number, zero or a positive number if {@code a} is
+	 * 			ordered before, equal to or after {@code b}
+	 */
+	@Override
+	public int compare(Formula a, Formula b) {
+		int result = compareNodes(a, b);
+		if (result != 0 || a == b || a.getChildCount() == 0)
+			return result;
+		ArrayDeque<Formula> pending = new ArrayDeque<>();
+		pushChildren(pending, a, b);
+		while (!pending.isEmpty()) {
+			Formula left = pending.pop();
+			Formula right = pending.pop();
+			result = compareNodes(left, right);
+			if (result != 0)
+				return result;
+			if (left != right)
+				pushChildren(pending, left, right);
+		}
+		return 0;
+	}
+
+	/**
+	 * Compares two nodes without their sub-formulas.
+	 */
+	private static int compareNodes(Formula a, Formula b) {
+		if (a == b)
+			return 0;
+		int result = Byte.compare(a.opcode(), b.opcode());
+		if (result != 0)
+			return result;
+		result = Long.compare(a.size(), b.size());
+		if (result != 0)
+			return result;
+		if (a instanceof AtomicProposition) {
+			AtomicProposition left = (AtomicProposition) a;
+			AtomicProposition right = (AtomicProposition) b;
+			return left.id == right.id ? 0 : left.getName().compareTo(right.getName());
+		}
+		return 0;
+	}
+
+	/**
+	 * Pushes the pairs of sub-formulas so that the leftmost pair is compared first.
+	 */
+	private static void pushChildren(ArrayDeque<Formula> pending, Formula a, Formula b) {
+		for (int i = a.getChildCount() - 1; i >= 0; i--) {
+			pending.push(b.getChild(i));
+			pending.push(a.getChild(i));
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package ctl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ *
+ * This class prints formulas without recursion. It keeps its own stack of
+ * pending sub-formulas, so formulas of any depth can be printed, and writes
+ * every token exactly once to the destination instead of concatenating the
+ * strings of the sub-formulas at each level.
+ *
+ */
+
+final class FormulaPrinter {
+
+	private FormulaPrinter() {}
+
+	/**
+	 * Returns the string representation of the given formula, as documented by
+	 * the {@code toString} method of each formula class.
+	 * @param	form	The {@code Formula} to be printed
+	 * @return	A pretty print version of the formula
+	 */
+	static String print(Formula form) {
+		StringBuilder out = new StringBuilder();
+		try {
+			print(form, out);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);	// a StringBuilder never throws
+		}
+		return out.toString();
+	}
+
+	/**
+	 * Writes the string representation of the given formula to {@code out}.
+	 * @param	form	The {@code Formula} to be printed
+	 * @param	out		The destination of the printed formula
+	 * @throws	IOException	If {@code out} fails to accept the text
+	 */
+	static void print(Formula form, Appendable out) throws IOException {
+		Formula[] nodes = new Formula[16];
+		int[] positions = new int[16];
+		int top = 0;
+		nodes[0] = form;
+		while (top >= 0) {
+			Formula node = nodes[top];
+			int position = positions[top];
+			out.append(node.token(position));
+			if (position == node.getChildCount()) {
+				nodes[top--] = null;
+				continue;
+			}
+			positions[top] = position + 1;
+			if (++top == nodes.length) {
+				nodes = Arrays.copyOf(nodes, top * 2);
+				positions = Arrays.copyOf(positions, top * 2);
+			}
+			nodes[top] = node.getChild(position);
+			positions[top] = 0;
+		}
+	}
+}
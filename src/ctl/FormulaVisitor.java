@@ -0,0 +1,14 @@
+package ctl;
+
+/**
+ *
+ * This interface defines a visitor over all CTL formulas, both state and path
+ * formulas.
+ *
+ * @param <R>	The result type of the visit operation
+ *
+ */
+
+public interface FormulaVisitor<R> extends StateFormulaVisitor<R>, PathFormulaVisitor<R> {
+
+}
@@ -0,0 +1,667 @@
+package ctl;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *
+ * This class serves as a hash-consing factory for CTL formulas. Every formula
+ * built through it is interned, so structurally identical sub-formulas are
+ * represented by one shared instance and {@code equals} between two interned
+ * formulas collapses to a reference check. The intern table only holds its
+ * formulas weakly, so nodes that are no longer used anywhere else can still be
+ * garbage collected.
+ *
+ */
+
+public final class Formulas {
+
+	private static final Map<Object, Entry> TABLE = new ConcurrentHashMap<>();
+	private static final ReferenceQueue<Formula> QUEUE = new ReferenceQueue<>();
+	private static final LongAdder LOOKUPS = new LongAdder();
+	private static final LongAdder HITS = new LongAdder();
+
+	private static volatile boolean canonicalOrdering;	// see setCanonicalOrdering(boolean)
+
+	/**
+	 * The canonical <i>True</i> formula.
+	 */
+	public static final True TRUE = unique(new True());
+
+	/**
+	 * The canonical <i>False</i> formula.
+	 */
+	public static final False FALSE = unique(new False());
+
+	private Formulas() {}
+
+	/**
+	 * Returns the canonical <i>AtomicProposition</i> with the given name.
+	 * @param	name	A string representing a static boolean field defined in some Java class
+	 * @return	The interned {@code AtomicProposition}
+	 */
+	public static AtomicProposition atom(String name) {
+		return unique(new AtomicProposition(name));
+	}
+
+	/**
+	 * Returns the canonical negation of the given formula.
+	 * @param	inner	The state formula being negated
+	 * @return	The interned {@code Not} formula
+	 */
+	public static Not not(StateFormula inner) {
+		return unique(new Not(intern(inner)));
+	}
+
+	/**
+	 * Returns the canonical conjunction of the given formulas. With canonical
+	 * ordering on, this is {@link #canonicalAnd}.
+	 * @param	left	The left sub-formula
+	 * @param	right	The right sub-formula
+	 * @return	The interned {@code And} formula
+	 */
+	public static And and(StateFormula left, StateFormula right) {
+		if (canonicalOrdering)
+			return canonicalAnd(left, right);
+		return unique(new And(intern(left), intern(right)));
+	}
+
+	/**
+	 * Returns the canonical disjunction of the given formulas. With canonical
+	 * ordering on, this is {@link #canonicalOr}.
+	 * @param	left	The left sub-formula
+	 * @param	right	The right sub-formula
+	 * @return	The interned {@code Or} formula
+	 */
+	public static Or or(StateFormula left, StateFormula right) {
+		if (canonicalOrdering)
+			return canonicalOr(left, right);
+		return unique(new Or(intern(left), intern(right)));
+	}
+
+	/**
+	 * Returns the canonical implication between the given formulas.
+	 * @param	left	The left sub-formula
+	 * @param	right	The right sub-formula
+	 * @return	The interned {@code Implies} formula
+	 */
+	public static Implies implies(StateFormula left, StateFormula right) {
+		return unique(new Implies(intern(left), intern(right)));
+	}
+
+	/**
+	 * Returns the canonical equivalence between the given formulas. With
+	 * canonical ordering on, this is {@link #canonicalIff}.
+	 * @param	left	The left sub-formula
+	 * @param	right	The right sub-formula
+	 * @return	The interned {@code Iff} formula
+	 */
+	public static Iff iff(StateFormula left, StateFormula right) {
+		if (canonicalOrdering)
+			return canonicalIff(left, right);
+		return unique(new Iff(intern(left), intern(right)));
+	}
+
+	/**
+	 * Returns the canonical universal quantification of the given path formula.
+	 * @param	inner	The quantified path formula
+	 * @return	The interned {@code ForAll} formula
+	 */
+	public static ForAll forAll(PathFormula inner) {
+		return unique(new ForAll(intern(inner)));
+	}
+
+	/**
+	 * Returns the canonical existential quantification of the given path formula.
+	 * @param	inner	The quantified path formula
+	 * @return	The interned {@code Exists} formula
+	 */
+	public static Exists exists(PathFormula inner) {
+		return unique(new Exists(intern(inner)));
+	}
+
+	/**
+	 * Returns the canonical next of the given state formula.
+	 * @param	inner	A state formula
+	 * @return	The interned {@code Next} formula
+	 */
+	public static Next next(StateFormula inner) {
+		return unique(new Next(intern(inner)));
+	}
+
+	/**
+	 * Returns the canonical always of the given state formula.
+	 * @param	inner	A state formula
+	 * @return	The interned {@code Always} formula
+	 */
+	public static Always always(StateFormula inner) {
+		return unique(new Always(intern(inner)));
+	}
+
+	/**
+	 * Returns the canonical eventually of the given state formula.
+	 * @param	inner	A state formula
+	 * @return	The interned {@code Eventually} formula
+	 */
+	public static Eventually eventually(StateFormula inner) {
+		return unique(new Eventually(intern(inner)));
+	}
+
+	/**
+	 * Returns the canonical until of the given state formulas.
+	 * @param	left	The left sub-formula
+	 * @param	right	The right sub-formula
+	 * @return	The interned {@code Until} formula
+	 */
+	public static Until until(StateFormula left, StateFormula right) {
+		return unique(new Until(intern(left), intern(right)));
+	}
+
+	/**
+	 * Returns the canonical weak until of the given state formulas.
+	 * @param	left	The left sub-formula
+	 * @param	right	The right sub-formula
+	 * @return	The interned {@code WeakUntil} formula
+	 */
+	public static WeakUntil weakUntil(StateFormula left, StateFormula right) {
+		return unique(new WeakUntil(intern(left), intern(right)));
+	}
+
+	/**
+	 * Returns the canonical release of the given state formulas.
+	 * @param	left	The left sub-formula
+	 * @param	right	The right sub-formula
+	 * @return	The interned {@code Release} formula
+	 */
+	public static Release release(StateFormula left, StateFormula right) {
+		return unique(new Release(intern(left), intern(right)));
+	}
+
+	/**
+	 * Turns canonical ordering of commutative operators on or off for every
+	 * formula built afterwards. While it is on, {@link #and}, {@link #or},
+	 * {@link #iff} and {@link #withChildren} build their results with
+	 * {@link #canonicalAnd}, {@link #canonicalOr} and {@link #canonicalIff}.
+	 * It is off by default, since it changes the shape of translated formulas.
+	 * @param	enabled		Whether commutative operators are ordered
+	 */
+	public static void setCanonicalOrdering(boolean enabled) {
+		canonicalOrdering = enabled;
+	}
+
+	/**
+	 * Returns whether canonical ordering of commutative operators is on.
+	 * @return	<i>true</i> if {@link #setCanonicalOrdering(boolean)} turned it on
+	 */
+	public static boolean isCanonicalOrdering() {
+		return canonicalOrdering;
+	}
+
+	/**
+	 * Returns the conjunction of the operands of {@code left} and {@code right}
+	 * in canonical order. Nested conjunctions are flattened into one list of
+	 * operands, which is sorted by {@link FormulaOrder} and rebuilt as a chain
+	 * nested to the right, so every arrangement of the same operands gives
+	 * the same formula. Duplicate operands are kept.
+	 * @param	left	The left sub-formula
+	 * @param	right	The right sub-formula
+	 * @return	The interned {@code And} formula in canonical order
+	 */
+	public static And canonicalAnd(StateFormula left, StateFormula right) {
+		return (And) chain(FormulaArena.AND, left, right);
+	}
+
+	/**
+	 * Returns the disjunction of the operands of {@code left} and {@code right}
+	 * in canonical order, as {@link #canonicalAnd} does for conjunctions.
+	 * @param	left	The left sub-formula
+	 * @param	right	The right sub-formula
+	 * @return	The interned {@code Or} formula in canonical order
+	 */
+	public static Or canonicalOr(StateFormula left, StateFormula right) {
+		return (Or) chain(FormulaArena.OR, left, right);
+	}
+
+	/**
+	 * Returns the equivalence between the given formulas with the formula
+	 * that is first in {@link FormulaOrder} on the left.
+	 * @param	left	The left sub-formula
+	 * @param	right	The right sub-formula
+	 * @return	The interned {@code Iff} formula in canonical order
+	 */
+	public static Iff canonicalIff(StateFormula left, StateFormula right) {
+		left = intern(left);
+		right = intern(right);
+		if (FormulaOrder.INSTANCE.compare(left, right) > 0)
+			return unique(new Iff(right, left));
+		return unique(new Iff(left, right));
+	}
+
+	/**
+	 * Flattens, sorts and rebuilds a chain of the associative operator {@code op}.
+	 */
+	private static StateFormula chain(byte op, StateFormula left, StateFormula right) {
+		List<StateFormula> operands = new ArrayList<>();
+		ArrayDeque<StateFormula> pending = new ArrayDeque<>();
+		pending.push(right);
+		pending.push(left);
+		while (!pending.isEmpty()) {
+			StateFormula operand = pending.pop();
+			if (operand.opcode() == op) {
+				pending.push((StateFormula) operand.getChild(1));
+				pending.push((StateFormula) operand.getChild(0));
+			} else {
+				operands.add(intern(operand));
+			}
+		}
+		operands.sort(FormulaOrder.INSTANCE);
+		StateFormula result = operands.get(operands.size() - 1);
+		for (int i = operands.size() - 2; i >= 0; i--)
+			result = unique(op == FormulaArena.AND ? new And(operands.get(i), result) : new Or(operands.get(i), result));
+		return result;
+	}
+
+	/**
+	 * Returns the canonical formula of the same kind as {@code form} whose direct
+	 * sub-formulas are {@code children}, in the order of {@link Formula#getChild(int)}.
+	 * @param	form		The formula whose operator is kept
+	 * @param	children	The new sub-formulas, one per sub-formula of {@code form}
+	 * @return	The interned formula with the given sub-formulas
+	 * @throws	IllegalArgumentException	If the number or kind of the sub-formulas does not fit {@code form}
+	 */
+	public static Formula withChildren(Formula form, Formula... children) {
+		if (children.length != form.getChildCount())
+			throw new IllegalArgumentException(form.getClass().getSimpleName() + " takes " + form.getChildCount()
+					+ " sub-formulas, not " + children.length);
+		Formula[] interned = new Formula[children.length];
+		for (int i = 0; i < children.length; i++)
+			interned[i] = intern(children[i]);
+		byte op = form.opcode();
+		if (canonicalOrdering && (op == FormulaArena.AND || op == FormulaArena.OR || op == FormulaArena.IFF))
+			return canonical(form, interned);
+		return unique(copy(form, interned));
+	}
+
+	/**
+	 * Returns the canonical instance of a formula that may have been built
+	 * with the public constructors. Sub-formulas are interned bottom-up without
+	 * recursion, and nodes whose sub-formulas were already canonical are reused
+	 * rather than copied.
+	 * @param	form	The {@code Formula} to be interned
+	 * @return	The interned formula that is structurally equal to {@code form}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Formula> T intern(T form) {
+		if (form == null || form.interned)
+			return form;
+		if (form.getChildCount() == 0)
+			return unique(form);
+		Map<Formula, Formula> done = new IdentityHashMap<>();
+		List<Formula> results = new ArrayList<>();
+		Formula[] nodes = new Formula[16];
+		int[] positions = new int[16];
+		int top = 0;
+		nodes[0] = form;
+		while (top >= 0) {
+			Formula node = nodes[top];
+			int position = positions[top];
+			int count = node.getChildCount();
+			if (position < count) {
+				positions[top] = position + 1;
+				Formula child = node.getChild(position);
+				Formula known = child == null || child.interned ? child : done.get(child);
+				if (known != null || child == null) {
+					results.add(known);
+					continue;
+				}
+				if (++top == nodes.length) {
+					nodes = Arrays.copyOf(nodes, top * 2);
+					positions = Arrays.copyOf(positions, top * 2);
+				}
+				nodes[top] = child;
+				positions[top] = 0;
+				continue;
+			}
+			List<Formula> last = results.subList(results.size() - count, results.size());
+			Formula[] children = last.toArray(new Formula[count]);
+			last.clear();
+			Formula shared = unique(copy(node, children));
+			done.put(node, shared);
+			results.add(shared);
+			nodes[top--] = null;
+		}
+		return (T) results.get(0);
+	}
+
+	/**
+	 * Returns a formula of the same kind as {@code form} with the given
+	 * sub-formulas. The result is interned if {@code form} is, and is built
+	 * with the constructors otherwise, so that editing a formula never has to
+	 * intern the parts of it that did not change.
+	 * @throws	IllegalArgumentException	If the number or kind of the sub-formulas does not fit {@code form}
+	 */
+	static Formula rebuild(Formula form, Formula[] children) {
+		if (children.length != form.getChildCount())
+			throw new IllegalArgumentException(form.getClass().getSimpleName() + " takes " + form.getChildCount()
+					+ " sub-formulas, not " + children.length);
+		return form.interned ? withChildren(form, children) : copy(form, children);
+	}
+
+	/**
+	 * Returns a formula of the same kind as {@code form} with the given
+	 * sub-formulas, or {@code form} itself if they are the ones it already has.
+	 */
+	private static Formula copy(Formula form, Formula[] children) {
+		boolean same = true;
+		for (int i = 0; i < children.length; i++)
+			same &= children[i] == form.getChild(i);
+		if (same)
+			return form;
+		try {
+			return form.accept(new Copier(children));
+		} catch (ClassCastException e) {
+			throw new IllegalArgumentException("Sub-formulas of the wrong kind for " + form.getClass().getSimpleName(), e);
+		}
+	}
+
+	/**
+	 * Builds a commutative node in canonical order, rejecting sub-formulas that
+	 * are not state formulas as {@link #copy} does.
+	 */
+	private static Formula canonical(Formula form, Formula[] children) {
+		if (!(children[0] instanceof StateFormula) || !(children[1] instanceof StateFormula))
+			throw new IllegalArgumentException("Sub-formulas of the wrong kind for " + form.getClass().getSimpleName());
+		StateFormula left = (StateFormula) children[0];
+		StateFormula right = (StateFormula) children[1];
+		byte op = form.opcode();
+		return op == FormulaArena.IFF ? canonicalIff(left, right) : chain(op, left, right);
+	}
+
+	/**
+	 * Builds a fresh node of the visited type from the given sub-formulas.
+	 */
+	private static final class Copier extends FormulaBaseVisitor<Formula> {
+
+		private final Formula[] children;
+
+		Copier(Formula[] children) {
+			this.children = children;
+		}
+
+		private StateFormula state(int index) {
+			return (StateFormula) children[index];
+		}
+
+		@Override
+		protected Formula visitFormula(Formula form) {
+			return form;
+		}
+
+		@Override
+		public Formula visitNot(Not form) {
+			return new Not(state(0));
+		}
+
+		@Override
+		public Formula visitAnd(And form) {
+			return new And(state(0), state(1));
+		}
+
+		@Override
+		public Formula visitOr(Or form) {
+			return new Or(state(0), state(1));
+		}
+
+		@Override
+		public Formula visitImplies(Implies form) {
+			return new Implies(state(0), state(1));
+		}
+
+		@Override
+		public Formula visitIff(Iff form) {
+			return new Iff(state(0), state(1));
+		}
+
+		@Override
+		public Formula visitForAll(ForAll form) {
+			return new ForAll((PathFormula) children[0]);
+		}
+
+		@Override
+		public Formula visitExists(Exists form) {
+			return new Exists((PathFormula) children[0]);
+		}
+
+		@Override
+		public Formula visitNext(Next form) {
+			return new Next(state(0));
+		}
+
+		@Override
+		public Formula visitAlways(Always form) {
+			return new Always(state(0));
+		}
+
+		@Override
+		public Formula visitEventually(Eventually form) {
+			return new Eventually(state(0));
+		}
+
+		@Override
+		public Formula visitUntil(Until form) {
+			return new Until(state(0), state(1));
+		}
+
+		@Override
+		public Formula visitWeakUntil(WeakUntil form) {
+			return new WeakUntil(state(0), state(1));
+		}
+
+		@Override
+		public Formula visitRelease(Release form) {
+			return new Release(state(0), state(1));
+		}
+	}
+
+	/**
+	 * Returns the number of distinct formulas currently held by the intern table.
+	 * @return	The number of live interned formulas
+	 */
+	public static int size() {
+		expungeStaleEntries();
+		return TABLE.size();
+	}
+
+	/**
+	 * Returns the number of nodes that were requested from this factory.
+	 * @return	The number of intern lookups since the last reset
+	 */
+	public static long lookups() {
+		return LOOKUPS.sum();
+	}
+
+	/**
+	 * Returns the number of requested nodes that were answered with an
+	 * already existing shared instance instead of a new one.
+	 * @return	The number of intern hits since the last reset
+	 */
+	public static long hits() {
+		return HITS.sum();
+	}
+
+	/**
+	 * Returns the fraction of requested nodes that were shared.
+	 * @return	A value between 0 and 1, or 0 if nothing was requested yet
+	 */
+	public static double sharingRatio() {
+		long lookups = lookups();
+		return lookups == 0 ? 0 : (double) hits() / lookups;
+	}
+
+	/**
+	 * Returns how many times larger a translated formula is than the formula
+	 * it was translated from, using the sizes cached on both formulas.
+	 * @param	form		The formula before translation
+	 * @param	translated	The formula after translation
+	 * @return	{@code translated.size() / form.size()}
+	 */
+	public static double blowupFactor(Formula form, Formula translated) {
+		return (double) translated.size() / form.size();
+	}
+
+	/**
+	 * Returns how many times more distinct nodes a translated formula has than
+	 * the formula it was translated from. Unlike {@link #blowupFactor}, a
+	 * sub-formula that the translation shares is counted once.
+	 * @param	form		The formula before translation
+	 * @param	translated	The formula after translation
+	 * @return	{@code translated.dagSize() / form.dagSize()}
+	 */
+	public static double dagBlowupFactor(Formula form, Formula translated) {
+		return (double) translated.dagSize() / form.dagSize();
+	}
+
+	/**
+	 * Resets the lookup and hit counters. The interned formulas are kept.
+	 */
+	public static void resetStatistics() {
+		LOOKUPS.reset();
+		HITS.reset();
+	}
+
+	/**
+	 * Returns the canonical instance that is shaped like {@code candidate}, whose
+	 * sub-formulas must already be interned. The candidate itself becomes the
+	 * canonical instance if no equal formula is in the table yet.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T extends Formula> T unique(T candidate) {
+		expungeStaleEntries();
+		LOOKUPS.increment();
+		Probe probe = new Probe(candidate);
+		while (true) {
+			Entry existing = TABLE.get(probe);
+			if (existing == null) {
+				Entry entry = new Entry(candidate, probe.hash);
+				existing = TABLE.putIfAbsent(entry, entry);
+				if (existing == null) {
+					candidate.interned = true;
+					return candidate;
+				}
+			}
+			Formula shared = existing.get();
+			if (shared != null) {
+				HITS.increment();
+				return (T) shared;
+			}
+			TABLE.remove(existing, existing);
+		}
+	}
+
+	/**
+	 * Removes the entries of formulas that have been garbage collected.
+	 */
+	private static void expungeStaleEntries() {
+		Reference<? extends Formula> ref;
+		while ((ref = QUEUE.poll()) != null)
+			TABLE.remove(ref, ref);
+	}
+
+	/**
+	 * Computes a hash code from the class of a formula and the identities of its
+	 * direct sub-formulas, which are interned and therefore canonical.
+	 */
+	private static int shallowHash(Formula form) {
+		final int prime = 31;
+		int result = form.getClass().hashCode();
+		int count = form.getChildCount();
+		if (count == 0)
+			return prime * result + form.hashCode();
+		for (int i = 0; i < count; i++)
+			result = prime * result + System.identityHashCode(form.getChild(i));
+		return result;
+	}
+
+	/**
+	 * Checks if two formulas have the same class and the very same direct
+	 * sub-formulas.
+	 */
+	private static boolean sameShape(Formula a, Formula b) {
+		if (a.getClass() != b.getClass())
+			return false;
+		int count = a.getChildCount();
+		if (count == 0)
+			return a.equals(b);
+		for (int i = 0; i < count; i++)
+			if (a.getChild(i) != b.getChild(i))
+				return false;
+		return true;
+	}
+
+	/**
+	 * A weakly held entry of the intern table. It keeps the shallow hash of its
+	 * formula so that it can still be located after the formula was collected.
+	 */
+	private static final class Entry extends WeakReference<Formula> {
+
+		final int hash;
+
+		Entry(Formula form, int hash) {
+			super(form, QUEUE);
+			this.hash = hash;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			Formula form = get();
+			Formula other = obj instanceof Entry ? ((Entry) obj).get() : obj instanceof Probe ? ((Probe) obj).form : null;
+			return form != null && other != null && sameShape(form, other);
+		}
+	}
+
+	/**
+	 * A strongly held lookup key for a formula that is not interned yet.
+	 */
+	private static final class Probe {
+
+		final Formula form;
+		final int hash;
+
+		Probe(Formula form) {
+			this.form = form;
+			this.hash = shallowHash(form);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (obj instanceof Entry) {
+				Formula other = ((Entry) obj).get();
+				return other != null && sameShape(form, other);
+			}
+			return obj instanceof Probe && sameShape(form, ((Probe) obj).form);
+		}
+	}
+}
@@ -95,12 +95,12 @@ public class Generator extends CTLBaseVisitor<Formula> {
 
 	/**
 	 * Visits an AtomicProposition terminal node in the parse tree.
-	 * @return	An {@code AtomicProposition} instance containing a string representation
-	 * 			of an atomic proposition as defined by the grammar
+	 * @return	An {@code AtomicProposition} instance holding the {@link PropositionTable}
+	 * 			id of an atomic proposition as defined by the grammar
 	 */
 	@Override
 	public Formula visitAtomicProposition(AtomicPropositionContext ctx) {
-		return new AtomicProposition(ctx.ATOMIC_PROPOSITION().toString());
+		return new AtomicProposition(ctx.ATOMIC_PROPOSITION().getText());
 	}
 
 	/**
@@ -203,6 +203,54 @@ public class Generator extends CTLBaseVisitor<Formula> {
 		return new Exists(new Next(inner));
 	}
 
+	/**
+	 * Visits the left and right subformula nodes of a ForAllWeakUntil node in the parse tree. 
+	 * @return	A {@code ForAll} instance of a {@code WeakUntil} instance containing the 
+	 * 			left and right subformulas
+	 */
+	@Override
+	public Formula visitForAllWeakUntil(ForAllWeakUntilContext ctx) {
+		StateFormula left = (StateFormula) visit(ctx.formula(0));
+		StateFormula right = (StateFormula) visit(ctx.formula(1));
+		return new ForAll(new WeakUntil(left, right));
+	}
+
+	/**
+	 * Visits the left and right subformula nodes of an ExistsWeakUntil node in the parse tree. 
+	 * @return	An {@code Exists} instance of a {@code WeakUntil} instance containing the
+	 * 			left and right subformulas
+	 */
+	@Override
+	public Formula visitExistsWeakUntil(ExistsWeakUntilContext ctx) {
+		StateFormula left = (StateFormula) visit(ctx.formula(0));
+		StateFormula right = (StateFormula) visit(ctx.formula(1));
+		return new Exists(new WeakUntil(left, right));
+	}
+
+	/**
+	 * Visits the left and right subformula nodes of a ForAllRelease node in the parse tree. 
+	 * @return	A {@code ForAll} instance of a {@code Release} instance containing the 
+	 * 			left and right subformulas
+	 */
+	@Override
+	public Formula visitForAllRelease(ForAllReleaseContext ctx) {
+		StateFormula left = (StateFormula) visit(ctx.formula(0));
+		StateFormula right = (StateFormula) visit(ctx.formula(1));
+		return new ForAll(new Release(left, right));
+	}
+
+	/**
+	 * Visits the left and right subformula nodes of an ExistsRelease node in the parse tree. 
+	 * @return	An {@code Exists} instance of a {@code Release} instance containing the
+	 * 			left and right subformulas
+	 */
+	@Override
+	public Formula visitExistsRelease(ExistsReleaseContext ctx) {
+		StateFormula left = (StateFormula) visit(ctx.formula(0));
+		StateFormula right = (StateFormula) visit(ctx.formula(1));
+		return new Exists(new Release(left, right));
+	}
+
 
 
 
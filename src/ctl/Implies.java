@@ -8,8 +8,9 @@ package ctl;
 
 public class Implies extends StateFormula {
 
-	StateFormula left;
-	StateFormula right;
+	final StateFormula left;
+	final StateFormula right;
+	private final int hash;	// cached at construction, see computeHashCode()
 	
 	/**
 	 * Initializes the {@code left} and {@code right} sub-formulas to the state
@@ -18,8 +19,10 @@ public class Implies extends StateFormula {
 	 * @param	right	The right sub-formula	 * 
 	 */
 	public Implies(StateFormula left, StateFormula right) {
+		super(left, right);
 		this.left = left;
 		this.right = right;
+		this.hash = computeHashCode();
 	}
 
 	/**
@@ -38,25 +41,29 @@ public class Implies extends StateFormula {
 		if (getClass() != obj.getClass())
 			return false;
 		Implies other = (Implies) obj;
-		if (left == null) {
-			if (other.left != null)
-				return false;
-		} else if (!left.equals(other.left))
+		if (interned && other.interned)
 			return false;
-		if (right == null) {
-			if (other.right != null)
-				return false;
-		} else if (!right.equals(other.right))
+		if (hash != other.hash)
 			return false;
-		return true;
+		return FormulaEquality.equal(this, other);
 	}
 
 	/**
-	 * Returns the {@code hashCode} of this <i>Implies</i> formula.
+	 * Returns the {@code hashCode} of this <i>Implies</i> formula. It is computed
+	 * once when the formula is created, so this call takes constant time.
 	 * @return	An integer value representing this object's {@code hashCode}
 	 */
 	@Override
 	public int hashCode() {
+		return hash;
+	}
+
+	/**
+	 * Computes the {@code hashCode} of this <i>Implies</i> formula from the cached
+	 * hash codes of its sub-formulas.
+	 * @return	An integer value representing this object's {@code hashCode}
+	 */
+	private int computeHashCode() {
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + ((left == null) ? 0 : left.hashCode());
@@ -71,7 +78,67 @@ public class Implies extends StateFormula {
 	 */
 	@Override
 	public String toString() {
-		return "(" + left.toString() + ")->(" + right.toString() + ")";
+		return FormulaPrinter.print(this);
+	}
+
+	/**
+	 * Returns the number of direct sub-formulas of this <i>Implies</i> formula.
+	 * @return	Always 2, for the {@code left} and {@code right} sub-formulas
+	 */
+	@Override
+	public int getChildCount() {
+		return 2;
+	}
+
+	/**
+	 * Returns the {@code left} or {@code right} sub-formula of this <i>Implies</i> formula.
+	 * @param	index	0 for the {@code left} and 1 for the {@code right} sub-formula
+	 * @return	The sub-formula at {@code index}
+	 */
+	@Override
+	public StateFormula getChild(int index) {
+		switch (index) {
+		case 0:
+			return left;
+		case 1:
+			return right;
+		default:
+			throw new IndexOutOfBoundsException("Index: " + index);
+		}
+	}
+
+	/**
+	 * Returns the text printed around the {@code left} and {@code right} sub-formulas.
+	 */
+	@Override
+	String token(int index) {
+		switch (index) {
+		case 0:
+			return "(";
+		case 1:
+			return ")->(";
+		default:
+			return ")";
+		}
+	}
+
+	/**
+	 * Returns the opcode of <i>Implies</i> formulas.
+	 * @return	{@link FormulaArena#IMPLIES}
+	 */
+	@Override
+	public byte opcode() {
+		return FormulaArena.IMPLIES;
+	}
+
+	/**
+	 * Accepts a visitor by calling its method for <i>Implies</i> formulas.
+	 * @param	visitor		The visitor of this formula
+	 * @return	The result of {@code visitor.visitImplies(this)}
+	 */
+	@Override
+	public <R> R accept(StateFormulaVisitor<R> visitor) {
+		return visitor.visitImplies(this);
 	}
 	
 	/**
@@ -81,7 +148,7 @@ public class Implies extends StateFormula {
 	 */
 	@Override
 	public StateFormula existentialNormalForm() {
-		return new Implies(left.existentialNormalForm(), right.existentialNormalForm());
+		return Formulas.implies(left.existentialNormalForm(), right.existentialNormalForm());
 	}
 	
 	/**
@@ -91,6 +158,6 @@ public class Implies extends StateFormula {
 	 */
 	@Override
 	public StateFormula positiveNormalForm() {
-		return new Implies(left.positiveNormalForm(), right.positiveNormalForm());
+		return Formulas.implies(left.positiveNormalForm(), right.positiveNormalForm());
 	}
 }
@@ -0,0 +1,172 @@
+package ctl;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import parser.CTLLexer;
+import parser.CTLParser;
+import parser.CTLParser.AtomicPropositionContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ *
+ * This class prints formulas with their shared sub-formulas written once, and
+ * parses them back. Every composite state formula that is a sub-formula of
+ * more than one node is bound to a name in a line
+ * {@code let <name> = <formula> in} before the line of the formula itself,
+ * and every later line refers to it by name. Formulas are written as by
+ * {@link Formula#toCompactString()}. The names are made of a prefix that no
+ * proposition of the formula starts with, such as {@code let.x}, and a
+ * number. They are only text: printing and parsing never register them as
+ * atomic propositions. The text is as long as the DAG of the formula
+ * is large, while {@link Formula#toString()} writes out the whole tree.
+ *
+ */
+
+public final class LetFormat {
+
+	private static final String LET = "let ";
+	private static final String BE = " = ";
+	private static final String IN = " in";
+
+	private LetFormat() {}
+
+	/**
+	 * Returns the representation of {@code form} with its shared sub-formulas
+	 * written once.
+	 * @param	form	The {@code Formula} to be printed
+	 * @return	The bindings of the shared sub-formulas, one per line, followed
+	 * 			by the formula itself
+	 */
+	public static String print(Formula form) {
+		StringBuilder out = new StringBuilder();
+		try {
+			print(form, out);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);	// a StringBuilder never throws
+		}
+		return out.toString();
+	}
+
+	/**
+	 * Writes the representation of {@code form} with its shared sub-formulas
+	 * written once to {@code out}.
+	 * @param	form	The {@code Formula} to be printed
+	 * @param	out		The destination of the printed formula
+	 * @throws	IOException	If {@code out} fails to accept the text
+	 */
+	public static void print(Formula form, Appendable out) throws IOException {
+		Map<Formula, Integer> uses = uses(form);
+		String prefix = prefix(form);
+		Map<Formula, String> names = new IdentityHashMap<>();
+		Set<Formula> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		ArrayDeque<Formula> pending = new ArrayDeque<>();
+		ArrayDeque<Integer> positions = new ArrayDeque<>();
+		pending.push(form);
+		positions.push(0);
+		while (!pending.isEmpty()) {	// binds the shared sub-formulas after their own sub-formulas
+			Formula node = pending.peek();
+			int position = positions.pop();
+			if (position < node.getChildCount()) {
+				positions.push(position + 1);
+				Formula child = node.getChild(position);
+				if (visited.add(child)) {
+					pending.push(child);
+					positions.push(0);
+				}
+				continue;
+			}
+			pending.pop();
+			if (node instanceof StateFormula && node.getChildCount() > 0 && uses.getOrDefault(node, 0) >= 2) {
+				String name = prefix + (names.size() + 1);
+				out.append(LET).append(name).append(BE);
+				CompactPrinter.print(node, out, names);
+				out.append(IN).append('\n');
+				names.put(node, name);
+			}
+		}
+		CompactPrinter.print(form, out, names);
+	}
+
+	/**
+	 * Parses a formula printed by {@link #print(Formula)}. Every use of a name
+	 * is replaced by the same instance of the formula bound to it, and the
+	 * result is interned, so it is built in time proportional to the text and
+	 * shares its sub-formulas like the printed formula did.
+	 * @param	text	The printed bindings and formula
+	 * @return	The parsed and interned {@code Formula}
+	 * @throws	IllegalArgumentException	If a binding line is malformed
+	 */
+	public static Formula parse(String text) {
+		Map<String, Formula> bindings = new HashMap<>();
+		Generator generator = new Generator() {
+			@Override
+			public Formula visitAtomicProposition(AtomicPropositionContext ctx) {
+				Formula bound = bindings.get(ctx.ATOMIC_PROPOSITION().getText());
+				return bound != null ? bound : super.visitAtomicProposition(ctx);
+			}
+		};
+		String[] lines = text.split("\n");
+		StringBuilder body = new StringBuilder();
+		for (String line : lines) {
+			if (body.length() == 0 && line.startsWith(LET)) {
+				int equals = line.indexOf(BE);
+				if (equals < 0 || !line.endsWith(IN))
+					throw new IllegalArgumentException("Malformed binding: " + line);
+				String name = line.substring(LET.length(), equals);
+				String formula = line.substring(equals + BE.length(), line.length() - IN.length());
+				bindings.put(name, parseFormula(formula, generator));
+			} else {
+				body.append(line).append('\n');
+			}
+		}
+		return Formulas.intern(parseFormula(body.toString(), generator));
+	}
+
+	/**
+	 * Counts, for every distinct node of {@code form}, the distinct nodes
+	 * whose sub-formula it is.
+	 */
+	private static Map<Formula, Integer> uses(Formula form) {
+		Map<Formula, Integer> uses = new IdentityHashMap<>();
+		ArrayDeque<Formula> pending = new ArrayDeque<>();
+		uses.put(form, 0);
+		pending.push(form);
+		while (!pending.isEmpty()) {
+			Formula node = pending.pop();
+			for (int i = 0; i < node.getChildCount(); i++) {
+				Formula child = node.getChild(i);
+				if (uses.merge(child, 1, Integer::sum) == 1)
+					pending.push(child);
+			}
+		}
+		return uses;
+	}
+
+	/**
+	 * Returns a prefix for the names of the bindings that no proposition of
+	 * {@code form} starts with.
+	 */
+	private static String prefix(Formula form) {
+		String prefix = "let.x";
+		while (true) {
+			String candidate = prefix;
+			if (form.subformulas(true).noneMatch(node -> node instanceof AtomicProposition
+					&& ((AtomicProposition) node).getName().startsWith(candidate)))
+				return prefix;
+			prefix = "let." + prefix;
+		}
+	}
+
+	private static Formula parseFormula(String text, Generator generator) {
+		CTLParser parser = new CTLParser(new CommonTokenStream(new CTLLexer(CharStreams.fromString(text))));
+		return generator.visit(parser.root());
+	}
+}
@@ -8,7 +8,8 @@ package ctl;
 
 public class Next extends PathFormula {
 
-	public StateFormula inner;	// the inner StateFormula that this Next Pathformula refers to
+	public final StateFormula inner;	// the inner StateFormula that this Next Pathformula refers to
+	private final int hash;	// cached at construction, see computeHashCode()
 	
 	/**
 	 * Initializes the {@code inner} formula to the <i>StateFormula</i>
@@ -16,7 +17,9 @@ public class Next extends PathFormula {
 	 * @param	formula		A state formula
 	 */
 	public Next(StateFormula formula) {
+		super(formula, null);
 		this.inner = formula;
+		this.hash = computeHashCode();
 	}
 
 	/**
@@ -35,20 +38,29 @@ public class Next extends PathFormula {
 		if (getClass() != obj.getClass())
 			return false;
 		Next other = (Next) obj;
-		if (inner == null) {
-			if (other.inner != null)
-				return false;
-		} else if (!inner.equals(other.inner))
+		if (interned && other.interned)
 			return false;
-		return true;
+		if (hash != other.hash)
+			return false;
+		return FormulaEquality.equal(this, other);
 	}
 
 	/**
-	 * Returns the {@code hashCode} of this <i>Next</i> formula.
+	 * Returns the {@code hashCode} of this <i>Next</i> formula. It is computed
+	 * once when the formula is created, so this call takes constant time.
 	 * @return	An integer value representing this object's {@code hashCode}
 	 */
 	@Override
 	public int hashCode() {
+		return hash;
+	}
+
+	/**
+	 * Computes the {@code hashCode} of this <i>Next</i> formula from the cached
+	 * hash codes of its sub-formulas.
+	 * @return	An integer value representing this object's {@code hashCode}
+	 */
+	private int computeHashCode() {
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + ((inner == null) ? 0 : inner.hashCode());
@@ -62,7 +74,55 @@ public class Next extends PathFormula {
 	 */
 	@Override
 	public String toString() {
-		return "X(" + inner.toString() + ")";
+		return FormulaPrinter.print(this);
+	}
+
+	/**
+	 * Returns the number of direct sub-formulas of this <i>Next</i> formula.
+	 * @return	Always 1, for the {@code inner} formula
+	 */
+	@Override
+	public int getChildCount() {
+		return 1;
+	}
+
+	/**
+	 * Returns the {@code inner} formula of this <i>Next</i> formula.
+	 * @param	index	Must be 0
+	 * @return	The {@code inner} formula
+	 */
+	@Override
+	public StateFormula getChild(int index) {
+		if (index != 0)
+			throw new IndexOutOfBoundsException("Index: " + index);
+		return inner;
+	}
+
+	/**
+	 * Returns the text printed before and after the {@code inner} formula.
+	 */
+	@Override
+	String token(int index) {
+		return index == 0 ? "X(" : ")";
+	}
+
+	/**
+	 * Returns the opcode of <i>Next</i> formulas.
+	 * @return	{@link FormulaArena#NEXT}
+	 */
+	@Override
+	public byte opcode() {
+		return FormulaArena.NEXT;
+	}
+
+	/**
+	 * Accepts a visitor by calling its method for <i>Next</i> formulas.
+	 * @param	visitor		The visitor of this formula
+	 * @return	The result of {@code visitor.visitNext(this)}
+	 */
+	@Override
+	public <R> R accept(PathFormulaVisitor<R> visitor) {
+		return visitor.visitNext(this);
 	}
 	
 	/**
@@ -71,7 +131,7 @@ public class Next extends PathFormula {
 	 */
 	@Override
 	public PathFormula existentialNormalForm() {
-		return new Next(inner.existentialNormalForm());
+		return Formulas.next(inner.existentialNormalForm());
 	}
 	
 	/**
@@ -80,6 +140,6 @@ public class Next extends PathFormula {
 	 */
 	@Override
 	public PathFormula positiveNormalForm() {
-		return new Next(inner.positiveNormalForm());
+		return Formulas.next(inner.positiveNormalForm());
 	}
 }
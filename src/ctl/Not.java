@@ -8,7 +8,8 @@ package ctl;
 
 public class Not extends StateFormula {
 
-	public StateFormula inner;	// the inner StateFormula that is being negated
+	public final StateFormula inner;	// the inner StateFormula that is being negated
+	private final int hash;	// cached at construction, see computeHashCode()
 	
 	/**
 	 * Initializes the {@code inner} formula to the <i>StateFormula</i>
@@ -16,7 +17,9 @@ public class Not extends StateFormula {
 	 * @param	formula		A state formula
 	 */
 	public Not(StateFormula formula) {
+		super(formula, null);
 		this.inner = formula;
+		this.hash = computeHashCode();
 	}
 
 	/**
@@ -35,20 +38,29 @@ public class Not extends StateFormula {
 		if (getClass() != obj.getClass())
 			return false;
 		Not other = (Not) obj;
-		if (inner == null) {
-			if (other.inner != null)
-				return false;
-		} else if (!inner.equals(other.inner))
+		if (interned && other.interned)
 			return false;
-		return true;
+		if (hash != other.hash)
+			return false;
+		return FormulaEquality.equal(this, other);
 	}
 
 	/**
-	 * Returns the {@code hashCode} of this <i>Not</i> formula.
+	 * Returns the {@code hashCode} of this <i>Not</i> formula. It is computed
+	 * once when the formula is created, so this call takes constant time.
 	 * @return	An integer value representing this object's {@code hashCode}
 	 */
 	@Override
 	public int hashCode() {
+		return hash;
+	}
+
+	/**
+	 * Computes the {@code hashCode} of this <i>Not</i> formula from the cached
+	 * hash codes of its sub-formulas.
+	 * @return	An integer value representing this object's {@code hashCode}
+	 */
+	private int computeHashCode() {
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + ((inner == null) ? 0 : inner.hashCode());
@@ -62,7 +74,55 @@ public class Not extends StateFormula {
 	 */
 	@Override
 	public String toString() {
-		return "!(" + inner.toString() + ")";
+		return FormulaPrinter.print(this);
+	}
+
+	/**
+	 * Returns the number of direct sub-formulas of this <i>Not</i> formula.
+	 * @return	Always 1, for the {@code inner} formula
+	 */
+	@Override
+	public int getChildCount() {
+		return 1;
+	}
+
+	/**
+	 * Returns the {@code inner} formula of this <i>Not</i> formula.
+	 * @param	index	Must be 0
+	 * @return	The {@code inner} formula
+	 */
+	@Override
+	public StateFormula getChild(int index) {
+		if (index != 0)
+			throw new IndexOutOfBoundsException("Index: " + index);
+		return inner;
+	}
+
+	/**
+	 * Returns the text printed before and after the {@code inner} formula.
+	 */
+	@Override
+	String token(int index) {
+		return index == 0 ? "!(" : ")";
+	}
+
+	/**
+	 * Returns the opcode of <i>Not</i> formulas.
+	 * @return	{@link FormulaArena#NOT}
+	 */
+	@Override
+	public byte opcode() {
+		return FormulaArena.NOT;
+	}
+
+	/**
+	 * Accepts a visitor by calling its method for <i>Not</i> formulas.
+	 * @param	visitor		The visitor of this formula
+	 * @return	The result of {@code visitor.visitNot(this)}
+	 */
+	@Override
+	public <R> R accept(StateFormulaVisitor<R> visitor) {
+		return visitor.visitNot(this);
 	}
 	
 	/**
@@ -71,7 +131,7 @@ public class Not extends StateFormula {
 	 */
 	@Override
 	public StateFormula existentialNormalForm() {
-		return new Not(inner.existentialNormalForm());
+		return Formulas.not(inner.existentialNormalForm());
 	}
 	
 
@@ -82,111 +142,99 @@ public class Not extends StateFormula {
 	 */
 	@Override
 	public StateFormula positiveNormalForm() {
-		if(inner instanceof True){ 
-			return new False();
-		} if(inner instanceof False){
-			return new True();
-		} if(inner instanceof Not){ 
-			Not curr = (Not) inner;
-			return curr.inner.positiveNormalForm();
-		}
-		if(inner instanceof And){
-
-			And curr = (And) inner;
-			StateFormula left = new Not(curr.left.positiveNormalForm());
-			StateFormula right = new Not(curr.right.positiveNormalForm());
-
-			
-			return new Or(left.positiveNormalForm(), right.positiveNormalForm());
-
-		} if(inner instanceof ForAll){
-			ForAll curr = (ForAll) inner;
-
-			if(curr.getInner() != null){
-
-				
-				if(curr.getInner() instanceof Next){
-
-					Next last = (Next) curr.getInner();
-
-					StateFormula innerNot = new Not(last.inner.positiveNormalForm());
-
-					
-					return new Exists(new Next(innerNot.positiveNormalForm()));
-
-
-				}
-				
-				else if(curr.getInner() instanceof Until){
-
-					Until last = (Until) curr.getInner();
-					StateFormula left = last.left;
-					StateFormula right = last.right;
-
-					
-					StateFormula leftTranslated = left.positiveNormalForm();
-					StateFormula rightTranslated = right.positiveNormalForm();
-
-					StateFormula innerRightPart = new Not(rightTranslated);
-
-					StateFormula innerRightPartTranslated = innerRightPart.positiveNormalForm();
-					
-					StateFormula leftInsideBracket = new And(leftTranslated, innerRightPartTranslated);
-
-					StateFormula leftInnerPart = new Not(leftTranslated);
-
-					StateFormula leftInRightBracketTranslated = leftInnerPart.positiveNormalForm();
-
-					StateFormula rightInsideBracket = new And(leftInRightBracketTranslated, innerRightPartTranslated);
-
-					return new Exists(new WeakUntil(leftInsideBracket,rightInsideBracket));
+		return inner.accept(NEGATION);
+	}
 
-				}
-			}
-		} if(inner instanceof Exists){
-			Exists curr = (Exists) inner;
+	/**
+	 * Selects the duality law for the {@code inner} StateFormula of a <i>Not</i>
+	 * with a single call. Formulas without a duality law keep the negation.
+	 * The laws negate the original sub-formulas rather than their translations,
+	 * so every sub-formula is translated once for each polarity it occurs in.
+	 */
+	private static final StateFormulaVisitor<StateFormula> NEGATION = new FormulaBaseVisitor<StateFormula>() {
 
-			if(curr.getInner() != null){
+		@Override
+		protected StateFormula visitFormula(Formula form) {
+			return Formulas.not((StateFormula) form.positiveNormalForm());
+		}
 
-				if(curr.getInner() instanceof Next){
+		@Override
+		public StateFormula visitTrue(True form) {
+			return Formulas.FALSE;
+		}
 
-					Next last = (Next) curr.getInner();
+		@Override
+		public StateFormula visitFalse(False form) {
+			return Formulas.TRUE;
+		}
 
-					StateFormula innerNot = new Not(last.inner.positiveNormalForm());
+		@Override
+		public StateFormula visitNot(Not form) {
+			return form.inner.positiveNormalForm();
+		}
 
-					StateFormula innerNotTranslated = innerNot.positiveNormalForm();
+		@Override
+		public StateFormula visitAnd(And form) {
+			return Formulas.or(form.left.accept(NEGATION), form.right.accept(NEGATION));
+		}
 
-					return new ForAll(new Next(innerNotTranslated));
+		@Override
+		public StateFormula visitForAll(ForAll form) {
+			PathFormula dual = form.getInner().accept(NEGATED_PATH);
+			return dual == null ? visitFormula(form) : Formulas.exists(dual);
+		}
 
-				}
-				else if(curr.getInner() instanceof Until){
+		@Override
+		public StateFormula visitExists(Exists form) {
+			PathFormula dual = form.getInner().accept(NEGATED_PATH);
+			return dual == null ? visitFormula(form) : Formulas.forAll(dual);
+		}
+	};
 
-					Until last = (Until) curr.getInner();
-					StateFormula left = last.left;
-					StateFormula right = last.right;
+	/**
+	 * Returns the negated PathFormula under the dual path quantifier, or
+	 * {@code null} if there is no duality law for the path operator.
+	 */
+	private static final PathFormulaVisitor<PathFormula> NEGATED_PATH = new FormulaBaseVisitor<PathFormula>() {
 
-					StateFormula leftTranslated = left.positiveNormalForm();
+		@Override
+		protected PathFormula visitFormula(Formula form) {
+			return null;
+		}
 
-					StateFormula rightTranslated = right.positiveNormalForm();
+		@Override
+		public PathFormula visitNext(Next last) {
+			return Formulas.next(last.inner.accept(NEGATION));
+		}
 
-					StateFormula innerRightPart = new Not(rightTranslated);
+		@Override
+		public PathFormula visitEventually(Eventually last) {
+			return Formulas.always(last.inner.accept(NEGATION));
+		}
 
-					StateFormula innerRightPartTranslated = innerRightPart.positiveNormalForm();
+		@Override
+		public PathFormula visitAlways(Always last) {
+			return Formulas.eventually(last.inner.accept(NEGATION));
+		}
 
-					StateFormula leftInsideBracket = new And(leftTranslated, innerRightPartTranslated);
+		@Override
+		public PathFormula visitUntil(Until last) {
+			StateFormula leftTranslated = last.left.positiveNormalForm();
 
-					StateFormula leftInnerPart = new Not(leftTranslated);
+			StateFormula innerRightPartTranslated = last.right.accept(NEGATION);
 
-					StateFormula leftInRightBracketTranslated = leftInnerPart.positiveNormalForm();
+			StateFormula leftInsideBracket = Formulas.and(leftTranslated, innerRightPartTranslated);
 
-					StateFormula rightInsideBracket = new And(leftInRightBracketTranslated, innerRightPartTranslated);
+			StateFormula leftInRightBracketTranslated = last.left.accept(NEGATION);
 
-					return new ForAll(new WeakUntil(leftInsideBracket,rightInsideBracket));
+			StateFormula rightInsideBracket = Formulas.and(leftInRightBracketTranslated, innerRightPartTranslated);
 
-				}
-			}
+			return Formulas.weakUntil(leftInsideBracket, rightInsideBracket);
 		}
 
-		return new Not(inner.positiveNormalForm());
-	}
+		@Override
+		public PathFormula visitRelease(Release last) {
+			return Formulas.until(last.left.accept(NEGATION), last.right.accept(NEGATION));
+		}
+	};
 }
@@ -10,7 +10,32 @@ public abstract class PathFormula extends Formula {
 
 	public PathFormula() {}
 
+	/**
+	 * Measures this formula from its sub-formulas, see {@link Formula#size()}.
+	 */
+	PathFormula(Formula left, Formula right) {
+		super(left, right);
+	}
+
+
 
 	public abstract PathFormula existentialNormalForm();
 	public abstract PathFormula positiveNormalForm();
+
+	/**
+	 * Accepts a visitor by calling its method for the type of this formula.
+	 * @param	visitor		The visitor of this formula
+	 * @return	The result of the visitor for this formula
+	 */
+	public abstract <R> R accept(PathFormulaVisitor<R> visitor);
+
+	/**
+	 * Accepts a visitor of all formulas as a visitor of path formulas.
+	 * @param	visitor		The visitor of this formula
+	 * @return	The result of the visitor for this formula
+	 */
+	@Override
+	public final <R> R accept(FormulaVisitor<R> visitor) {
+		return accept((PathFormulaVisitor<R>) visitor);
+	}
 }
@@ -0,0 +1,55 @@
+package ctl;
+
+/**
+ *
+ * This interface defines a visitor over the path formulas of CTL, e.g. to
+ * select the rule for the path formula below a <i>ForAll</i> or <i>Exists</i>.
+ *
+ * @param <R>	The result type of the visit operation
+ *
+ */
+
+public interface PathFormulaVisitor<R> {
+
+	/**
+	 * Visits a <i>Next</i> formula.
+	 * @param	form	The visited formula
+	 * @return	The result of this visitor for {@code form}
+	 */
+	R visitNext(Next form);
+
+	/**
+	 * Visits a <i>Until</i> formula.
+	 * @param	form	The visited formula
+	 * @return	The result of this visitor for {@code form}
+	 */
+	R visitUntil(Until form);
+
+	/**
+	 * Visits a <i>WeakUntil</i> formula.
+	 * @param	form	The visited formula
+	 * @return	The result of this visitor for {@code form}
+	 */
+	R visitWeakUntil(WeakUntil form);
+
+	/**
+	 * Visits a <i>Release</i> formula.
+	 * @param	form	The visited formula
+	 * @return	The result of this visitor for {@code form}
+	 */
+	R visitRelease(Release form);
+
+	/**
+	 * Visits a <i>Always</i> formula.
+	 * @param	form	The visited formula
+	 * @return	The result of this visitor for {@code form}
+	 */
+	R visitAlways(Always form);
+
+	/**
+	 * Visits a <i>Eventually</i> formula.
+	 * @param	form	The visited formula
+	 * @return	The result of this visitor for {@code form}
+	 */
+	R visitEventually(Eventually form);
+}
@@ -0,0 +1,79 @@
+package ctl;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ *
+ * This class maps the names of atomic propositions to dense {@code int} ids,
+ * starting at 0 in the order the names are first seen. Each distinct name is
+ * stored once, and ids are never reused, so an id identifies the same name
+ * for the lifetime of the program. The table is safe for concurrent use.
+ *
+ */
+
+public final class PropositionTable {
+
+	private static final ConcurrentHashMap<String, Integer> IDS = new ConcurrentHashMap<>();
+	private static final Object LOCK = new Object();
+
+	private static volatile String[] names = new String[64];
+	private static int count;	// guarded by LOCK
+
+	private PropositionTable() {}
+
+	/**
+	 * Returns the id of the given name, assigning the next free id if the name
+	 * has not been seen before.
+	 * @param	name	The name of an atomic proposition
+	 * @return	The id of {@code name}
+	 * @throws	NullPointerException	If {@code name} is null
+	 */
+	public static int id(String name) {
+		Integer id = IDS.get(name);
+		if (id != null)
+			return id;
+		synchronized (LOCK) {
+			id = IDS.get(name);
+			if (id != null)
+				return id;
+			String[] current = names;
+			if (count == current.length)
+				names = current = Arrays.copyOf(current, count * 2);
+			current[count] = name;
+			IDS.put(name, count);	// publishes the name stored above
+			return count++;
+		}
+	}
+
+	/**
+	 * Returns the id of the given name without assigning one.
+	 * @param	name	The name of an atomic proposition
+	 * @return	The id of {@code name}, or -1 if it has not been seen
+	 */
+	public static int indexOf(String name) {
+		Integer id = IDS.get(name);
+		return id == null ? -1 : id;
+	}
+
+	/**
+	 * Returns the name that was given the id.
+	 * @param	id		An id returned by {@link #id(String)}
+	 * @return	The name of the atomic proposition
+	 * @throws	IndexOutOfBoundsException	If no name has that id
+	 */
+	public static String name(int id) {
+		String[] current = names;
+		if (id < 0 || id >= current.length || current[id] == null)
+			throw new IndexOutOfBoundsException("Id: " + id + ", Size: " + size());
+		return current[id];
+	}
+
+	/**
+	 * Returns the number of distinct names, which is one more than the largest id.
+	 * @return	The number of names in the table
+	 */
+	public static int size() {
+		return IDS.size();
+	}
+}
@@ -0,0 +1,166 @@
+package ctl;
+
+/**
+ *
+ * This class represents a path formula that is a release of two state
+ * formulas: the right formula holds up to and including the first state
+ * where the left formula holds, or forever. It is the dual of <i>Until</i>,
+ * {@code !(l U r)} being {@code !l R !r}.
+ *
+ */
+public class Release extends PathFormula {
+
+    public final StateFormula left;
+    public final StateFormula right;
+    private final int hash;	// cached at construction, see computeHashCode()
+
+    /**
+     * Initializes the {@code left} and {@code right} sub-formulas to the state
+     * formulas provided to this constructor.
+     * @param	left	The left sub-formula
+     * @param	right	The right sub-formula	 *
+     */
+    public Release(StateFormula left, StateFormula right) {
+        super(left, right);
+        this.left = left;
+        this.right = right;
+        this.hash = computeHashCode();
+    }
+
+    /**
+     * Checks if this Formula is equal another object. The checks adhere to the
+     * Equals contract in Java.
+     * @param	obj		The other object that this Formula is being compared to.
+     * @return	Returns <i>true</i> if the two objects are equal, and <i>false</i>
+     * 			if otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        Release other = (Release) obj;
+        if (interned && other.interned)
+            return false;
+        if (hash != other.hash)
+            return false;
+        return FormulaEquality.equal(this, other);
+    }
+
+    /**
+     * Returns the {@code hashCode} of this <i>Release</i> formula. It is computed
+     * once when the formula is created, so this call takes constant time.
+     * @return	An integer value representing this object's {@code hashCode}
+     */
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Computes the {@code hashCode} of this <i>Release</i> formula from the cached
+     * hash codes of its sub-formulas.
+     * @return	An integer value representing this object's {@code hashCode}
+     */
+    private int computeHashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((left == null) ? 0 : left.hashCode());
+        result = prime * result + ((right == null) ? 0 : right.hashCode());
+        return result;
+    }
+
+    /**
+     * Returns a string representation of this <i>Release</i> formula.
+     * @return A pretty print version of this formula. The {@code left} and
+     * 		   {@code right} sub-formulas are each enclosed in brackets.
+     */
+    @Override
+    public String toString() {
+        return FormulaPrinter.print(this);
+    }
+
+    /**
+     * Returns the number of direct sub-formulas of this <i>Release</i> formula.
+     * @return	Always 2, for the {@code left} and {@code right} sub-formulas
+     */
+    @Override
+    public int getChildCount() {
+        return 2;
+    }
+
+    /**
+     * Returns the {@code left} or {@code right} sub-formula of this <i>Release</i> formula.
+     * @param	index	0 for the {@code left} and 1 for the {@code right} sub-formula
+     * @return	The sub-formula at {@code index}
+     */
+    @Override
+    public StateFormula getChild(int index) {
+        switch (index) {
+        case 0:
+            return left;
+        case 1:
+            return right;
+        default:
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
+
+    /**
+     * Returns the text printed around the {@code left} and {@code right} sub-formulas.
+     */
+    @Override
+    String token(int index) {
+        switch (index) {
+        case 0:
+            return "(";
+        case 1:
+            return ")R(";
+        default:
+            return ")";
+        }
+    }
+
+    /**
+     * Returns the opcode of <i>Release</i> formulas.
+     * @return	{@link FormulaArena#RELEASE}
+     */
+    @Override
+    public byte opcode() {
+        return FormulaArena.RELEASE;
+    }
+
+    /**
+     * Accepts a visitor by calling its method for <i>Release</i> formulas.
+     * @param	visitor		The visitor of this formula
+     * @return	The result of {@code visitor.visitRelease(this)}
+     */
+    @Override
+    public <R> R accept(PathFormulaVisitor<R> visitor) {
+        return visitor.visitRelease(this);
+    }
+
+    
+    /**
+	 * Returns a {@code PathFormula} for the existential normal form of <i>Release</i> by taking the
+	 * existential normal form of the {@code left} and {@code right}.
+	 * @return {@code PathFormula} with translated CTL of <i>Release</i> in existential normal form.
+	 */
+    @Override
+    public PathFormula existentialNormalForm() {
+        return Formulas.release(left.existentialNormalForm(), right.existentialNormalForm());
+    }
+    
+    /**
+	 * Returns a {@code PathFormula} for the positive normal form of <i>Release</i> by taking the
+	 * positive normal form of the {@code left} and {@code right}.
+	 * @return {@code PathFormula} with translated CTL of <i>Release</i> in positive normal form.
+	 */
+    @Override
+    public PathFormula positiveNormalForm() {
+        return Formulas.release(left.positiveNormalForm(), right.positiveNormalForm());
+    }
+}
@@ -9,7 +9,38 @@ package ctl;
 public abstract class StateFormula extends Formula {
 
 	public StateFormula() {}
+
+	/**
+	 * Measures this formula from its sub-formulas, see {@link Formula#size()}.
+	 */
+	StateFormula(Formula left, Formula right) {
+		super(left, right);
+	}
+
+	/**
+	 * Measures an atomic proposition, see {@link Formula#size()}.
+	 */
+	StateFormula(String name) {
+		super(name);
+	}
+
 	public abstract StateFormula existentialNormalForm();
 	public abstract StateFormula positiveNormalForm();
-	
+
+	/**
+	 * Accepts a visitor by calling its method for the type of this formula.
+	 * @param	visitor		The visitor of this formula
+	 * @return	The result of the visitor for this formula
+	 */
+	public abstract <R> R accept(StateFormulaVisitor<R> visitor);
+
+	/**
+	 * Accepts a visitor of all formulas as a visitor of state formulas.
+	 * @param	visitor		The visitor of this formula
+	 * @return	The result of the visitor for this formula
+	 */
+	@Override
+	public final <R> R accept(FormulaVisitor<R> visitor) {
+		return accept((StateFormulaVisitor<R>) visitor);
+	}
 }
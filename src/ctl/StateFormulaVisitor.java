@@ -0,0 +1,85 @@
+package ctl;
+
+/**
+ *
+ * This interface defines a visitor over the state formulas of CTL. Each state
+ * formula class calls the method for its own type in {@code accept}, so a
+ * pass can select its rule with a single virtual call instead of a chain of
+ * {@code instanceof} tests.
+ *
+ * @param <R>	The result type of the visit operation
+ *
+ */
+
+public interface StateFormulaVisitor<R> {
+
+	/**
+	 * Visits a <i>True</i> formula.
+	 * @param	form	The visited formula
+	 * @return	The result of this visitor for {@code form}
+	 */
+	R visitTrue(True form);
+
+	/**
+	 * Visits a <i>False</i> formula.
+	 * @param	form	The visited formula
+	 * @return	The result of this visitor for {@code form}
+	 */
+	R visitFalse(False form);
+
+	/**
+	 * Visits a <i>AtomicProposition</i> formula.
+	 * @param	form	The visited formula
+	 * @return	The result of this visitor for {@code form}
+	 */
+	R visitAtomicProposition(AtomicProposition form);
+
+	/**
+	 * Visits a <i>Not</i> formula.
+	 * @param	form	The visited formula
+	 * @return	The result of this visitor for {@code form}
+	 */
+	R visitNot(Not form);
+
+	/**
+	 * Visits a <i>And</i> formula.
+	 * @param	form	The visited formula
+	 * @return	The result of this visitor for {@code form}
+	 */
+	R visitAnd(And form);
+
+	/**
+	 * Visits a <i>Or</i> formula.
+	 * @param	form	The visited formula
+	 * @return	The result of this visitor for {@code form}
+	 */
+	R visitOr(Or form);
+
+	/**
+	 * Visits a <i>Implies</i> formula.
+	 * @param	form	The visited formula
+	 * @return	The result of this visitor for {@code form}
+	 */
+	R visitImplies(Implies form);
+
+	/**
+	 * Visits a <i>Iff</i> formula.
+	 * @param	form	The visited formula
+	 * @return	The result of this visitor for {@code form}
+	 */
+	R visitIff(Iff form);
+
+	/**
+	 * Visits a <i>ForAll</i> formula.
+	 * @param	form	The visited formula
+	 * @return	The result of this visitor for {@code form}
+	 */
+	R visitForAll(ForAll form);
+
+	/**
+	 * Visits a <i>Exists</i> formula.
+	 * @param	form	The visited formula
+	 * @return	The result of this visitor for {@code form}
+	 */
+	R visitExists(Exists form);
+}
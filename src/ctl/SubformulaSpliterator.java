@@ -0,0 +1,147 @@
+package ctl;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ *
+ * This class walks the sub-formulas of a formula in pre-order, from the left,
+ * with an explicit stack. Split-off parts are visited last by a sequential
+ * walk, so the spliterator does not report an encounter order. It splits at
+ * binary nodes: the right sub-formula of the first binary node, looking down
+ * through at most {@value #UNARY_LOOKAHEAD} unary nodes, is handed to the new
+ * spliterator, and this spliterator keeps the nodes above it and the left
+ * sub-formula. In distinct mode, all the spliterators split from one another
+ * share a concurrent set of the visited nodes, so a shared node and its
+ * sub-formulas are visited once.
+ *
+ */
+
+final class SubformulaSpliterator implements Spliterator<Formula> {
+
+	private static final int UNARY_LOOKAHEAD = 64;	// unary nodes searched for a binary node to split at
+
+	private Formula[] nodes = new Formula[16];
+	private boolean[] expand = new boolean[16];	// false for nodes whose sub-formulas are visited elsewhere
+	private int base;	// index of the entry visited last, which is the one split off
+	private int top = -1;
+	private final Set<Key> visited;	// null unless only distinct nodes are visited
+
+	/**
+	 * Creates a spliterator over {@code root} and all its sub-formulas.
+	 * @param	root		The first formula visited
+	 * @param	distinct	Whether a node reachable along several paths is visited once
+	 */
+	SubformulaSpliterator(Formula root, boolean distinct) {
+		this(root, distinct ? ConcurrentHashMap.newKeySet() : null);
+	}
+
+	private SubformulaSpliterator(Formula root, Set<Key> visited) {
+		this.visited = visited;
+		push(root, true);
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super Formula> action) {
+		while (top >= base) {
+			Formula node = nodes[top];
+			boolean children = expand[top];
+			nodes[top--] = null;
+			if (visited != null && !visited.add(new Key(node)))
+				continue;
+			if (children)
+				for (int i = node.getChildCount() - 1; i >= 0; i--)
+					push(node.getChild(i), true);
+			action.accept(node);
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super Formula> action) {
+		while (tryAdvance(action)) {
+			// every step is done by tryAdvance
+		}
+	}
+
+	@Override
+	public Spliterator<Formula> trySplit() {
+		if (top > base && expand[base]) {
+			Formula last = nodes[base];
+			nodes[base++] = null;
+			return new SubformulaSpliterator(last, visited);
+		}
+		if (top != base || !expand[top])
+			return null;
+		Formula binary = nodes[top];
+		int depth = 0;
+		while (binary.getChildCount() == 1 && depth < UNARY_LOOKAHEAD) {
+			binary = binary.getChild(0);
+			depth++;
+		}
+		if (binary.getChildCount() != 2)
+			return null;
+		Formula node = nodes[top--];
+		push(binary.getChild(0), true);
+		Formula[] chain = new Formula[depth + 1];
+		for (int i = 0; i <= depth; i++, node = node.getChild(0))
+			chain[i] = node;
+		for (int i = depth; i >= 0; i--)
+			push(chain[i], false);	// the root is pushed last, so it is still visited first
+		return new SubformulaSpliterator(binary.getChild(1), visited);
+	}
+
+	@Override
+	public long estimateSize() {
+		long size = 0;
+		for (int i = base; i <= top; i++) {
+			size += expand[i] ? nodes[i].size() : 1;
+			if (size < 0)
+				return Long.MAX_VALUE;
+		}
+		return size;
+	}
+
+	@Override
+	public int characteristics() {
+		int characteristics = NONNULL | IMMUTABLE;
+		if (visited == null && estimateSize() < Long.MAX_VALUE)
+			characteristics |= SIZED | SUBSIZED;
+		return characteristics;
+	}
+
+	private void push(Formula node, boolean children) {
+		if (++top == nodes.length) {
+			nodes = Arrays.copyOf(nodes, top * 2);
+			expand = Arrays.copyOf(expand, top * 2);
+		}
+		nodes[top] = node;
+		expand[top] = children;
+	}
+
+	/**
+	 * Compares formulas by identity in the shared set of visited nodes.
+	 */
+	private static final class Key {
+
+		private final Formula node;
+
+		Key(Formula node) {
+			this.node = node;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Key && ((Key) obj).node == node;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(node);
+		}
+	}
+}
@@ -7,8 +7,9 @@ package ctl;
  */
 public class Until extends PathFormula {
 
-	public StateFormula left;
-	public StateFormula right;
+	public final StateFormula left;
+	public final StateFormula right;
+	private final int hash;	// cached at construction, see computeHashCode()
 	
 	/**
 	 * Initializes the {@code left} and {@code right} sub-formulas to the state
@@ -17,8 +18,10 @@ public class Until extends PathFormula {
 	 * @param	right	The right sub-formula	 * 
 	 */
 	public Until(StateFormula left, StateFormula right) {
+		super(left, right);
 		this.left = left;
 		this.right = right;
+		this.hash = computeHashCode();
 	}
 
 	/**
@@ -37,25 +40,29 @@ public class Until extends PathFormula {
 		if (getClass() != obj.getClass())
 			return false;
 		Until other = (Until) obj;
-		if (left == null) {
-			if (other.left != null)
-				return false;
-		} else if (!left.equals(other.left))
+		if (interned && other.interned)
 			return false;
-		if (right == null) {
-			if (other.right != null)
-				return false;
-		} else if (!right.equals(other.right))
+		if (hash != other.hash)
 			return false;
-		return true;
+		return FormulaEquality.equal(this, other);
 	}
 
 	/**
-	 * Returns the {@code hashCode} of this <i>Until</i> formula.
+	 * Returns the {@code hashCode} of this <i>Until</i> formula. It is computed
+	 * once when the formula is created, so this call takes constant time.
 	 * @return	An integer value representing this object's {@code hashCode}
 	 */
 	@Override
 	public int hashCode() {
+		return hash;
+	}
+
+	/**
+	 * Computes the {@code hashCode} of this <i>Until</i> formula from the cached
+	 * hash codes of its sub-formulas.
+	 * @return	An integer value representing this object's {@code hashCode}
+	 */
+	private int computeHashCode() {
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + ((left == null) ? 0 : left.hashCode());
@@ -70,7 +77,67 @@ public class Until extends PathFormula {
 	 */
 	@Override
 	public String toString() {
-		return "(" + left.toString() + ")U(" + right.toString() + ")"; 
+		return FormulaPrinter.print(this);
+	}
+
+	/**
+	 * Returns the number of direct sub-formulas of this <i>Until</i> formula.
+	 * @return	Always 2, for the {@code left} and {@code right} sub-formulas
+	 */
+	@Override
+	public int getChildCount() {
+		return 2;
+	}
+
+	/**
+	 * Returns the {@code left} or {@code right} sub-formula of this <i>Until</i> formula.
+	 * @param	index	0 for the {@code left} and 1 for the {@code right} sub-formula
+	 * @return	The sub-formula at {@code index}
+	 */
+	@Override
+	public StateFormula getChild(int index) {
+		switch (index) {
+		case 0:
+			return left;
+		case 1:
+			return right;
+		default:
+			throw new IndexOutOfBoundsException("Index: " + index);
+		}
+	}
+
+	/**
+	 * Returns the text printed around the {@code left} and {@code right} sub-formulas.
+	 */
+	@Override
+	String token(int index) {
+		switch (index) {
+		case 0:
+			return "(";
+		case 1:
+			return ")U(";
+		default:
+			return ")";
+		}
+	}
+
+	/**
+	 * Returns the opcode of <i>Until</i> formulas.
+	 * @return	{@link FormulaArena#UNTIL}
+	 */
+	@Override
+	public byte opcode() {
+		return FormulaArena.UNTIL;
+	}
+
+	/**
+	 * Accepts a visitor by calling its method for <i>Until</i> formulas.
+	 * @param	visitor		The visitor of this formula
+	 * @return	The result of {@code visitor.visitUntil(this)}
+	 */
+	@Override
+	public <R> R accept(PathFormulaVisitor<R> visitor) {
+		return visitor.visitUntil(this);
 	}
 	
 	/**
@@ -80,7 +147,7 @@ public class Until extends PathFormula {
 	 */
 	@Override
 	public PathFormula existentialNormalForm() {
-		return new Until(left.existentialNormalForm(), right.existentialNormalForm());
+		return Formulas.until(left.existentialNormalForm(), right.existentialNormalForm());
 	}
 	
 	/**
@@ -90,6 +157,6 @@ public class Until extends PathFormula {
 	 */
 	@Override
 	public PathFormula positiveNormalForm() {
-		return new Until(left.positiveNormalForm(), right.positiveNormalForm());
+		return Formulas.until(left.positiveNormalForm(), right.positiveNormalForm());
 	}
 }
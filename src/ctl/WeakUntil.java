@@ -2,8 +2,9 @@ package ctl;
 
 public class WeakUntil extends PathFormula {
 
-    public StateFormula left;
-    public StateFormula right;
+    public final StateFormula left;
+    public final StateFormula right;
+    private final int hash;	// cached at construction, see computeHashCode()
 
     /**
      * Initializes the {@code left} and {@code right} sub-formulas to the state
@@ -12,8 +13,10 @@ public class WeakUntil extends PathFormula {
      * @param	right	The right sub-formula	 *
      */
     public WeakUntil(StateFormula left, StateFormula right) {
+        super(left, right);
         this.left = left;
         this.right = right;
+        this.hash = computeHashCode();
     }
 
     /**
@@ -32,25 +35,29 @@ public class WeakUntil extends PathFormula {
         if (getClass() != obj.getClass())
             return false;
         WeakUntil other = (WeakUntil) obj;
-        if (left == null) {
-            if (other.left != null)
-                return false;
-        } else if (!left.equals(other.left))
+        if (interned && other.interned)
             return false;
-        if (right == null) {
-            if (other.right != null)
-                return false;
-        } else if (!right.equals(other.right))
+        if (hash != other.hash)
             return false;
-        return true;
+        return FormulaEquality.equal(this, other);
     }
 
     /**
-     * Returns the {@code hashCode} of this <i>WeakUntil</i> formula.
+     * Returns the {@code hashCode} of this <i>WeakUntil</i> formula. It is computed
+     * once when the formula is created, so this call takes constant time.
      * @return	An integer value representing this object's {@code hashCode}
      */
     @Override
     public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Computes the {@code hashCode} of this <i>WeakUntil</i> formula from the cached
+     * hash codes of its sub-formulas.
+     * @return	An integer value representing this object's {@code hashCode}
+     */
+    private int computeHashCode() {
         final int prime = 31;
         int result = 1;
         result = prime * result + ((left == null) ? 0 : left.hashCode());
@@ -65,7 +72,67 @@ public class WeakUntil extends PathFormula {
      */
     @Override
     public String toString() {
-        return "(" + left.toString() + ")W(" + right.toString() + ")";
+        return FormulaPrinter.print(this);
+    }
+
+    /**
+     * Returns the number of direct sub-formulas of this <i>WeakUntil</i> formula.
+     * @return	Always 2, for the {@code left} and {@code right} sub-formulas
+     */
+    @Override
+    public int getChildCount() {
+        return 2;
+    }
+
+    /**
+     * Returns the {@code left} or {@code right} sub-formula of this <i>WeakUntil</i> formula.
+     * @param	index	0 for the {@code left} and 1 for the {@code right} sub-formula
+     * @return	The sub-formula at {@code index}
+     */
+    @Override
+    public StateFormula getChild(int index) {
+        switch (index) {
+        case 0:
+            return left;
+        case 1:
+            return right;
+        default:
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
+
+    /**
+     * Returns the text printed around the {@code left} and {@code right} sub-formulas.
+     */
+    @Override
+    String token(int index) {
+        switch (index) {
+        case 0:
+            return "(";
+        case 1:
+            return ")W(";
+        default:
+            return ")";
+        }
+    }
+
+    /**
+     * Returns the opcode of <i>WeakUntil</i> formulas.
+     * @return	{@link FormulaArena#WEAK_UNTIL}
+     */
+    @Override
+    public byte opcode() {
+        return FormulaArena.WEAK_UNTIL;
+    }
+
+    /**
+     * Accepts a visitor by calling its method for <i>WeakUntil</i> formulas.
+     * @param	visitor		The visitor of this formula
+     * @return	The result of {@code visitor.visitWeakUntil(this)}
+     */
+    @Override
+    public <R> R accept(PathFormulaVisitor<R> visitor) {
+        return visitor.visitWeakUntil(this);
     }
 
     
@@ -76,7 +143,7 @@ public class WeakUntil extends PathFormula {
 	 */
     @Override
     public PathFormula existentialNormalForm() {
-        return new WeakUntil(left.existentialNormalForm(), right.existentialNormalForm());
+        return Formulas.weakUntil(left.existentialNormalForm(), right.existentialNormalForm());
     }
     
     /**
@@ -86,6 +153,6 @@ public class WeakUntil extends PathFormula {
 	 */
     @Override
     public PathFormula positiveNormalForm() {
-        return new WeakUntil(left.positiveNormalForm(), right.positiveNormalForm());
+        return Formulas.weakUntil(left.positiveNormalForm(), right.positiveNormalForm());
     }
 }
@@ -0,0 +1,35 @@
+package ctlform;
+
+import ctl.Formula;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ *
+ * This class runs the batch translations of {@link ExistentialNormalForm} and
+ * {@link PositiveNormalForm}. The formulas of a batch are translated in
+ * parallel on a given pool and share one {@link TranslationMemo}, so a
+ * sub-formula that occurs in many of them is translated once per batch.
+ *
+ */
+
+final class BatchTranslation {
+
+	private BatchTranslation() {}
+
+	/**
+	 * Translates every formula of {@code forms} on {@code pool} and returns
+	 * the results in the order of the formulas.
+	 */
+	static List<Formula> translateAll(Stream<? extends Formula> forms, ForkJoinPool pool,
+			BiFunction<Formula, TranslationMemo, Formula> translation) {
+		TranslationMemo memo = new TranslationMemo();
+		return pool.submit(() -> forms.parallel()
+				.map(form -> translation.apply(form, memo))
+				.collect(Collectors.toList())).join();
+	}
+}
@@ -0,0 +1,143 @@
+package ctlform;
+
+import ctl.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *
+ * This class serves as the main class for bringing a formula into its
+ * canonical form, in which the operands of commutative operators are ordered.
+ * Chains of conjunctions and of disjunctions are flattened and rebuilt nested
+ * to the right with their operands sorted by {@link FormulaOrder}, and the
+ * two sides of every equivalence are sorted. Formulas that only differ in the
+ * arrangement of such operands have the same canonical form, which makes it
+ * a good key for caches and for removing duplicate specifications.
+ *
+ */
+
+public class Canonicalizer {
+
+	private static final byte TRANSLATE = 0;	// canonicalize the operand and push the result
+	private static final byte REBUILD = 1;		// rebuild the operand from its canonical sub-formulas
+	private static final byte CHAIN = 2;		// sort and rebuild the canonical operands of a chain
+	private static final byte STORE = 3;		// remember the top value as the canonical form of the operand
+
+	/**
+	 * Returns the canonical form of this formula. The result does not depend on
+	 * {@link Formulas#isCanonicalOrdering()}, and canonicalizing a canonical
+	 * formula returns it unchanged. A chain of {@code n} conjunctions or
+	 * disjunctions is sorted once, in {@code O(n log n)} comparisons. Every
+	 * distinct sub-formula object is canonicalized once and its canonical
+	 * form is shared, so shared sub-formulas are not walked again.
+	 * @param	form	The {@code Formula} to be canonicalized
+	 * @return	Returns the interned {@code Formula} in canonical form
+	 */
+	public static Formula canonicalize(Formula form) {
+		WorkStack stack = new WorkStack();
+		Map<Formula, Formula> done = new IdentityHashMap<>();		// canonical forms of the sub-formula objects met so far
+		Map<Formula, Integer> lengths = new IdentityHashMap<>();	// operand counts of the chains being sorted
+		stack.push(TRANSLATE, form);
+		while (stack.hasTasks()) {
+			byte op = stack.peekOp();
+			Formula node = stack.pop();
+			switch (op) {
+			case TRANSLATE:
+				Formula known = done.get(node);
+				if (known != null) {
+					stack.pushValue(known);
+					break;
+				}
+				if (node.getChildCount() > 0)
+					stack.push(STORE, node);
+				schedule(stack, node, lengths);
+				break;
+			case STORE:
+				done.put(node, stack.peekValue());
+				break;
+			case REBUILD:
+				stack.pushValue(rebuild(node, stack.popValues(node.getChildCount())));
+				break;
+			case CHAIN:
+				stack.pushValue(chain(node.opcode(), stack.popValues(lengths.remove(node))));
+				break;
+			}
+		}
+		return stack.popValue();
+	}
+
+	/**
+	 * Schedules the tasks that canonicalize {@code node}. The operands of a
+	 * whole chain are canonicalized before the chain is sorted, and their
+	 * number is kept in {@code lengths} until then.
+	 */
+	private static void schedule(WorkStack stack, Formula node, Map<Formula, Integer> lengths) {
+		if (node.getChildCount() == 0) {
+			stack.pushValue(Formulas.intern(node));
+			return;
+		}
+		byte op = node.opcode();
+		if (op == FormulaArena.AND || op == FormulaArena.OR) {
+			Formula[] operands = operands(node);
+			lengths.put(node, operands.length);
+			stack.push(CHAIN, node);
+			for (int i = operands.length - 1; i >= 0; i--)
+				stack.push(TRANSLATE, operands[i]);
+			return;
+		}
+		stack.push(REBUILD, node);
+		for (int i = node.getChildCount() - 1; i >= 0; i--)
+			stack.push(TRANSLATE, node.getChild(i));
+	}
+
+	/**
+	 * Returns the operands of the chain of conjunctions or disjunctions that
+	 * starts at {@code node}, from left to right.
+	 */
+	private static Formula[] operands(Formula node) {
+		byte op = node.opcode();
+		List<Formula> found = new ArrayList<>();
+		ArrayDeque<Formula> pending = new ArrayDeque<>();
+		pending.push(node);
+		while (!pending.isEmpty()) {
+			Formula operand = pending.pop();
+			if (operand.opcode() == op) {
+				pending.push(operand.getChild(1));
+				pending.push(operand.getChild(0));
+			} else {
+				found.add(operand);
+			}
+		}
+		return found.toArray(new Formula[0]);
+	}
+
+	/**
+	 * Sorts canonical operands and nests them to the right. The operands are
+	 * interned, so the chain only has to be interned node by node.
+	 */
+	private static Formula chain(byte op, Formula[] operands) {
+		Arrays.sort(operands, FormulaOrder.INSTANCE);
+		StateFormula result = (StateFormula) operands[operands.length - 1];
+		for (int i = operands.length - 2; i >= 0; i--) {
+			StateFormula operand = (StateFormula) operands[i];
+			result = Formulas.intern(op == FormulaArena.AND ? new And(operand, result) : new Or(operand, result));
+		}
+		return result;
+	}
+
+	/**
+	 * Rebuilds {@code node} from its canonical sub-formulas, ordering the two
+	 * sides of an equivalence.
+	 */
+	private static Formula rebuild(Formula node, Formula[] children) {
+		if (node.opcode() == FormulaArena.IFF)
+			return Formulas.canonicalIff((StateFormula) children[0], (StateFormula) children[1]);
+		return Formulas.withChildren(node, children);
+	}
+
+}
@@ -0,0 +1,155 @@
+package ctlform;
+
+import ctl.*;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ *
+ * This class holds the existential normal form of a formula in definitional
+ * form. The duality rule of {@code A(l U r)} uses the translated right
+ * formula three times, so nested universal untils triple the size of the
+ * plain translation with every level. Here every composite right formula is
+ * bound once to a fresh atomic proposition, named by a prefix that no
+ * proposition of the formula starts with and a number, and the translation
+ * refers to that proposition instead. The
+ * translation and all the definitions together grow linearly with the
+ * formula, and {@link #expand()} substitutes the definitions back.
+ *
+ */
+
+public final class DefinitionalNormalForm {
+
+	/**
+	 * The prefix of the names of the defined propositions. If a proposition of
+	 * the translated formula starts with it, as those of an earlier
+	 * definitional form do, it is repeated until none does.
+	 */
+	public static final String PREFIX = "def.";
+
+	private final Formula formula;
+	private final Map<AtomicProposition, StateFormula> definitions;
+
+	private DefinitionalNormalForm(Formula formula, Map<AtomicProposition, StateFormula> definitions) {
+		this.formula = formula;
+		this.definitions = Collections.unmodifiableMap(definitions);
+	}
+
+	/**
+	 * Translate this formula into its existential normal form in definitional
+	 * form. Expanding the result gives {@link ExistentialNormalForm#translate(Formula)}.
+	 * @param	form	The {@code Formula} to be translated into existential normal form.
+	 * @return	Returns the translation and the definitions it uses.
+	 */
+	public static DefinitionalNormalForm translate(Formula form) {
+		Map<Formula, AtomicProposition> names = new IdentityHashMap<>();	// the propositions defined for interned formulas
+		Map<AtomicProposition, StateFormula> definitions = new LinkedHashMap<>();
+		String prefix = prefix(form);
+		RewriteEngine engine = new RewriteEngine(
+				new RewriteRule("forall-next", FormulaArena.FORALL, FormulaArena.NEXT, node -> {
+					StateFormula inner = (StateFormula) node.getChild(0).getChild(0);
+					return Formulas.not(Formulas.exists(Formulas.next(Formulas.not(inner))));
+				}),
+				new RewriteRule("forall-until", FormulaArena.FORALL, FormulaArena.UNTIL, node -> {
+					StateFormula left = (StateFormula) node.getChild(0).getChild(0);
+					StateFormula right = define(names, definitions, prefix, (StateFormula) node.getChild(0).getChild(1));
+					StateFormula leftInnerAnd = Formulas.and(Formulas.not(left), Formulas.not(right));
+					StateFormula leftPart = Formulas.not(Formulas.exists(Formulas.until(Formulas.not(right), leftInnerAnd)));
+					StateFormula rightPart = Formulas.not(Formulas.exists(Formulas.always(Formulas.not(right))));
+					return Formulas.and(leftPart, rightPart);
+				}));
+		return new DefinitionalNormalForm(engine.rewrite(form), definitions);
+	}
+
+	/**
+	 * Returns a prefix for the names of the defined propositions that no
+	 * proposition of {@code form} starts with.
+	 */
+	private static String prefix(Formula form) {
+		String prefix = PREFIX;
+		while (true) {
+			String candidate = prefix;
+			if (form.subformulas(true).noneMatch(node -> node instanceof AtomicProposition
+					&& ((AtomicProposition) node).getName().startsWith(candidate)))
+				return prefix;
+			prefix = PREFIX + prefix;
+		}
+	}
+
+	/**
+	 * Returns the proposition defined as {@code body}, defining a fresh one
+	 * first if needed, or {@code body} itself if it is a leaf.
+	 */
+	private static StateFormula define(Map<Formula, AtomicProposition> names,
+			Map<AtomicProposition, StateFormula> definitions, String prefix, StateFormula body) {
+		if (body.getChildCount() == 0)
+			return body;
+		return names.computeIfAbsent(body, key -> {
+			AtomicProposition name = Formulas.atom(prefix + (definitions.size() + 1));
+			definitions.put(name, body);
+			return name;
+		});
+	}
+
+	/**
+	 * Returns the translation, in which the defined propositions stand for
+	 * their definitions.
+	 * @return	The translated {@code Formula}
+	 */
+	public Formula getFormula() {
+		return formula;
+	}
+
+	/**
+	 * Returns the definitions, in the order they were made. A definition
+	 * only refers to propositions defined before it.
+	 * @return	An unmodifiable map from the defined propositions to their definitions
+	 */
+	public Map<AtomicProposition, StateFormula> getDefinitions() {
+		return definitions;
+	}
+
+	/**
+	 * Returns the number of nodes of the translation and of all definitions,
+	 * counting every node once per occurrence.
+	 * @return	The size of the definitional form, saturating at {@code Long.MAX_VALUE}
+	 */
+	public long size() {
+		long size = formula.size();
+		for (StateFormula body : definitions.values()) {
+			size += body.size();
+			if (size < 0)
+				return Long.MAX_VALUE;
+		}
+		return size;
+	}
+
+	/**
+	 * Substitutes the definitions into the translation. The expanded formula
+	 * shares every definition wherever it is used, so it only has as many
+	 * distinct nodes as the definitional form, however large its tree is.
+	 * @return	The plain existential normal form, equal to
+	 * 			{@link ExistentialNormalForm#translate(Formula)} of the translated formula
+	 */
+	public Formula expand() {
+		Map<Formula, Formula> expanded = new IdentityHashMap<>();
+		for (Map.Entry<AtomicProposition, StateFormula> definition : definitions.entrySet())
+			expanded.put(definition.getKey(), substitute(definition.getValue(), expanded));
+		return substitute(formula, expanded);
+	}
+
+	private static Formula substitute(Formula form, Map<Formula, Formula> expanded) {
+		return form.map(node -> expanded.getOrDefault(node, node));
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder();
+		for (Map.Entry<AtomicProposition, StateFormula> definition : definitions.entrySet())
+			text.append(definition.getKey()).append(" := ").append(definition.getValue()).append('\n');
+		return text.append(formula).toString();
+	}
+}
@@ -1,9 +1,17 @@
 package ctlform;
 
-import ctl.Formula;
+import ctl.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 /**
- * 
+ *
  * This class serves as the main class for translating a formula into
  * its existential normal form
  *
@@ -11,14 +19,185 @@ import ctl.Formula;
 
 
 public class ExistentialNormalForm {
-	
+
+	/**
+	 * The duality rules of <i>ForAll</i>. They are applied to translated
+	 * sub-formulas, whose existential normal form is the formula itself, so
+	 * each rule fires once per universal formula.
+	 */
+	static final List<RewriteRule> RULES = Collections.unmodifiableList(Arrays.asList(
+			new RewriteRule("forall-next", FormulaArena.FORALL, FormulaArena.NEXT, form -> {
+				StateFormula inner = (StateFormula) form.getChild(0).getChild(0);
+				return Formulas.not(Formulas.exists(Formulas.next(Formulas.not(inner))));
+			}),
+			new RewriteRule("forall-until", FormulaArena.FORALL, FormulaArena.UNTIL, form -> {
+				StateFormula left = (StateFormula) form.getChild(0).getChild(0);
+				StateFormula right = (StateFormula) form.getChild(0).getChild(1);
+				StateFormula leftInnerAnd = Formulas.and(Formulas.not(left), Formulas.not(right));
+				StateFormula leftPart = Formulas.not(Formulas.exists(Formulas.until(Formulas.not(right), leftInnerAnd)));
+				StateFormula rightPart = Formulas.not(Formulas.exists(Formulas.always(Formulas.not(right))));
+				return Formulas.and(leftPart, rightPart);
+			})));
+
+	private static final RewriteEngine ENGINE = new RewriteEngine(RULES);
+
 	/**
-	 * Translate this formula into its existential normal form
+	 * Translate this formula into its existential normal form. The result is
+	 * the same as {@link Formula#existentialNormalForm()}, but the translation
+	 * keeps its own work stack, so formulas of any depth can be translated.
+	 * Every distinct sub-formula object is translated once and its translation
+	 * is shared, so the time and the DAG size of the result are linear in
+	 * {@link Formula#dagSize()}, even where the tree of the formula is
+	 * exponentially larger.
+	 * The growth of the result can be read with {@link Formulas#blowupFactor},
+	 * and oversized inputs can be rejected beforehand with {@link Formula#size()}.
+	 * With the {@link TranslationCache} on, repeated translations are answered
+	 * from it.
 	 * @param	form	The {@code Formula} to be translated into existential normal form.
 	 * @return	Returns a {@code Formula} in its existential normal form.
 	 */
 	public static Formula translate(Formula form) {
-		return form.existentialNormalForm();
+		Formula cached = TranslationCache.get(TranslationMemo.EXISTENTIAL, form);
+		if (cached != null)
+			return cached;
+		long start = System.nanoTime();
+		Formula translated = translate(form, (TranslationMemo) null);
+		TranslationCache.put(TranslationMemo.EXISTENTIAL, form, translated, System.nanoTime() - start);
+		return translated;
+	}
+
+	/**
+	 * Translate this formula into its existential normal form with {@code simplifier}
+	 * applied before and after the translation, so that constants and
+	 * redundant operators are neither translated nor left in the result.
+	 * Only the simplifications that keep the result in existential normal form
+	 * are applied: none that brings in {@code QF} or {@code QG}.
+	 * @param	form		The {@code Formula} to be translated into existential normal form.
+	 * @param	simplifier	The {@code Simplifier} applied to the formula and its translation
+	 * @return	Returns a simplified {@code Formula} in its existential normal form.
+	 */
+	public static Formula translate(Formula form, Simplifier simplifier) {
+		return simplifier.simplifyExistential(translate(simplifier.simplifyExistential(form)));
+	}
+
+	/**
+	 * Translate this formula into its existential normal form, looking up and
+	 * remembering the translations of its composite sub-formulas in
+	 * {@code memo}. After a small edit of a translated formula, only the
+	 * sub-formulas on the edited path are translated again.
+	 * @param	form	The {@code Formula} to be translated into existential normal form.
+	 * @param	memo	The translations of earlier sub-formulas, or {@code null} for none
+	 * @return	Returns a {@code Formula} in its existential normal form.
+	 */
+	public static Formula translate(Formula form, TranslationMemo memo) {
+		return translate(form, memo, true, null);
+	}
+
+	/**
+	 * Translate this formula into its existential normal form within the
+	 * budget of {@code options}. The nodes built are counted as they are
+	 * made, and the deadline and the cancellation flag are checked every
+	 * few sub-formulas, so an oversized or cancelled translation stops soon
+	 * after its budget is used up, whatever the size of the formula.
+	 * @param	form	The {@code Formula} to be translated into existential normal form.
+	 * @param	options	The budget of the translation
+	 * @return	Returns a {@code Formula} in its existential normal form.
+	 * @throws	TranslationAbortedException	If the budget is used up before the translation is done
+	 */
+	public static Formula translate(Formula form, TranslationOptions options) {
+		return translate(form, null, true, options);
+	}
+
+	/**
+	 * Translate this formula into its existential normal form on
+	 * {@code pool}, see {@link #translateParallel(Formula, ForkJoinPool)}.
+	 * @param	form	The {@code Formula} to be translated into existential normal form.
+	 * @return	Returns a {@code Formula} in its existential normal form.
+	 */
+	public static Formula translateParallel(Formula form) {
+		return translateParallel(form, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Translate this formula into its existential normal form on
+	 * {@code pool}. Wherever two sub-formulas are both large, they are
+	 * translated by separate tasks; formulas below the size threshold of
+	 * {@link ParallelTranslation} are translated by {@link #translate(Formula)}
+	 * on the calling thread, so small formulas cost no more than before.
+	 * @param	form	The {@code Formula} to be translated into existential normal form.
+	 * @param	pool	The pool that runs the tasks
+	 * @return	Returns a {@code Formula} in its existential normal form.
+	 */
+	public static Formula translateParallel(Formula form, ForkJoinPool pool) {
+		return ParallelTranslation.existential(form, pool);
+	}
+
+	/**
+	 * Translates {@code form}, looking up composite sub-formulas in
+	 * {@code memo} and, if {@code remember} holds, storing their translations,
+	 * within the budget of {@code options} unless it is {@code null}.
+	 */
+	static Formula translate(Formula form, TranslationMemo memo, boolean remember, TranslationOptions options) {
+		return ENGINE.rewrite(form, memo, TranslationMemo.EXISTENTIAL, remember, new TranslationBudget(options));
+	}
+
+	/**
+	 * Returns how often each duality rule fired in the translations so far.
+	 * @return	The number of firings since the last reset by rule name
+	 */
+	public static Map<String, Long> firings() {
+		return ENGINE.firings();
+	}
+
+	/**
+	 * Resets the firing counters of the duality rules.
+	 */
+	public static void resetStatistics() {
+		ENGINE.resetStatistics();
+	}
+
+	/**
+	 * Translate a batch of formulas into their existential normal forms on the
+	 * common pool. See {@link #translateAll(Stream, ForkJoinPool)}.
+	 * @param	forms	The formulas to be translated
+	 * @return	Returns the translations, in the order of {@code forms}.
+	 */
+	public static List<Formula> translateAll(Collection<? extends Formula> forms) {
+		return translateAll(forms.stream(), ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Translate a batch of formulas into their existential normal forms on the
+	 * common pool. See {@link #translateAll(Stream, ForkJoinPool)}.
+	 * @param	forms	The formulas to be translated
+	 * @return	Returns the translations, in the order of {@code forms}.
+	 */
+	public static List<Formula> translateAll(Stream<? extends Formula> forms) {
+		return translateAll(forms, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Translate a batch of formulas into their existential normal forms on
+	 * {@code pool}. See {@link #translateAll(Stream, ForkJoinPool)}.
+	 * @param	forms	The formulas to be translated
+	 * @param	pool	The pool that runs the translations
+	 * @return	Returns the translations, in the order of {@code forms}.
+	 */
+	public static List<Formula> translateAll(Collection<? extends Formula> forms, ForkJoinPool pool) {
+		return translateAll(forms.stream(), pool);
+	}
+
+	/**
+	 * Translate a batch of formulas into their existential normal forms on
+	 * {@code pool}. The formulas are translated in parallel and share one
+	 * {@link TranslationMemo}, so a sub-formula that occurs in several of
+	 * them is translated once for the whole batch.
+	 * @param	forms	The formulas to be translated
+	 * @param	pool	The pool that runs the translations
+	 * @return	Returns the translations, in the order of {@code forms}.
+	 */
+	public static List<Formula> translateAll(Stream<? extends Formula> forms, ForkJoinPool pool) {
+		return BatchTranslation.translateAll(forms, pool, ExistentialNormalForm::translate);
 	}
 
 }
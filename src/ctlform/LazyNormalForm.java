@@ -0,0 +1,402 @@
+package ctlform;
+
+import ctl.*;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ *
+ * This class is a view of the normal form of a formula that is translated
+ * on demand. Asking a view for its operator or its sub-formulas only works
+ * out the top node of the translation, by the same rules as
+ * {@link ExistentialNormalForm#translate(Formula)} and
+ * {@link PositiveNormalForm#translate(Formula)}, and the sub-formulas are
+ * again views. A caller that inspects one branch of a huge formula only pays
+ * for that branch. {@link #toFormula()} builds the whole translation, which
+ * is equal to the one of the eager translators, and all the views of one
+ * translation share a {@link TranslationMemo}, so parts that were already
+ * built are not translated again. They also share one view per sub-formula
+ * object and polarity, so inspecting a formula with shared sub-formulas
+ * walks its DAG rather than its tree. Views can be used by several threads.
+ * <p>
+ * The sub-formulas of a view appear in the order the translation rules build
+ * them. With {@link Formulas#isCanonicalOrdering()} on, the built formula
+ * may order the operands of commutative operators differently.
+ *
+ */
+
+public final class LazyNormalForm {
+
+	private static final byte EXISTENTIAL = 0;	// the existential normal form of the source
+	private static final byte POSITIVE = 1;		// the positive normal form of the source
+	private static final byte NEGATIVE = 2;		// the positive normal form of the negated source
+	private static final byte BUILT = 3;		// a node made by a translation rule, with known sub-formulas
+
+	private static final LazyNormalForm[] NONE = new LazyNormalForm[0];
+
+	private final TranslationMemo memo;
+	private final Map<Source, LazyNormalForm> views;	// the views of the translation by source and polarity
+	private final Formula source;		// the formula translated, or null for built nodes
+	private final byte kind;
+	private byte opcode;
+	private Formula leaf;				// the translation of a leaf, or null
+	private LazyNormalForm[] children;	// null until the top node is worked out
+	private volatile Formula translated;
+
+	private LazyNormalForm(TranslationMemo memo, Map<Source, LazyNormalForm> views, Formula source, byte kind) {
+		this.memo = memo;
+		this.views = views;
+		this.source = source;
+		this.kind = kind;
+	}
+
+	private LazyNormalForm(TranslationMemo memo, Map<Source, LazyNormalForm> views, byte opcode, LazyNormalForm... children) {
+		this(memo, views, null, BUILT);
+		this.opcode = opcode;
+		this.children = children;
+	}
+
+	/**
+	 * Returns a view of the existential normal form of {@code form}. Nothing
+	 * is translated until the view is inspected.
+	 * @param	form	The {@code Formula} to be translated into existential normal form
+	 * @return	A view of {@code ExistentialNormalForm.translate(form)}
+	 */
+	public static LazyNormalForm existential(Formula form) {
+		return root(form, EXISTENTIAL);
+	}
+
+	/**
+	 * Returns a view of the positive normal form of {@code form}. Nothing is
+	 * translated until the view is inspected.
+	 * @param	form	The {@code Formula} to be translated into positive normal form
+	 * @return	A view of {@code PositiveNormalForm.translate(form)}
+	 */
+	public static LazyNormalForm positive(Formula form) {
+		return root(form, POSITIVE);
+	}
+
+	/**
+	 * Returns the view of a new translation of {@code form}, with its own memo
+	 * and views.
+	 */
+	private static LazyNormalForm root(Formula form, byte kind) {
+		Map<Source, LazyNormalForm> views = new ConcurrentHashMap<>();
+		LazyNormalForm view = new LazyNormalForm(new TranslationMemo(), views, form, kind);
+		views.put(new Source(form, kind), view);
+		return view;
+	}
+
+	/**
+	 * Returns the opcode of the top node of the translation.
+	 * @return	One of the opcodes of {@link FormulaArena}
+	 */
+	public byte opcode() {
+		expand();
+		return opcode;
+	}
+
+	/**
+	 * Returns the number of direct sub-formulas of the translation.
+	 * @return	0 for constants and atomic propositions, and 1 or 2 otherwise
+	 */
+	public int getChildCount() {
+		expand();
+		return children.length;
+	}
+
+	/**
+	 * Returns a view of the direct sub-formula at the given position.
+	 * @param	index	A position between 0 and {@code getChildCount() - 1}
+	 * @return	The view of the sub-formula at {@code index}
+	 * @throws	IndexOutOfBoundsException	If there is no sub-formula at {@code index}
+	 */
+	public LazyNormalForm getChild(int index) {
+		expand();
+		if (index < 0 || index >= children.length)
+			throw new IndexOutOfBoundsException("Index: " + index);
+		return children[index];
+	}
+
+	/**
+	 * Checks if the top node of the translation has been worked out.
+	 * @return	Returns <i>true</i> if this view has been inspected or built,
+	 * 			and <i>false</i> if otherwise.
+	 */
+	public boolean isExpanded() {
+		synchronized (this) {
+			return children != null;
+		}
+	}
+
+	/**
+	 * Returns the whole translation. It is built once, from the translations
+	 * of the views inspected so far and with the eager translators for the
+	 * rest, and then kept.
+	 * @return	The {@code Formula} this view stands for
+	 */
+	public Formula toFormula() {
+		Formula result = translated;
+		if (result != null)
+			return result;
+		ArrayDeque<LazyNormalForm> pending = new ArrayDeque<>();
+		pending.push(this);
+		while (!pending.isEmpty()) {
+			LazyNormalForm view = pending.peek();
+			if (view.translated != null) {
+				pending.pop();
+				continue;
+			}
+			LazyNormalForm[] parts;
+			synchronized (view) {
+				parts = view.children;
+			}
+			if (parts == null) {
+				view.translated = view.translateSource();
+				pending.pop();
+				continue;
+			}
+			boolean ready = true;
+			for (int i = parts.length - 1; i >= 0; i--) {
+				if (parts[i].translated == null) {
+					pending.push(parts[i]);
+					ready = false;
+				}
+			}
+			if (ready) {
+				view.translated = view.build();
+				pending.pop();
+			}
+		}
+		return translated;
+	}
+
+	/**
+	 * Returns the string representation of the whole translation.
+	 */
+	@Override
+	public String toString() {
+		return toFormula().toString();
+	}
+
+	/**
+	 * Translates the source of a view that was never inspected with the eager
+	 * translators.
+	 */
+	private Formula translateSource() {
+		switch (kind) {
+		case EXISTENTIAL:
+			return ExistentialNormalForm.translate(source, memo);
+		case POSITIVE:
+			return PositiveNormalForm.translate(source, memo);
+		default:
+			return PositiveNormalForm.translate(new Not((StateFormula) source), memo);
+		}
+	}
+
+	/**
+	 * Builds the translation of an inspected view from the translations of its
+	 * sub-formulas.
+	 */
+	private Formula build() {
+		if (children.length == 0)
+			return leaf;
+		Formula left = children[0].translated;
+		Formula right = children.length == 2 ? children[1].translated : null;
+		switch (opcode) {
+		case FormulaArena.NOT:
+			return Formulas.not((StateFormula) left);
+		case FormulaArena.AND:
+			return Formulas.and((StateFormula) left, (StateFormula) right);
+		case FormulaArena.OR:
+			return Formulas.or((StateFormula) left, (StateFormula) right);
+		case FormulaArena.IMPLIES:
+			return Formulas.implies((StateFormula) left, (StateFormula) right);
+		case FormulaArena.IFF:
+			return Formulas.iff((StateFormula) left, (StateFormula) right);
+		case FormulaArena.FORALL:
+			return Formulas.forAll((PathFormula) left);
+		case FormulaArena.EXISTS:
+			return Formulas.exists((PathFormula) left);
+		case FormulaArena.NEXT:
+			return Formulas.next((StateFormula) left);
+		case FormulaArena.ALWAYS:
+			return Formulas.always((StateFormula) left);
+		case FormulaArena.EVENTUALLY:
+			return Formulas.eventually((StateFormula) left);
+		case FormulaArena.UNTIL:
+			return Formulas.until((StateFormula) left, (StateFormula) right);
+		case FormulaArena.WEAK_UNTIL:
+			return Formulas.weakUntil((StateFormula) left, (StateFormula) right);
+		default:
+			return Formulas.release((StateFormula) left, (StateFormula) right);
+		}
+	}
+
+	/**
+	 * Works out the top node of the translation, once.
+	 */
+	private synchronized void expand() {
+		if (children != null)
+			return;
+		Formula node = source;
+		byte polarity = kind;
+		while (polarity != EXISTENTIAL && node.opcode() == FormulaArena.NOT) {	// !x is the negated translation of x
+			node = node.getChild(0);
+			polarity = polarity == POSITIVE ? NEGATIVE : POSITIVE;
+		}
+		if (polarity == EXISTENTIAL)
+			expandExistential(node);
+		else if (polarity == POSITIVE)
+			expandPositive(node);
+		else
+			expandNegative(node);
+	}
+
+	/**
+	 * Works out the top node of the existential normal form of {@code node},
+	 * following the rules of {@link ExistentialNormalForm}.
+	 */
+	private void expandExistential(Formula node) {
+		if (node.opcode() == FormulaArena.FORALL) {
+			Formula path = node.getChild(0);
+			if (path.opcode() == FormulaArena.NEXT) {
+				LazyNormalForm inner = view(path.getChild(0), EXISTENTIAL);
+				set(FormulaArena.NOT, built(FormulaArena.EXISTS, built(FormulaArena.NEXT, built(FormulaArena.NOT, inner))));
+				return;
+			}
+			if (path.opcode() == FormulaArena.UNTIL) {
+				LazyNormalForm notLeft = built(FormulaArena.NOT, view(path.getChild(0), EXISTENTIAL));
+				LazyNormalForm notRight = built(FormulaArena.NOT, view(path.getChild(1), EXISTENTIAL));
+				LazyNormalForm until = built(FormulaArena.UNTIL, notRight, built(FormulaArena.AND, notLeft, notRight));
+				LazyNormalForm leftPart = built(FormulaArena.NOT, built(FormulaArena.EXISTS, until));
+				LazyNormalForm rightPart = built(FormulaArena.NOT, built(FormulaArena.EXISTS, built(FormulaArena.ALWAYS, notRight)));
+				set(FormulaArena.AND, leftPart, rightPart);
+				return;
+			}
+		}
+		same(node, EXISTENTIAL);
+	}
+
+	/**
+	 * Works out the top node of the positive normal form of {@code node},
+	 * which is not a negation.
+	 */
+	private void expandPositive(Formula node) {
+		same(node, POSITIVE);
+	}
+
+	/**
+	 * Works out the top node of the positive normal form of the negation of
+	 * {@code node}, which is not a negation, following the duality laws of
+	 * {@link PositiveNormalForm}.
+	 */
+	private void expandNegative(Formula node) {
+		switch (node.opcode()) {
+		case FormulaArena.TRUE:
+			leaf(Formulas.FALSE);
+			return;
+		case FormulaArena.FALSE:
+			leaf(Formulas.TRUE);
+			return;
+		case FormulaArena.AND:
+			set(FormulaArena.OR, view(node.getChild(0), NEGATIVE), view(node.getChild(1), NEGATIVE));
+			return;
+		case FormulaArena.FORALL:
+		case FormulaArena.EXISTS:
+			byte dual = node.opcode() == FormulaArena.FORALL ? FormulaArena.EXISTS : FormulaArena.FORALL;
+			Formula path = node.getChild(0);
+			if (path.opcode() == FormulaArena.NEXT) {
+				set(dual, built(FormulaArena.NEXT, view(path.getChild(0), NEGATIVE)));
+				return;
+			}
+			if (path.opcode() == FormulaArena.EVENTUALLY || path.opcode() == FormulaArena.ALWAYS) {
+				byte negated = path.opcode() == FormulaArena.EVENTUALLY ? FormulaArena.ALWAYS : FormulaArena.EVENTUALLY;
+				set(dual, built(negated, view(path.getChild(0), NEGATIVE)));
+				return;
+			}
+			if (path.opcode() == FormulaArena.UNTIL) {
+				LazyNormalForm negatedRight = view(path.getChild(1), NEGATIVE);
+				LazyNormalForm stay = built(FormulaArena.AND, view(path.getChild(0), POSITIVE), negatedRight);
+				LazyNormalForm leave = built(FormulaArena.AND, view(path.getChild(0), NEGATIVE), negatedRight);
+				set(dual, built(FormulaArena.WEAK_UNTIL, stay, leave));
+				return;
+			}
+			if (path.opcode() == FormulaArena.RELEASE) {
+				set(dual, built(FormulaArena.UNTIL, view(path.getChild(0), NEGATIVE), view(path.getChild(1), NEGATIVE)));
+				return;
+			}
+			break;
+		default:
+			break;
+		}
+		set(FormulaArena.NOT, view(node, POSITIVE));
+	}
+
+	/**
+	 * Keeps the operator of {@code node} and translates its sub-formulas.
+	 */
+	private void same(Formula node, byte polarity) {
+		int count = node.getChildCount();
+		if (count == 0) {
+			leaf(node);
+			return;
+		}
+		LazyNormalForm[] parts = new LazyNormalForm[count];
+		for (int i = 0; i < count; i++)
+			parts[i] = view(node.getChild(i), polarity);
+		set(node.opcode(), parts);
+	}
+
+	private void leaf(Formula form) {
+		leaf = form;
+		set(form.opcode());
+	}
+
+	private void set(byte op, LazyNormalForm... parts) {
+		opcode = op;
+		children = parts.length == 0 ? NONE : parts;
+	}
+
+	/**
+	 * Returns the view of the translation of {@code form} in the given
+	 * polarity, making it on the first request.
+	 */
+	private LazyNormalForm view(Formula form, byte polarity) {
+		return views.computeIfAbsent(new Source(form, polarity), key -> new LazyNormalForm(memo, views, form, polarity));
+	}
+
+	private LazyNormalForm built(byte op, LazyNormalForm... parts) {
+		return new LazyNormalForm(memo, views, op, parts);
+	}
+
+	/**
+	 * A formula object, compared by identity, and the polarity it is
+	 * translated in.
+	 */
+	private static final class Source {
+
+		private final Formula form;
+		private final byte polarity;
+
+		Source(Formula form, byte polarity) {
+			this.form = form;
+			this.polarity = polarity;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Source))
+				return false;
+			Source other = (Source) obj;
+			return form == other.form && polarity == other.polarity;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(form) + polarity;
+		}
+	}
+}
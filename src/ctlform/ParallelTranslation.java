@@ -0,0 +1,88 @@
+package ctlform;
+
+import ctl.Formula;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ *
+ * This class translates a single large formula with fork-join tasks. A task
+ * walks down from its formula, without recursion, for as long as only one
+ * sub-formula is at least {@value #THRESHOLD} nodes large, using the sizes
+ * cached on the formulas. Where two different sub-formulas, neither of them
+ * translated yet, both have that many distinct nodes, it forks a task for
+ * the left one and goes on with the right one itself. A sub-formula shared
+ * by both sides, as in {@code x&&x}, is thus never given to two tasks. Every
+ * sub-formula below the threshold is translated on its own by the sequential
+ * translator, and the nodes walked through are then translated from the
+ * bottom up, finding their translated sub-formulas in a shared
+ * {@link TranslationMemo}.
+ *
+ */
+
+final class ParallelTranslation extends RecursiveTask<Formula> {
+
+	private static final long serialVersionUID = 1L;
+
+	static final long THRESHOLD = 4096;	// the size below which a formula is translated sequentially
+
+	private final Formula form;
+	private final TranslationMemo memo;
+
+	private ParallelTranslation(Formula form, TranslationMemo memo) {
+		this.form = form;
+		this.memo = memo;
+	}
+
+	/**
+	 * Returns the existential normal form of {@code form}, computed on
+	 * {@code pool} if the formula is large enough to be split.
+	 */
+	static Formula existential(Formula form, ForkJoinPool pool) {
+		if (form.dagSize() < THRESHOLD)
+			return ExistentialNormalForm.translate(form);
+		return pool.invoke(new ParallelTranslation(form, new TranslationMemo()));
+	}
+
+	@Override
+	protected Formula compute() {
+		List<Formula> spine = new ArrayList<>();
+		Formula node = form;
+		while (node != null && node.size() >= THRESHOLD) {
+			spine.add(node);
+			Formula large = null;
+			Formula other = null;
+			for (int i = 0; i < node.getChildCount(); i++) {
+				Formula child = node.getChild(i);
+				if (child.size() < THRESHOLD || child == large || memo.get(TranslationMemo.EXISTENTIAL, child) != null)
+					continue;
+				if (large == null)
+					large = child;
+				else
+					other = child;
+			}
+			if (other != null && large.dagSize() >= THRESHOLD && other.dagSize() >= THRESHOLD) {
+				ParallelTranslation left = new ParallelTranslation(large, memo);
+				left.fork();
+				new ParallelTranslation(other, memo).compute();
+				left.join();
+				large = null;
+			}
+			node = large;
+		}
+		Formula result = null;
+		if (node != null) {
+			result = ExistentialNormalForm.translate(node);
+			memo.put(TranslationMemo.EXISTENTIAL, node, result);
+		}
+		for (int i = spine.size() - 1; i >= 0; i--) {
+			Formula parent = spine.get(i);
+			result = ExistentialNormalForm.translate(parent, memo, false, null);
+			memo.put(TranslationMemo.EXISTENTIAL, parent, result);
+		}
+		return result;
+	}
+}
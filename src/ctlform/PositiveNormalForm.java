@@ -1,23 +1,264 @@
 package ctlform;
 
-import ctl.Formula;
+import ctl.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 /**
- * 
+ *
  * This class serves as the main class for translating a formula into
  * its positive normal form
  *
  */
 
 public class PositiveNormalForm {
-	
+
+	/**
+	 * The duality rules of negation, applied top-down, so that a negation is
+	 * pushed into its operand before the operand is translated. A negated
+	 * until becomes a weak until.
+	 */
+	static final List<RewriteRule> RULES = rules(false);
+
+	/**
+	 * The rules of {@link #RULES}, but with a negated until becoming the dual
+	 * release.
+	 */
+	static final List<RewriteRule> LINEAR_RULES = rules(true);
+
+	private static final RewriteEngine ENGINE = new RewriteEngine(RULES);
+	private static final RewriteEngine LINEAR_ENGINE = new RewriteEngine(LINEAR_RULES);
+
 	/**
-	 * Translate this formula into its positive normal form
+	 * Translate this formula into its positive normal form. The result is the
+	 * same as {@link Formula#positiveNormalForm()}, but the translation keeps
+	 * its own work stack, so formulas of any depth can be translated.
+	 * Negations are pushed down in a single pass by the top-down rules of
+	 * {@link RewriteEngine#positiveNormalForm()}: every distinct sub-formula
+	 * object is translated at most once positively and, through its interned
+	 * negation, once negatively, and the translations are shared, so the time
+	 * is linear in {@link Formula#dagSize()}.
+	 * The growth of the result can be read with {@link Formulas#blowupFactor},
+	 * and oversized inputs can be rejected beforehand with {@link Formula#size()}.
+	 * With the {@link TranslationCache} on, repeated translations are answered
+	 * from it.
 	 * @param	form	The {@code Formula} to be translated into positive normal form.
 	 * @return	Returns a {@code Formula} in its positive normal form.
 	 */
 	public static Formula translate(Formula form) {
-		return form.positiveNormalForm();
+		Formula cached = TranslationCache.get(TranslationMemo.POSITIVE, form);
+		if (cached != null)
+			return cached;
+		long start = System.nanoTime();
+		Formula translated = translate(form, (TranslationMemo) null);
+		TranslationCache.put(TranslationMemo.POSITIVE, form, translated, System.nanoTime() - start);
+		return translated;
+	}
+
+	/**
+	 * Translate this formula into its positive normal form with {@code simplifier}
+	 * applied before and after the translation, so that constants and
+	 * redundant operators are neither translated nor left in the result.
+	 * Only the simplifications that keep the result in positive normal form
+	 * are applied: none that negates a sub-formula.
+	 * @param	form		The {@code Formula} to be translated into positive normal form.
+	 * @param	simplifier	The {@code Simplifier} applied to the formula and its translation
+	 * @return	Returns a simplified {@code Formula} in its positive normal form.
+	 */
+	public static Formula translate(Formula form, Simplifier simplifier) {
+		return simplifier.simplifyPositive(translate(simplifier.simplifyPositive(form)));
+	}
+
+	/**
+	 * Translate this formula into its positive normal form, looking up and
+	 * remembering the translations of its composite sub-formulas in
+	 * {@code memo}. After a small edit of a translated formula,
+	 * only the sub-formulas on the edited path are translated again.
+	 * @param	form	The {@code Formula} to be translated into positive normal form.
+	 * @param	memo	The translations of earlier sub-formulas, or {@code null} for none
+	 * @return	Returns a {@code Formula} in its positive normal form.
+	 */
+	public static Formula translate(Formula form, TranslationMemo memo) {
+		return translate(form, memo, null, false);
+	}
+
+	/**
+	 * Translate this formula into its positive normal form within the budget
+	 * of {@code options}. The nodes built are counted as they are made, and
+	 * the deadline and the cancellation flag are checked every few
+	 * sub-formulas, so an oversized or cancelled translation stops soon after
+	 * its budget is used up, whatever the size of the formula.
+	 * @param	form	The {@code Formula} to be translated into positive normal form.
+	 * @param	options	The budget of the translation
+	 * @return	Returns a {@code Formula} in its positive normal form.
+	 * @throws	TranslationAbortedException	If the budget is used up before the translation is done
+	 */
+	public static Formula translate(Formula form, TranslationOptions options) {
+		return translate(form, null, options, false);
+	}
+
+	/**
+	 * Translate this formula into a positive normal form whose size is linear
+	 * in the size of the formula. A negated until is rewritten with the dual
+	 * release, {@code !E(l U r)} into {@code A(!l R !r)} and {@code !A(l U r)}
+	 * into {@code E(!l R !r)}, in which each operand occurs once, where
+	 * {@link #translate(Formula)} writes a weak until that repeats
+	 * {@code l} and {@code !r}. Printed, the result of {@link #translate(Formula)}
+	 * can grow exponentially with the nesting of negated untils, and this
+	 * one cannot.
+	 * @param	form	The {@code Formula} to be translated into positive normal form.
+	 * @return	Returns a {@code Formula} in its positive normal form.
+	 */
+	public static Formula translateLinear(Formula form) {
+		return translate(form, null, null, true);
+	}
+
+	/**
+	 * Translate this formula into a linear-size positive normal form, see
+	 * {@link #translateLinear(Formula)}, within the budget of {@code options}.
+	 * @param	form	The {@code Formula} to be translated into positive normal form.
+	 * @param	options	The budget of the translation
+	 * @return	Returns a {@code Formula} in its positive normal form.
+	 * @throws	TranslationAbortedException	If the budget is used up before the translation is done
+	 */
+	public static Formula translateLinear(Formula form, TranslationOptions options) {
+		return translate(form, null, options, true);
+	}
+
+	/**
+	 * Translates {@code form} with {@code memo}, within the budget of
+	 * {@code options} unless it is {@code null}, and with releases for
+	 * negated untils if {@code linear} holds.
+	 */
+	private static Formula translate(Formula form, TranslationMemo memo, TranslationOptions options, boolean linear) {
+		RewriteEngine engine = linear ? LINEAR_ENGINE : ENGINE;
+		return engine.rewrite(form, memo, TranslationMemo.POSITIVE, true, new TranslationBudget(options));
+	}
+
+	/**
+	 * Returns how often each duality rule fired in the translations so far,
+	 * linear or not.
+	 * @return	The number of firings since the last reset by rule name
+	 */
+	public static Map<String, Long> firings() {
+		Map<String, Long> counts = ENGINE.firings();
+		LINEAR_ENGINE.firings().forEach((name, count) -> counts.merge(name, count, Long::sum));
+		return counts;
+	}
+
+	/**
+	 * Resets the firing counters of the duality rules.
+	 */
+	public static void resetStatistics() {
+		ENGINE.resetStatistics();
+		LINEAR_ENGINE.resetStatistics();
+	}
+
+	/**
+	 * Translate a batch of formulas into their positive normal forms on the
+	 * common pool. See {@link #translateAll(Stream, ForkJoinPool)}.
+	 * @param	forms	The formulas to be translated
+	 * @return	Returns the translations, in the order of {@code forms}.
+	 */
+	public static List<Formula> translateAll(Collection<? extends Formula> forms) {
+		return translateAll(forms.stream(), ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Translate a batch of formulas into their positive normal forms on the
+	 * common pool. See {@link #translateAll(Stream, ForkJoinPool)}.
+	 * @param	forms	The formulas to be translated
+	 * @return	Returns the translations, in the order of {@code forms}.
+	 */
+	public static List<Formula> translateAll(Stream<? extends Formula> forms) {
+		return translateAll(forms, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Translate a batch of formulas into their positive normal forms on
+	 * {@code pool}. See {@link #translateAll(Stream, ForkJoinPool)}.
+	 * @param	forms	The formulas to be translated
+	 * @param	pool	The pool that runs the translations
+	 * @return	Returns the translations, in the order of {@code forms}.
+	 */
+	public static List<Formula> translateAll(Collection<? extends Formula> forms, ForkJoinPool pool) {
+		return translateAll(forms.stream(), pool);
+	}
+
+	/**
+	 * Translate a batch of formulas into their positive normal forms on
+	 * {@code pool}. The formulas are translated in parallel and share one
+	 * {@link TranslationMemo}, so a sub-formula that occurs in several of
+	 * them is translated once for the whole batch.
+	 * @param	forms	The formulas to be translated
+	 * @param	pool	The pool that runs the translations
+	 * @return	Returns the translations, in the order of {@code forms}.
+	 */
+	public static List<Formula> translateAll(Stream<? extends Formula> forms, ForkJoinPool pool) {
+		return BatchTranslation.translateAll(forms, pool, PositiveNormalForm::translate);
+	}
+
+	/**
+	 * Returns the rules of the positive normal form, negating untils into
+	 * releases if {@code linear} holds.
+	 */
+	private static List<RewriteRule> rules(boolean linear) {
+		List<RewriteRule> rules = new ArrayList<>(Arrays.asList(
+				new RewriteRule("not-true", FormulaArena.NOT, FormulaArena.TRUE, true, form -> Formulas.FALSE),
+				new RewriteRule("not-false", FormulaArena.NOT, FormulaArena.FALSE, true, form -> Formulas.TRUE),
+				new RewriteRule("not-not", FormulaArena.NOT, FormulaArena.NOT, true, form -> form.getChild(0).getChild(0)),
+				new RewriteRule("not-and", FormulaArena.NOT, FormulaArena.AND, true, form -> {
+					Formula and = form.getChild(0);
+					return Formulas.or(negate(and.getChild(0)), negate(and.getChild(1)));
+				})));
+		for (byte quantifier : new byte[] {FormulaArena.EXISTS, FormulaArena.FORALL}) {
+			String prefix = quantifier == FormulaArena.EXISTS ? "not-exists-" : "not-forall-";
+			rules.add(dual(prefix + "next", quantifier, FormulaArena.NEXT,
+					path -> Formulas.next(negate(path.getChild(0)))));
+			rules.add(dual(prefix + "eventually", quantifier, FormulaArena.EVENTUALLY,
+					path -> Formulas.always(negate(path.getChild(0)))));
+			rules.add(dual(prefix + "always", quantifier, FormulaArena.ALWAYS,
+					path -> Formulas.eventually(negate(path.getChild(0)))));
+			if (linear)
+				rules.add(dual(prefix + "until", quantifier, FormulaArena.UNTIL,
+						path -> Formulas.release(negate(path.getChild(0)), negate(path.getChild(1)))));
+			else
+				rules.add(dual(prefix + "until", quantifier, FormulaArena.UNTIL, path -> {
+					StateFormula left = (StateFormula) path.getChild(0);
+					StateFormula negatedRight = negate(path.getChild(1));
+					return Formulas.weakUntil(Formulas.and(left, negatedRight), Formulas.and(negate(left), negatedRight));
+				}));
+			rules.add(dual(prefix + "release", quantifier, FormulaArena.RELEASE,
+					path -> Formulas.until(negate(path.getChild(0)), negate(path.getChild(1)))));
+		}
+		return Collections.unmodifiableList(rules);
+	}
+
+	/**
+	 * Returns the rule that rewrites the negation of a path formula with the
+	 * given operator under {@code quantifier} into the negated path formula
+	 * under the dual quantifier, {@code !Q p = Q' negated(p)}.
+	 */
+	private static RewriteRule dual(String name, byte quantifier, byte path, Function<Formula, PathFormula> negated) {
+		return new RewriteRule(name, FormulaArena.NOT, quantifier, true, form -> {
+			Formula inner = form.getChild(0).getChild(0);
+			if (inner.opcode() != path)
+				return null;
+			PathFormula negation = negated.apply(inner);
+			return quantifier == FormulaArena.EXISTS ? Formulas.forAll(negation) : Formulas.exists(negation);
+		});
+	}
+
+	private static StateFormula negate(Formula form) {
+		return Formulas.not((StateFormula) form);
 	}
 
 }
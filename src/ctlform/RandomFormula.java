@@ -68,7 +68,7 @@ public class RandomFormula {
    	 */
     public static PathFormula generateUntranslatablePathFormula(int depth) {
         Random r = new Random();
-        int curr = r.nextInt(5) + 1;
+        int curr = r.nextInt(6) + 1;
         if (depth <= 0) {
 
             switch (curr) {
@@ -80,6 +80,8 @@ public class RandomFormula {
                     return new Next(generateUntranslatableStateFormula(0));
                 case 4:
                     return new WeakUntil(generateUntranslatableStateFormula(0), generateUntranslatableStateFormula(0));
+                case 5:
+                    return new Release(generateUntranslatableStateFormula(0), generateUntranslatableStateFormula(0));
                 default:
                     return new Until(generateUntranslatableStateFormula(0), generateUntranslatableStateFormula(0));
             }
@@ -95,6 +97,8 @@ public class RandomFormula {
                     return new Next(generateUntranslatableStateFormula(depth - 1));
                 case 4:
                     return new WeakUntil(generateUntranslatableStateFormula(depth - 1), generateUntranslatableStateFormula(depth - 1));
+                case 5:
+                    return new Release(generateUntranslatableStateFormula(depth - 1), generateUntranslatableStateFormula(depth - 1));
                 default:
                     return new Until(generateUntranslatableStateFormula(depth - 1), generateUntranslatableStateFormula(depth - 1));
             }
@@ -205,4 +209,41 @@ public class RandomFormula {
 		}
 
 	}
+
+	/**
+   	 * Generate a random {@code StateFormula} whose nesting depth is the user inputed
+   	 * depth, for stress testing. Every level wraps the formula built so far in a
+   	 * negation, a right-nested conjunction or a universal or existential next or
+   	 * until, and the formula is built in a loop, so a depth of 100000 is fine.
+   	 * @param	depth	The nesting depth of the random {@code StateFormula}.
+   	 * @param	seed	The seed of the random choices, so that a chain can be built twice.
+   	 * @return	Returns a randomly generated deep {@code StateFormula}.
+   	 */
+	public static StateFormula generateDeepStateFormula(int depth, long seed) {
+		Random r = new Random(seed);
+		StateFormula formula = new AtomicProposition("ap");
+		for (int level = 0; level < depth; level++) {
+			StateFormula leaf = r.nextBoolean() ? new AtomicProposition("ap") : new True();
+			switch (r.nextInt(6)) {
+				case 0:
+					formula = new Not(formula);
+					break;
+				case 1:
+					formula = new And(leaf, formula);
+					break;
+				case 2:
+					formula = new ForAll(new Next(formula));
+					break;
+				case 3:
+					formula = new ForAll(new Until(leaf, formula));
+					break;
+				case 4:
+					formula = new Exists(new Next(formula));
+					break;
+				default:
+					formula = new Exists(new Until(formula, leaf));
+			}
+		}
+		return formula;
+	}
 }
@@ -0,0 +1,241 @@
+package ctlform;
+
+import ctl.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *
+ * This class rewrites formulas with a set of {@link RewriteRule}s. The rules
+ * are compiled into a table indexed by opcode, in which the rules that also
+ * name the operator of the first sub-formula come before the others, so
+ * finding the candidates for a node is a single array access. A formula is
+ * rewritten in one pass over its distinct sub-formulas: the first top-down
+ * rule that changes a node fires as soon as the node is met, and otherwise
+ * the node is rebuilt from its rewritten sub-formulas and the first bottom-up
+ * rule that changes it fires. The result of a firing is rewritten again,
+ * reusing the sub-formulas already known to be in normal form, until no rule
+ * applies. The engine counts the firings of every rule. The translators of
+ * this package run on engines with the rules of
+ * {@link #existentialNormalForm()} and {@link #positiveNormalForm()}.
+ *
+ */
+
+public final class RewriteEngine {
+
+	private static final byte VISIT = 0;	// rewrite the operand, a sub-formula of the input, and push the result
+	private static final byte APPLY = 1;	// rebuild the operand from its rewritten sub-formulas and apply the rules
+	private static final byte STORE = 2;	// remember the top value as the result of the operand
+	private static final byte REVISIT = 3;	// rewrite the operand, a part of the result of a rule, and push the result
+	private static final byte REMEMBER = 4;	// remember the top value as the result of the operand, also in the memo
+
+	private final RewriteRule[] rules;
+	private final RewriteRule[][] table = new RewriteRule[FormulaArena.RELEASE + 1][];	// bottom-up rules by opcode
+	private final int[][] indexes = new int[table.length][];	// the positions of the rules of the table in rules
+	private final RewriteRule[][] topDownTable = new RewriteRule[table.length][];	// top-down rules by opcode
+	private final int[][] topDownIndexes = new int[table.length][];
+	private final LongAdder[] firings;
+
+	/**
+	 * Compiles the given rules. For each opcode, the rules that name the
+	 * operator of the first sub-formula are tried first, and otherwise rules
+	 * are tried in the order they are given.
+	 * @param	rules	The rules of the engine
+	 */
+	public RewriteEngine(List<RewriteRule> rules) {
+		this.rules = rules.toArray(new RewriteRule[0]);
+		this.firings = new LongAdder[this.rules.length];
+		for (int i = 0; i < firings.length; i++)
+			firings[i] = new LongAdder();
+		compile(false, table, indexes);
+		compile(true, topDownTable, topDownIndexes);
+	}
+
+	/**
+	 * Fills {@code table} and {@code indexes} with the bottom-up or the
+	 * top-down rules.
+	 */
+	private void compile(boolean topDown, RewriteRule[][] table, int[][] indexes) {
+		for (int op = 0; op < table.length; op++) {
+			List<Integer> matching = new ArrayList<>();
+			for (int pass = 0; pass < 2; pass++)
+				for (int i = 0; i < rules.length; i++)
+					if (rules[i].opcode == op && rules[i].topDown == topDown && (rules[i].childOpcode == RewriteRule.ANY) == (pass == 1))
+						matching.add(i);
+			table[op] = new RewriteRule[matching.size()];
+			indexes[op] = new int[matching.size()];
+			for (int i = 0; i < matching.size(); i++) {
+				indexes[op][i] = matching.get(i);
+				table[op][i] = rules[matching.get(i)];
+			}
+		}
+	}
+
+	/**
+	 * Compiles the given rules, see {@link #RewriteEngine(List)}.
+	 * @param	rules	The rules of the engine
+	 */
+	public RewriteEngine(RewriteRule... rules) {
+		this(Arrays.asList(rules));
+	}
+
+	/**
+	 * Returns an engine with the duality rules of the existential normal
+	 * form, {@code AX f = !EX!f} and {@code A(l U r) = !E(!r U (!l && !r)) && !EG!r},
+	 * the rules {@link ExistentialNormalForm#translate(Formula)} runs on.
+	 * @return	A new engine with the rules {@code forall-next} and {@code forall-until}
+	 */
+	public static RewriteEngine existentialNormalForm() {
+		return new RewriteEngine(ExistentialNormalForm.RULES);
+	}
+
+	/**
+	 * Returns an engine with the top-down duality rules of the positive normal
+	 * form, such as {@code !(l && r) = !l || !r} and {@code !EX f = AX!f}, the
+	 * rules {@link PositiveNormalForm#translate(Formula)} runs on.
+	 * @return	A new engine with the rules of the positive normal form
+	 */
+	public static RewriteEngine positiveNormalForm() {
+		return new RewriteEngine(PositiveNormalForm.RULES);
+	}
+
+	/**
+	 * Rewrites a formula until no rule applies to any of its sub-formulas.
+	 * Every distinct sub-formula object is rewritten once. The rules must not
+	 * rewrite formulas into each other in a cycle.
+	 * @param	form	The {@code Formula} to be rewritten
+	 * @return	Returns the interned rewritten {@code Formula}.
+	 */
+	public Formula rewrite(Formula form) {
+		return rewrite(form, null, 0, false, new TranslationBudget(null));
+	}
+
+	/**
+	 * Rewrites {@code form}, looking up the results of its composite
+	 * sub-formulas under {@code kind} in {@code memo} unless it is
+	 * {@code null} and, if {@code remember} holds, storing them there, and
+	 * counting the work against {@code budget}. The parts of the results of
+	 * rules are not looked up or stored.
+	 */
+	Formula rewrite(Formula form, TranslationMemo memo, int kind, boolean remember, TranslationBudget budget) {
+		WorkStack stack = new WorkStack();
+		Map<Formula, Formula> done = new IdentityHashMap<>();	// results of the nodes met so far, and results of themselves,
+																// so the parts of a firing already in normal form are not walked again
+		stack.push(VISIT, form);
+		while (stack.hasTasks()) {
+			byte op = stack.peekOp();
+			Formula node = stack.pop();
+			switch (op) {
+			case VISIT:
+			case REVISIT:
+				budget.step();
+				int count = node.getChildCount();
+				Formula known = done.get(node);
+				if (known == null && count > 0 && op == VISIT && memo != null) {
+					known = memo.get(kind, node);
+					if (known != null)
+						done.put(known, known);
+				}
+				if (known != null) {
+					stack.pushValue(known);
+					break;
+				}
+				if (count > 0)
+					stack.push(op == VISIT && memo != null && remember ? REMEMBER : STORE, node);
+				Formula replaced = fire(topDownTable, topDownIndexes, node);
+				if (replaced != null) {
+					stack.push(REVISIT, replaced);
+					break;
+				}
+				stack.push(APPLY, node);
+				for (int i = count - 1; i >= 0; i--)
+					stack.push(op, node.getChild(i));
+				break;
+			case APPLY:
+				Formula rebuilt = node;
+				if (node.getChildCount() > 0) {
+					budget.built(1);
+					rebuilt = Formulas.withChildren(node, stack.popValues(node.getChildCount()));
+				}
+				Formula rewritten = fire(table, indexes, rebuilt);
+				if (rewritten == null) {
+					done.put(rebuilt, rebuilt);
+					stack.pushValue(rebuilt);
+				} else {
+					normal(done, rebuilt);
+					stack.push(REVISIT, rewritten);
+				}
+				break;
+			case STORE:
+			case REMEMBER:
+				Formula result = stack.peekValue();
+				done.put(node, result);
+				done.put(result, result);
+				if (op == REMEMBER)
+					memo.put(kind, node, result);
+				break;
+			}
+		}
+		return stack.popValue();
+	}
+
+	/**
+	 * Records the sub-formulas and their sub-formulas of a node rebuilt from
+	 * rewritten sub-formulas as their own results. A rule builds its result
+	 * from these parts, so the parts are not walked again when the result is
+	 * rewritten.
+	 */
+	private static void normal(Map<Formula, Formula> done, Formula rebuilt) {
+		for (int i = 0; i < rebuilt.getChildCount(); i++) {
+			Formula child = rebuilt.getChild(i);
+			done.putIfAbsent(child, child);
+			for (int j = 0; j < child.getChildCount(); j++)
+				done.putIfAbsent(child.getChild(j), child.getChild(j));
+		}
+	}
+
+	/**
+	 * Applies the first rule that changes {@code form} and returns its result,
+	 * or returns {@code null} if no rule does.
+	 */
+	private Formula fire(RewriteRule[][] table, int[][] indexes, Formula form) {
+		RewriteRule[] candidates = table[form.opcode()];
+		for (int i = 0; i < candidates.length; i++) {
+			RewriteRule rule = candidates[i];
+			if (!rule.matches(form))
+				continue;
+			Formula result = rule.rewrite.apply(form);
+			if (result != null && result != form && !result.equals(form)) {
+				firings[indexes[form.opcode()][i]].increment();
+				return result;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns how often each rule fired.
+	 * @return	The number of firings since the last reset by rule name, in the
+	 * 			order the rules were given
+	 */
+	public Map<String, Long> firings() {
+		Map<String, Long> counts = new LinkedHashMap<>();
+		for (int i = 0; i < rules.length; i++)
+			counts.merge(rules[i].name, firings[i].sum(), Long::sum);
+		return counts;
+	}
+
+	/**
+	 * Resets the firing counters.
+	 */
+	public void resetStatistics() {
+		for (LongAdder counter : firings)
+			counter.reset();
+	}
+}
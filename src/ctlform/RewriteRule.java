@@ -0,0 +1,109 @@
+package ctlform;
+
+import ctl.Formula;
+import ctl.FormulaArena;
+
+import java.util.function.Function;
+
+/**
+ *
+ * This class declares a rule of a {@link RewriteEngine}. A rule matches the
+ * formulas whose top operator has the given opcode and, optionally, whose
+ * first sub-formula has a given opcode, such as {@code ForAll} over
+ * {@code Next}. The rewrite function receives a matching formula whose
+ * sub-formulas are already rewritten, and returns the formula to replace it
+ * with, or {@code null} if the rule does not apply after all. A top-down rule
+ * instead receives the formula as it is met, before its sub-formulas are
+ * rewritten, which lets a rule such as {@code !!f = f} see the operand of a
+ * negation before the operand itself is rewritten.
+ *
+ */
+
+public final class RewriteRule {
+
+	/**
+	 * The opcode that matches any first sub-formula.
+	 */
+	public static final byte ANY = -1;
+
+	final String name;
+	final byte opcode;
+	final byte childOpcode;
+	final boolean topDown;
+	final Function<Formula, Formula> rewrite;
+
+	/**
+	 * Declares a rule for the formulas with the given top operator.
+	 * @param	name		The name the firings of the rule are counted under
+	 * @param	opcode		The {@link FormulaArena} opcode of the matched formulas
+	 * @param	rewrite		The function that rewrites a matched formula
+	 */
+	public RewriteRule(String name, byte opcode, Function<Formula, Formula> rewrite) {
+		this(name, opcode, ANY, rewrite);
+	}
+
+	/**
+	 * Declares a rule for the formulas with the given top operator over the
+	 * given operator.
+	 * @param	name			The name the firings of the rule are counted under
+	 * @param	opcode			The {@link FormulaArena} opcode of the matched formulas
+	 * @param	childOpcode		The opcode of their first sub-formula, or {@link #ANY}
+	 * @param	rewrite			The function that rewrites a matched formula
+	 * @throws	IllegalArgumentException	If an opcode is not one of {@link FormulaArena}
+	 */
+	public RewriteRule(String name, byte opcode, byte childOpcode, Function<Formula, Formula> rewrite) {
+		this(name, opcode, childOpcode, false, rewrite);
+	}
+
+	/**
+	 * Declares a rule for the formulas with the given top operator over the
+	 * given operator, applied either to the rewritten formulas or, top-down,
+	 * to the formulas as they are met.
+	 * @param	name			The name the firings of the rule are counted under
+	 * @param	opcode			The {@link FormulaArena} opcode of the matched formulas
+	 * @param	childOpcode		The opcode of their first sub-formula, or {@link #ANY}
+	 * @param	topDown			Whether the rule is applied before the sub-formulas are rewritten
+	 * @param	rewrite			The function that rewrites a matched formula
+	 * @throws	IllegalArgumentException	If an opcode is not one of {@link FormulaArena}
+	 */
+	public RewriteRule(String name, byte opcode, byte childOpcode, boolean topDown, Function<Formula, Formula> rewrite) {
+		if (opcode < FormulaArena.TRUE || opcode > FormulaArena.RELEASE)
+			throw new IllegalArgumentException("Unknown opcode: " + opcode);
+		if (childOpcode != ANY && (childOpcode < FormulaArena.TRUE || childOpcode > FormulaArena.RELEASE))
+			throw new IllegalArgumentException("Unknown opcode: " + childOpcode);
+		this.name = name;
+		this.opcode = opcode;
+		this.childOpcode = childOpcode;
+		this.topDown = topDown;
+		this.rewrite = rewrite;
+	}
+
+	/**
+	 * Returns the name of this rule.
+	 * @return	The name given to the constructor
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Checks if this rule is applied before the sub-formulas are rewritten.
+	 * @return	Returns <i>true</i> if the rule is top-down, and <i>false</i> if otherwise.
+	 */
+	public boolean isTopDown() {
+		return topDown;
+	}
+
+	/**
+	 * Checks if this rule may apply to {@code form}, whose top operator
+	 * already has the opcode of this rule.
+	 */
+	boolean matches(Formula form) {
+		return childOpcode == ANY || (form.getChildCount() > 0 && form.getChild(0).opcode() == childOpcode);
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+}
@@ -0,0 +1,301 @@
+package ctlform;
+
+import ctl.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *
+ * This class simplifies formulas with a {@link RewriteEngine}, in one pass
+ * over their distinct sub-formulas. It folds constants, removes double
+ * negations, and applies idempotence, complement and absorption to the
+ * boolean operators and the usual identities of the temporal operators,
+ * such as {@code EF true = true}, {@code AG false = false} and
+ * {@code E(true U f) = EF f}. The temporal identities assume, as CTL does,
+ * that every state has a successor, so {@code EX true} and {@code AX true}
+ * both hold. A simplifier counts the nodes it removed and the firings of its
+ * rules, and can be chained into the normal form translations, which only
+ * apply the rules that keep their results in normal form.
+ *
+ */
+
+public final class Simplifier {
+
+	private static final List<RewriteRule> RULES = Arrays.asList(
+			new RewriteRule("double-negation", FormulaArena.NOT, FormulaArena.NOT, form -> form.getChild(0).getChild(0)),
+			new RewriteRule("not-constant", FormulaArena.NOT, form -> isTrue(form.getChild(0)) ? Formulas.FALSE
+					: isFalse(form.getChild(0)) ? Formulas.TRUE : null),
+			new RewriteRule("and-constant", FormulaArena.AND, form -> junction(form, true)),
+			new RewriteRule("or-constant", FormulaArena.OR, form -> junction(form, false)),
+			new RewriteRule("and-idempotence", FormulaArena.AND, Simplifier::idempotence),
+			new RewriteRule("or-idempotence", FormulaArena.OR, Simplifier::idempotence),
+			new RewriteRule("and-complement", FormulaArena.AND, form -> complementary(form) ? Formulas.FALSE : null),
+			new RewriteRule("or-complement", FormulaArena.OR, form -> complementary(form) ? Formulas.TRUE : null),
+			new RewriteRule("and-absorption", FormulaArena.AND, form -> absorption(form, FormulaArena.OR)),
+			new RewriteRule("or-absorption", FormulaArena.OR, form -> absorption(form, FormulaArena.AND)),
+			new RewriteRule("implies-constant", FormulaArena.IMPLIES, Simplifier::implication),
+			new RewriteRule("implies-false", FormulaArena.IMPLIES, form -> isFalse(form.getChild(1)) ? Formulas.not(state(form, 0)) : null),
+			new RewriteRule("iff-constant", FormulaArena.IFF, Simplifier::equivalence),
+			new RewriteRule("iff-false", FormulaArena.IFF, Simplifier::negatedEquivalence),
+			new RewriteRule("exists-constant", FormulaArena.EXISTS, Simplifier::quantified),
+			new RewriteRule("forall-constant", FormulaArena.FORALL, Simplifier::quantified),
+			new RewriteRule("exists-eventually-until", FormulaArena.EXISTS, FormulaArena.UNTIL, Simplifier::eventually),
+			new RewriteRule("forall-eventually-until", FormulaArena.FORALL, FormulaArena.UNTIL, Simplifier::eventually),
+			new RewriteRule("exists-always-weak-until", FormulaArena.EXISTS, FormulaArena.WEAK_UNTIL, Simplifier::always),
+			new RewriteRule("forall-always-weak-until", FormulaArena.FORALL, FormulaArena.WEAK_UNTIL, Simplifier::always),
+			new RewriteRule("exists-nesting", FormulaArena.EXISTS, Simplifier::nesting),
+			new RewriteRule("forall-nesting", FormulaArena.FORALL, Simplifier::nesting));
+
+	private static final Set<String> NEW_OPERATORS = new HashSet<>(Arrays.asList(		// rules that bring in QF and QG
+			"exists-eventually-until", "forall-eventually-until", "exists-always-weak-until", "forall-always-weak-until"));
+	private static final Set<String> NEW_NEGATIONS = new HashSet<>(Arrays.asList("implies-false", "iff-false"));	// rules that negate a sub-formula
+
+	private final RewriteEngine engine = new RewriteEngine(RULES);
+	private final RewriteEngine existential = new RewriteEngine(without(RULES, NEW_OPERATORS));
+	private final RewriteEngine positive = new RewriteEngine(without(RULES, NEW_NEGATIONS));
+
+	private final LongAdder removed = new LongAdder();
+
+	/**
+	 * Returns the simplified form of a formula. Every distinct sub-formula
+	 * object is simplified once, so the time is linear in {@link Formula#dagSize()}.
+	 * @param	form	The {@code Formula} to be simplified
+	 * @return	Returns the interned simplified {@code Formula}.
+	 */
+	public Formula simplify(Formula form) {
+		return simplify(form, engine);
+	}
+
+	/**
+	 * Simplifies a formula without bringing in {@code AF} and {@code AG},
+	 * which {@link ExistentialNormalForm} has no rules for, so a formula in
+	 * existential normal form stays in it.
+	 */
+	Formula simplifyExistential(Formula form) {
+		return simplify(form, existential);
+	}
+
+	/**
+	 * Simplifies a formula without negating any of its sub-formulas, so a
+	 * formula in positive normal form stays in it.
+	 */
+	Formula simplifyPositive(Formula form) {
+		return simplify(form, positive);
+	}
+
+	private Formula simplify(Formula form, RewriteEngine with) {
+		Formula simplified = with.rewrite(form);
+		if (simplified != form)
+			removed.add(Math.max(0, form.dagSize() - simplified.dagSize()));
+		return simplified;
+	}
+
+	/**
+	 * Returns the number of distinct nodes removed by this simplifier.
+	 * @return	The difference in {@link Formula#dagSize()} summed over all
+	 * 			simplified formulas since the last reset
+	 */
+	public long nodesRemoved() {
+		return removed.sum();
+	}
+
+	/**
+	 * Returns how often each simplification fired.
+	 * @return	The number of firings since the last reset by rule name
+	 */
+	public Map<String, Long> firings() {
+		Map<String, Long> counts = engine.firings();
+		for (RewriteEngine other : Arrays.asList(existential, positive))
+			other.firings().forEach((name, count) -> counts.merge(name, count, Long::sum));
+		return counts;
+	}
+
+	/**
+	 * Resets the removed node and firing counters.
+	 */
+	public void resetStatistics() {
+		removed.reset();
+		engine.resetStatistics();
+		existential.resetStatistics();
+		positive.resetStatistics();
+	}
+
+	private static List<RewriteRule> without(List<RewriteRule> rules, Set<String> names) {
+		List<RewriteRule> kept = new ArrayList<>();
+		for (RewriteRule rule : rules)
+			if (!names.contains(rule.getName()))
+				kept.add(rule);
+		return kept;
+	}
+
+	private static boolean isTrue(Formula form) {
+		return form.opcode() == FormulaArena.TRUE;
+	}
+
+	private static boolean isFalse(Formula form) {
+		return form.opcode() == FormulaArena.FALSE;
+	}
+
+	private static StateFormula state(Formula form, int index) {
+		return (StateFormula) form.getChild(index);
+	}
+
+	/**
+	 * Folds a constant operand of a conjunction, if {@code and} holds, or of
+	 * a disjunction.
+	 */
+	private static Formula junction(Formula form, boolean and) {
+		Formula left = form.getChild(0);
+		Formula right = form.getChild(1);
+		Formula neutral = and ? Formulas.TRUE : Formulas.FALSE;
+		Formula absorbing = and ? Formulas.FALSE : Formulas.TRUE;
+		if (left.equals(absorbing) || right.equals(absorbing))
+			return absorbing;
+		if (left.equals(neutral))
+			return right;
+		if (right.equals(neutral))
+			return left;
+		return null;
+	}
+
+	/**
+	 * Returns {@code f} for {@code f && f} and {@code f || f}.
+	 */
+	private static Formula idempotence(Formula form) {
+		return form.getChild(0).equals(form.getChild(1)) ? form.getChild(0) : null;
+	}
+
+	/**
+	 * Checks if one operand is the negation of the other.
+	 */
+	private static boolean complementary(Formula form) {
+		return negates(form.getChild(0), form.getChild(1)) || negates(form.getChild(1), form.getChild(0));
+	}
+
+	private static boolean negates(Formula negation, Formula form) {
+		return negation.opcode() == FormulaArena.NOT && negation.getChild(0).equals(form);
+	}
+
+	/**
+	 * Returns {@code f} for {@code f && (f || g)}, {@code f && (g || f)} and
+	 * their mirror images, and likewise with the operators swapped.
+	 */
+	private static Formula absorption(Formula form, byte inner) {
+		for (int i = 0; i < 2; i++) {
+			Formula kept = form.getChild(i);
+			Formula other = form.getChild(1 - i);
+			if (other.opcode() == inner && (other.getChild(0).equals(kept) || other.getChild(1).equals(kept)))
+				return kept;
+		}
+		return null;
+	}
+
+	/**
+	 * Folds the constants and equal operands of an implication, except a
+	 * false conclusion.
+	 */
+	private static Formula implication(Formula form) {
+		Formula left = form.getChild(0);
+		Formula right = form.getChild(1);
+		if (isFalse(left) || isTrue(right) || left.equals(right))
+			return Formulas.TRUE;
+		return isTrue(left) ? right : null;
+	}
+
+	/**
+	 * Folds the true operands and equal operands of an equivalence.
+	 */
+	private static Formula equivalence(Formula form) {
+		if (form.getChild(0).equals(form.getChild(1)))
+			return Formulas.TRUE;
+		for (int i = 0; i < 2; i++)
+			if (isTrue(form.getChild(i)))
+				return form.getChild(1 - i);
+		return null;
+	}
+
+	/**
+	 * Returns {@code !f} for {@code f <-> false} and {@code false <-> f}.
+	 */
+	private static Formula negatedEquivalence(Formula form) {
+		for (int i = 0; i < 2; i++)
+			if (isFalse(form.getChild(i)))
+				return Formulas.not(state(form, 1 - i));
+		return null;
+	}
+
+	/**
+	 * Folds a path quantifier over a path whose truth does not depend on the
+	 * path: {@code QX c}, {@code QF c} and {@code QG c} for a constant
+	 * {@code c}, {@code Q(f U c)}, {@code Q(false U f)}, {@code Q(f W true)},
+	 * {@code Q(false W f)}, {@code Q(true W f)}, {@code Q(f R c)} and
+	 * {@code Q(true R f)}.
+	 */
+	private static Formula quantified(Formula form) {
+		Formula path = form.getChild(0);
+		switch (path.opcode()) {
+		case FormulaArena.NEXT:
+		case FormulaArena.EVENTUALLY:
+		case FormulaArena.ALWAYS:
+			Formula inner = path.getChild(0);
+			return isTrue(inner) || isFalse(inner) ? inner : null;
+		case FormulaArena.UNTIL:
+			if (isTrue(path.getChild(1)) || isFalse(path.getChild(1)))
+				return path.getChild(1);
+			return isFalse(path.getChild(0)) ? path.getChild(1) : null;
+		case FormulaArena.WEAK_UNTIL:
+			if (isTrue(path.getChild(1)) || isTrue(path.getChild(0)))
+				return Formulas.TRUE;
+			return isFalse(path.getChild(0)) ? path.getChild(1) : null;
+		case FormulaArena.RELEASE:
+			if (isTrue(path.getChild(1)) || isFalse(path.getChild(1)) || isTrue(path.getChild(0)))
+				return path.getChild(1);
+			return null;
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Returns {@code QF f} for {@code Q(true U f)}.
+	 */
+	private static Formula eventually(Formula form) {
+		Formula path = form.getChild(0);
+		if (!isTrue(path.getChild(0)))
+			return null;
+		PathFormula eventually = Formulas.eventually(state(path, 1));
+		return form.opcode() == FormulaArena.EXISTS ? Formulas.exists(eventually) : Formulas.forAll(eventually);
+	}
+
+	/**
+	 * Returns {@code QG f} for {@code Q(f W false)}.
+	 */
+	private static Formula always(Formula form) {
+		Formula path = form.getChild(0);
+		if (!isFalse(path.getChild(1)))
+			return null;
+		PathFormula always = Formulas.always(state(path, 0));
+		return form.opcode() == FormulaArena.EXISTS ? Formulas.exists(always) : Formulas.forAll(always);
+	}
+
+	/**
+	 * Returns {@code QF f} for {@code QF QF f}, and {@code QG f} for
+	 * {@code QG QG f}.
+	 */
+	private static Formula nesting(Formula form) {
+		Formula path = form.getChild(0);
+		byte op = path.opcode();
+		if (op != FormulaArena.EVENTUALLY && op != FormulaArena.ALWAYS)
+			return null;
+		Formula inner = path.getChild(0);
+		if (inner.opcode() != form.opcode() || inner.getChild(0).opcode() != op)
+			return null;
+		return inner;
+	}
+}
@@ -0,0 +1,69 @@
+package ctlform;
+
+/**
+ *
+ * This exception is thrown by a translation that used up the budget of its
+ * {@link TranslationOptions}. It reports why the translation stopped and how
+ * far it got.
+ *
+ */
+
+public class TranslationAbortedException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The part of the budget that was used up.
+	 */
+	public enum Reason {
+		NODE_LIMIT,
+		DEADLINE,
+		CANCELLED
+	}
+
+	private final Reason reason;
+	private final long nodes;
+	private final long steps;
+	private final long elapsedNanos;
+
+	TranslationAbortedException(Reason reason, long nodes, long steps, long elapsedNanos) {
+		super("Translation aborted (" + reason + ") after building " + nodes + " nodes in "
+				+ steps + " steps and " + elapsedNanos / 1_000_000 + " ms");
+		this.reason = reason;
+		this.nodes = nodes;
+		this.steps = steps;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Returns the part of the budget that was used up.
+	 * @return	The reason the translation stopped
+	 */
+	public Reason getReason() {
+		return reason;
+	}
+
+	/**
+	 * Returns the number of nodes built before the translation stopped.
+	 * @return	The number of nodes built
+	 */
+	public long getNodes() {
+		return nodes;
+	}
+
+	/**
+	 * Returns the number of sub-formulas visited before the translation stopped.
+	 * @return	The number of sub-formulas visited
+	 */
+	public long getSteps() {
+		return steps;
+	}
+
+	/**
+	 * Returns the time the translation ran.
+	 * @return	The time in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+}
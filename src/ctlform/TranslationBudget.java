@@ -0,0 +1,54 @@
+package ctlform;
+
+/**
+ *
+ * This class counts the nodes built and the sub-formulas visited by one
+ * translation against its {@link TranslationOptions}. Counting is a field
+ * increment and a comparison; the clock and the cancellation flag are only
+ * read every {@code CHECK_INTERVAL} steps.
+ *
+ */
+
+final class TranslationBudget {
+
+	private static final int CHECK_INTERVAL = 1024;
+
+	private final TranslationOptions options;	// null for an unlimited translation
+	private final long maxNodes;
+	private final long start;
+	private long nodes;
+	private long steps;
+
+	TranslationBudget(TranslationOptions options) {
+		this.options = options;
+		this.maxNodes = options == null ? Long.MAX_VALUE : options.getMaxNodes();
+		this.start = options == null ? 0 : System.nanoTime();
+	}
+
+	/**
+	 * Counts a visited sub-formula, and checks the deadline and the
+	 * cancellation flag at the first and then every {@code CHECK_INTERVAL}th.
+	 */
+	void step() {
+		if (steps++ % CHECK_INTERVAL == 0 && options != null) {
+			long now = System.nanoTime();
+			if (options.isCancelled())
+				throw abort(TranslationAbortedException.Reason.CANCELLED, now);
+			if (options.isExpired(now))
+				throw abort(TranslationAbortedException.Reason.DEADLINE, now);
+		}
+	}
+
+	/**
+	 * Counts {@code count} built nodes and checks the node limit.
+	 */
+	void built(int count) {
+		nodes += count;
+		if (nodes > maxNodes)
+			throw abort(TranslationAbortedException.Reason.NODE_LIMIT, System.nanoTime());
+	}
+
+	private TranslationAbortedException abort(TranslationAbortedException.Reason reason, long now) {
+		return new TranslationAbortedException(reason, nodes, steps, now - start);
+	}
+}
@@ -0,0 +1,273 @@
+package ctlform;
+
+import ctl.Formula;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *
+ * This class is an optional, process-wide cache of the results of
+ * {@link ExistentialNormalForm#translate(Formula)} and
+ * {@link PositiveNormalForm#translate(Formula)}. It is keyed by the structure
+ * of the translated formula, so a specification that is parsed again is
+ * found as well. Each entry weighs the number of distinct nodes of the
+ * formula and of its translation, and once the total weight exceeds the bound
+ * given to {@link #enable(long)}, entries are evicted in the order of a clock:
+ * the entries are kept in a queue in the order they were cached, a hit only
+ * marks its entry as used, and eviction takes entries from the head of the
+ * queue, giving a marked entry a second chance at the tail. Entries that were
+ * not used since the eviction last passed them, least recently cached first,
+ * are thus the ones evicted, and hits and misses both cost constant time. The
+ * cache is off by default, and can be used by several threads: entries are
+ * found by the fingerprint of the formula in a concurrent map, and the
+ * structural match is confirmed without any lock. Only caching and eviction
+ * are serialized. It should be cleared after
+ * {@link ctl.Formulas#setCanonicalOrdering(boolean)} is changed, since the
+ * cached translations keep the ordering they were made with.
+ *
+ */
+
+public final class TranslationCache {
+
+	private static final ConcurrentHashMap<Key, Entry> ENTRIES = new ConcurrentHashMap<>();
+	private static final ArrayDeque<Entry> CLOCK = new ArrayDeque<>();	// in the order of eviction, guarded by itself
+	private static final LongAdder HITS = new LongAdder();
+	private static final LongAdder MISSES = new LongAdder();
+	private static final LongAdder EVICTIONS = new LongAdder();
+	private static final LongAdder SAVED = new LongAdder();	// nanoseconds the hits did not spend translating
+
+	private static volatile long maximumWeight;	// 0 while the cache is off
+	private static volatile long weight;		// written while holding the lock of CLOCK
+
+	private TranslationCache() {}
+
+	/**
+	 * Turns the cache on, or changes its bound, evicting entries if needed.
+	 * @param	maximumWeight	The largest total number of nodes of the cached
+	 * 							formulas and translations
+	 * @throws	IllegalArgumentException	If {@code maximumWeight} is not positive
+	 */
+	public static void enable(long maximumWeight) {
+		if (maximumWeight <= 0)
+			throw new IllegalArgumentException("The maximum weight must be positive: " + maximumWeight);
+		synchronized (CLOCK) {
+			TranslationCache.maximumWeight = maximumWeight;
+			evict();
+		}
+	}
+
+	/**
+	 * Turns the cache off and drops all entries. The counters are kept.
+	 */
+	public static void disable() {
+		synchronized (CLOCK) {
+			maximumWeight = 0;
+			clear();
+		}
+	}
+
+	/**
+	 * Checks if the cache is on.
+	 * @return	Returns <i>true</i> if translations are cached, and <i>false</i> if otherwise.
+	 */
+	public static boolean isEnabled() {
+		return maximumWeight > 0;
+	}
+
+	/**
+	 * Returns the cached translation of {@code form} into the given normal
+	 * form, or {@code null}.
+	 */
+	static Formula get(int kind, Formula form) {
+		if (maximumWeight == 0)
+			return null;
+		Entry entry = ENTRIES.get(new Key(kind, form.fingerprint()));
+		if (entry == null || !entry.form.equals(form)) {
+			MISSES.increment();
+			return null;
+		}
+		if (!entry.used)
+			entry.used = true;
+		HITS.increment();
+		SAVED.add(entry.nanos);
+		return entry.translated;
+	}
+
+	/**
+	 * Caches the translation of {@code form}, which took {@code nanos}
+	 * nanoseconds, unless it alone is heavier than the bound. A different
+	 * formula with the same fingerprint is replaced.
+	 */
+	static void put(int kind, Formula form, Formula translated, long nanos) {
+		if (maximumWeight == 0)
+			return;
+		long entryWeight = (long) form.dagSize() + translated.dagSize();
+		Entry entry = new Entry(new Key(kind, form.fingerprint()), form, translated, entryWeight, nanos);
+		synchronized (CLOCK) {
+			if (entryWeight > maximumWeight)
+				return;
+			Entry old = ENTRIES.put(entry.key, entry);
+			weight += old == null ? entryWeight : entryWeight - old.weight;
+			CLOCK.addLast(entry);
+			if (CLOCK.size() > 2 * ENTRIES.size() + 16)	// replaced entries left in the clock
+				CLOCK.removeIf(queued -> ENTRIES.get(queued.key) != queued);
+			evict();
+		}
+	}
+
+	/**
+	 * Evicts entries from the head of the clock until the bound holds,
+	 * moving the entries used since they were last passed to the tail. Every
+	 * entry is moved at most once per hit, so eviction takes constant
+	 * amortized time. Must be called while holding the lock of {@code CLOCK}.
+	 */
+	private static void evict() {
+		while (weight > maximumWeight && !CLOCK.isEmpty()) {
+			Entry eldest = CLOCK.pollFirst();
+			if (ENTRIES.get(eldest.key) != eldest)
+				continue;	// replaced since it was cached
+			if (eldest.used) {
+				eldest.used = false;
+				CLOCK.addLast(eldest);
+				continue;
+			}
+			ENTRIES.remove(eldest.key, eldest);
+			weight -= eldest.weight;
+			EVICTIONS.increment();
+		}
+	}
+
+	/**
+	 * Drops all entries. The counters are kept.
+	 */
+	public static void clear() {
+		synchronized (CLOCK) {
+			ENTRIES.clear();
+			CLOCK.clear();
+			weight = 0;
+		}
+	}
+
+	/**
+	 * Returns the number of cached translations.
+	 * @return	The number of entries
+	 */
+	public static int size() {
+		return ENTRIES.size();
+	}
+
+	/**
+	 * Returns the total weight of the cached translations.
+	 * @return	The number of nodes of the cached formulas and translations
+	 */
+	public static long weight() {
+		return weight;
+	}
+
+	/**
+	 * Returns the number of translations answered from the cache.
+	 * @return	The number of hits since the last reset
+	 */
+	public static long hits() {
+		return HITS.sum();
+	}
+
+	/**
+	 * Returns the number of translations that were not cached while the
+	 * cache was on.
+	 * @return	The number of misses since the last reset
+	 */
+	public static long misses() {
+		return MISSES.sum();
+	}
+
+	/**
+	 * Returns the number of entries evicted to keep the bound.
+	 * @return	The number of evictions since the last reset
+	 */
+	public static long evictions() {
+		return EVICTIONS.sum();
+	}
+
+	/**
+	 * Returns the fraction of lookups that were hits.
+	 * @return	A value between 0 and 1, or 0 if nothing was looked up yet
+	 */
+	public static double hitRate() {
+		long hits = hits();
+		long lookups = hits + misses();
+		return lookups == 0 ? 0 : (double) hits / lookups;
+	}
+
+	/**
+	 * Returns the time the hits saved, measured as the time the cached
+	 * translations took when they were made.
+	 * @return	The saved time in nanoseconds since the last reset
+	 */
+	public static long savedNanos() {
+		return SAVED.sum();
+	}
+
+	/**
+	 * Resets the counters. The entries are kept.
+	 */
+	public static void resetStatistics() {
+		HITS.reset();
+		MISSES.reset();
+		EVICTIONS.reset();
+		SAVED.reset();
+	}
+
+	/**
+	 * Identifies a formula by its fingerprint, and the normal form it is
+	 * translated into.
+	 */
+	private static final class Key {
+
+		private final int kind;
+		private final long fingerprint;
+
+		Key(int kind, long fingerprint) {
+			this.kind = kind;
+			this.fingerprint = fingerprint;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return kind == other.kind && fingerprint == other.fingerprint;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Long.hashCode(fingerprint) + kind;
+		}
+	}
+
+	/**
+	 * A cached translation with its key, the formula it translates, its
+	 * weight, the time it took and whether it was used since the clock last
+	 * passed it.
+	 */
+	private static final class Entry {
+
+		final Key key;
+		final Formula form;
+		final Formula translated;
+		final long weight;
+		final long nanos;
+		volatile boolean used;
+
+		Entry(Key key, Formula form, Formula translated, long weight, long nanos) {
+			this.key = key;
+			this.form = form;
+			this.translated = translated;
+			this.weight = weight;
+			this.nanos = nanos;
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package ctlform;
+
+import ctl.Formula;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ *
+ * This class remembers the translations of composite sub-formulas, so that a
+ * memo passed to several translations only translates each sub-formula once.
+ * It pays off for formulas edited with {@link Formula#replaceAt(int[], Formula)}
+ * or {@link Formula#map(java.util.function.Function)}: the edited copy shares
+ * every untouched sub-formula with the original, each of them is found in the
+ * memo at the first lookup, and only the nodes on the edited path are
+ * translated again. Lookups compare formulas by structure, so equal formulas
+ * that are not shared are found as well. A memo can be used by several
+ * threads at once.
+ *
+ */
+
+public final class TranslationMemo {
+
+	static final int EXISTENTIAL = 0;	// existential normal forms of the keys
+	static final int POSITIVE = 1;		// positive normal forms of the keys
+
+	private final List<Map<Formula, Formula>> results = new ArrayList<>();	// indexed by kind
+
+	/**
+	 * Creates an empty memo.
+	 */
+	public TranslationMemo() {
+		for (int kind = EXISTENTIAL; kind <= POSITIVE; kind++)
+			results.add(new ConcurrentHashMap<>());
+	}
+
+	/**
+	 * Returns the remembered translation of {@code form}, or {@code null}.
+	 */
+	Formula get(int kind, Formula form) {
+		return results.get(kind).get(form);
+	}
+
+	/**
+	 * Remembers the translation of {@code form}.
+	 */
+	void put(int kind, Formula form, Formula translated) {
+		results.get(kind).put(form, translated);
+	}
+
+	/**
+	 * Returns the number of remembered translations.
+	 * @return	The number of sub-formulas translated into any normal form
+	 */
+	public int size() {
+		int size = 0;
+		for (Map<Formula, Formula> map : results)
+			size += map.size();
+		return size;
+	}
+
+	/**
+	 * Forgets all remembered translations.
+	 */
+	public void clear() {
+		for (Map<Formula, Formula> map : results)
+			map.clear();
+	}
+}
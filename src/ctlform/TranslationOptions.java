@@ -0,0 +1,99 @@
+package ctlform;
+
+import java.time.Duration;
+
+/**
+ *
+ * This class sets the budget of a translation: the number of nodes it may
+ * build, the time by which it must be done and a flag that cancels it. A
+ * translation checks the budget as it goes and throws a
+ * {@link TranslationAbortedException} as soon as it is used up, so a single
+ * huge formula cannot hold a thread or the heap for long. One options object
+ * can be shared by several translations, which are then cancelled together.
+ *
+ */
+
+public final class TranslationOptions {
+
+	private final long maxNodes;
+	private final long deadline;		// in System.nanoTime() time
+	private final boolean timed;
+	private volatile boolean cancelled;
+
+	/**
+	 * Creates options without a node limit or a deadline, whose translations
+	 * only end early when {@link #cancel()} is called.
+	 */
+	public TranslationOptions() {
+		this(Long.MAX_VALUE, null);
+	}
+
+	/**
+	 * Creates options with a node limit and a deadline.
+	 * @param	maxNodes	The number of nodes a translation may build
+	 * @param	timeout		The time from now by which translations must be done,
+	 * 						or {@code null} for no deadline
+	 * @throws	IllegalArgumentException	If {@code maxNodes} is not positive
+	 * 										or {@code timeout} is negative
+	 */
+	public TranslationOptions(long maxNodes, Duration timeout) {
+		if (maxNodes <= 0)
+			throw new IllegalArgumentException("maxNodes must be positive: " + maxNodes);
+		if (timeout != null && timeout.isNegative())
+			throw new IllegalArgumentException("timeout must not be negative: " + timeout);
+		this.maxNodes = maxNodes;
+		this.timed = timeout != null;
+		this.deadline = timed ? System.nanoTime() + saturatedNanos(timeout) : 0;
+	}
+
+	/**
+	 * Returns the number of nodes a translation may build.
+	 * @return	The node limit, or {@code Long.MAX_VALUE} for none
+	 */
+	public long getMaxNodes() {
+		return maxNodes;
+	}
+
+	/**
+	 * Returns the time left until the deadline.
+	 * @return	The time left, zero once the deadline has passed, or
+	 * 			{@code null} if there is no deadline
+	 */
+	public Duration getRemaining() {
+		if (!timed)
+			return null;
+		return Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+	}
+
+	/**
+	 * Cancels the running and future translations with these options. They
+	 * stop at their next check of the budget.
+	 */
+	public void cancel() {
+		cancelled = true;
+	}
+
+	/**
+	 * Checks if {@link #cancel()} has been called.
+	 * @return	Returns <i>true</i> if the translations are cancelled, and
+	 * 			<i>false</i> if otherwise.
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Checks if the deadline has passed.
+	 */
+	boolean isExpired(long now) {
+		return timed && now - deadline >= 0;
+	}
+
+	private static long saturatedNanos(Duration timeout) {
+		try {
+			return timeout.toNanos();
+		} catch (ArithmeticException e) {
+			return Long.MAX_VALUE / 2;
+		}
+	}
+}
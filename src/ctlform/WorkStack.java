@@ -0,0 +1,103 @@
+package ctlform;
+
+import ctl.Formula;
+
+import java.util.Arrays;
+
+/**
+ *
+ * This class holds the explicit stacks used by the normal form translations
+ * in place of the call stack: a stack of pending tasks, each made of an
+ * operation code and a formula, and a stack of translated formulas.
+ *
+ */
+
+final class WorkStack {
+
+	private byte[] ops = new byte[32];
+	private Formula[] operands = new Formula[32];
+	private int tasks;
+
+	private Formula[] values = new Formula[32];
+	private int count;
+
+	/**
+	 * Schedules a task. Tasks are run in the reverse order of scheduling.
+	 * @param	op			The operation code of the task
+	 * @param	operand		The formula the task works on, may be {@code null}
+	 */
+	void push(byte op, Formula operand) {
+		if (tasks == ops.length) {
+			ops = Arrays.copyOf(ops, tasks * 2);
+			operands = Arrays.copyOf(operands, tasks * 2);
+		}
+		ops[tasks] = op;
+		operands[tasks++] = operand;
+	}
+
+	/**
+	 * Checks if there are tasks left.
+	 * @return	Returns <i>true</i> if a task is pending, and <i>false</i> if otherwise.
+	 */
+	boolean hasTasks() {
+		return tasks > 0;
+	}
+
+	/**
+	 * Returns the operation code of the next task without removing it.
+	 * @return	The operation code given to {@link #push(byte, Formula)}
+	 */
+	byte peekOp() {
+		return ops[tasks - 1];
+	}
+
+	/**
+	 * Removes the next task.
+	 * @return	The formula the removed task works on
+	 */
+	Formula pop() {
+		Formula operand = operands[--tasks];
+		operands[tasks] = null;
+		return operand;
+	}
+
+	/**
+	 * Pushes a translated formula.
+	 * @param	value	The translated formula
+	 */
+	void pushValue(Formula value) {
+		if (count == values.length)
+			values = Arrays.copyOf(values, count * 2);
+		values[count++] = value;
+	}
+
+	/**
+	 * Removes the most recently pushed translated formula.
+	 * @return	The removed formula
+	 */
+	Formula popValue() {
+		Formula value = values[--count];
+		values[count] = null;
+		return value;
+	}
+
+	/**
+	 * Returns the most recently pushed translated formula without removing it.
+	 * @return	The formula on top of the value stack
+	 */
+	Formula peekValue() {
+		return values[count - 1];
+	}
+
+	/**
+	 * Removes the {@code n} most recently pushed translated formulas.
+	 * @param	n	The number of formulas to remove
+	 * @return	The removed formulas, in the order they were pushed
+	 */
+	Formula[] popValues(int n) {
+		Formula[] popped = Arrays.copyOfRange(values, count - n, count);
+		Arrays.fill(values, count - n, count, null);
+		count -= n;
+		return popped;
+	}
+}
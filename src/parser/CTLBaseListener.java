@@ -1,5 +1,5 @@
+// Generated from CTL.g4 by ANTLR 4.8
 package parser;
-// Generated from .\CTL.g4 by ANTLR 4.8
 
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ErrorNode;
@@ -23,6 +23,18 @@ public class CTLBaseListener implements CTLListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitRoot(CTLParser.RootContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterForAllRelease(CTLParser.ForAllReleaseContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitForAllRelease(CTLParser.ForAllReleaseContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -131,6 +143,30 @@ public class CTLBaseListener implements CTLListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitForAllEventually(CTLParser.ForAllEventuallyContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterForAllWeakUntil(CTLParser.ForAllWeakUntilContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitForAllWeakUntil(CTLParser.ForAllWeakUntilContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterExistsRelease(CTLParser.ExistsReleaseContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitExistsRelease(CTLParser.ExistsReleaseContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -215,6 +251,18 @@ public class CTLBaseListener implements CTLListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitExistsUntil(CTLParser.ExistsUntilContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterExistsWeakUntil(CTLParser.ExistsWeakUntilContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitExistsWeakUntil(CTLParser.ExistsWeakUntilContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
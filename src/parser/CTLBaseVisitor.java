@@ -1,5 +1,5 @@
+// Generated from CTL.g4 by ANTLR 4.8
 package parser;
-// Generated from .\CTL.g4 by ANTLR 4.8
 import org.antlr.v4.runtime.tree.AbstractParseTreeVisitor;
 
 /**
@@ -18,6 +18,13 @@ public class CTLBaseVisitor<T> extends AbstractParseTreeVisitor<T> implements CT
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
 	@Override public T visitRoot(CTLParser.RootContext ctx) { return visitChildren(ctx); }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of calling
+	 * {@link #visitChildren} on {@code ctx}.</p>
+	 */
+	@Override public T visitForAllRelease(CTLParser.ForAllReleaseContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -81,6 +88,20 @@ public class CTLBaseVisitor<T> extends AbstractParseTreeVisitor<T> implements CT
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
 	@Override public T visitForAllEventually(CTLParser.ForAllEventuallyContext ctx) { return visitChildren(ctx); }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of calling
+	 * {@link #visitChildren} on {@code ctx}.</p>
+	 */
+	@Override public T visitForAllWeakUntil(CTLParser.ForAllWeakUntilContext ctx) { return visitChildren(ctx); }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of calling
+	 * {@link #visitChildren} on {@code ctx}.</p>
+	 */
+	@Override public T visitExistsRelease(CTLParser.ExistsReleaseContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -130,6 +151,13 @@ public class CTLBaseVisitor<T> extends AbstractParseTreeVisitor<T> implements CT
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
 	@Override public T visitExistsUntil(CTLParser.ExistsUntilContext ctx) { return visitChildren(ctx); }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation returns the result of calling
+	 * {@link #visitChildren} on {@code ctx}.</p>
+	 */
+	@Override public T visitExistsWeakUntil(CTLParser.ExistsWeakUntilContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -1,5 +1,5 @@
+// Generated from CTL.g4 by ANTLR 4.8
 package parser;
-// Generated from .\CTL.g4 by ANTLR 4.8
 import org.antlr.v4.runtime.tree.ParseTreeListener;
 
 /**
@@ -17,6 +17,18 @@ public interface CTLListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitRoot(CTLParser.RootContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code ForAllRelease}
+	 * labeled alternative in {@link CTLParser#formula}.
+	 * @param ctx the parse tree
+	 */
+	void enterForAllRelease(CTLParser.ForAllReleaseContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code ForAllRelease}
+	 * labeled alternative in {@link CTLParser#formula}.
+	 * @param ctx the parse tree
+	 */
+	void exitForAllRelease(CTLParser.ForAllReleaseContext ctx);
 	/**
 	 * Enter a parse tree produced by the {@code Bracket}
 	 * labeled alternative in {@link CTLParser#formula}.
@@ -125,6 +137,30 @@ public interface CTLListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitForAllEventually(CTLParser.ForAllEventuallyContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code ForAllWeakUntil}
+	 * labeled alternative in {@link CTLParser#formula}.
+	 * @param ctx the parse tree
+	 */
+	void enterForAllWeakUntil(CTLParser.ForAllWeakUntilContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code ForAllWeakUntil}
+	 * labeled alternative in {@link CTLParser#formula}.
+	 * @param ctx the parse tree
+	 */
+	void exitForAllWeakUntil(CTLParser.ForAllWeakUntilContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code ExistsRelease}
+	 * labeled alternative in {@link CTLParser#formula}.
+	 * @param ctx the parse tree
+	 */
+	void enterExistsRelease(CTLParser.ExistsReleaseContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code ExistsRelease}
+	 * labeled alternative in {@link CTLParser#formula}.
+	 * @param ctx the parse tree
+	 */
+	void exitExistsRelease(CTLParser.ExistsReleaseContext ctx);
 	/**
 	 * Enter a parse tree produced by the {@code Not}
 	 * labeled alternative in {@link CTLParser#formula}.
@@ -209,6 +245,18 @@ public interface CTLListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitExistsUntil(CTLParser.ExistsUntilContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code ExistsWeakUntil}
+	 * labeled alternative in {@link CTLParser#formula}.
+	 * @param ctx the parse tree
+	 */
+	void enterExistsWeakUntil(CTLParser.ExistsWeakUntilContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code ExistsWeakUntil}
+	 * labeled alternative in {@link CTLParser#formula}.
+	 * @param ctx the parse tree
+	 */
+	void exitExistsWeakUntil(CTLParser.ExistsWeakUntilContext ctx);
 	/**
 	 * Enter a parse tree produced by the {@code ExistsNext}
 	 * labeled alternative in {@link CTLParser#formula}.
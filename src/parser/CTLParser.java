@@ -1,16 +1,13 @@
+// Generated from CTL.g4 by ANTLR 4.8
 package parser;
-// Generated from .\CTL.g4 by ANTLR 4.8
-
-import org.antlr.v4.runtime.*;
-import org.antlr.v4.runtime.atn.ATN;
-import org.antlr.v4.runtime.atn.ATNDeserializer;
-import org.antlr.v4.runtime.atn.ParserATNSimulator;
-import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.atn.*;
 import org.antlr.v4.runtime.dfa.DFA;
-import org.antlr.v4.runtime.tree.ParseTreeVisitor;
-import org.antlr.v4.runtime.tree.TerminalNode;
-
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
 import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
 
 @SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
 public class CTLParser extends Parser {
@@ -20,8 +17,9 @@ public class CTLParser extends Parser {
 	protected static final PredictionContextCache _sharedContextCache =
 		new PredictionContextCache();
 	public static final int
-		T__0=1, T__1=2, TRUE=3, FALSE=4, E=5, A=6, X=7, U=8, F=9, G=10, WEDGE=11, 
-		VEE=12, NEG=13, TO=14, EQUIV=15, ATOMIC_PROPOSITION=16, WS=17;
+		T__0=1, T__1=2, TRUE=3, FALSE=4, E=5, A=6, X=7, U=8, W=9, R=10, F=11, 
+		G=12, WEDGE=13, VEE=14, NEG=15, TO=16, EQUIV=17, ATOMIC_PROPOSITION=18, 
+		WS=19;
 	public static final int
 		RULE_root = 0, RULE_formula = 1;
 	private static String[] makeRuleNames() {
@@ -33,15 +31,15 @@ public class CTLParser extends Parser {
 
 	private static String[] makeLiteralNames() {
 		return new String[] {
-			null, "'('", "')'", null, null, "'E'", "'A'", "'X'", "'U'", "'F'", "'G'", 
-			"'&&'", "'||'", "'!'", "'->'", "'<->'"
+			null, "'('", "')'", null, null, "'E'", "'A'", "'X'", "'U'", "'W'", "'R'", 
+			"'F'", "'G'", "'&&'", "'||'", "'!'", "'->'", "'<->'"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
 	private static String[] makeSymbolicNames() {
 		return new String[] {
-			null, null, null, "TRUE", "FALSE", "E", "A", "X", "U", "F", "G", "WEDGE", 
-			"VEE", "NEG", "TO", "EQUIV", "ATOMIC_PROPOSITION", "WS"
+			null, null, null, "TRUE", "FALSE", "E", "A", "X", "U", "W", "R", "F", 
+			"G", "WEDGE", "VEE", "NEG", "TO", "EQUIV", "ATOMIC_PROPOSITION", "WS"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -107,6 +105,14 @@ public class CTLParser extends Parser {
 		}
 		@Override public int getRuleIndex() { return RULE_root; }
 		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterRoot(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitRoot(this);
+		}
+		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
 			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitRoot(this);
 			else return visitor.visitChildren(this);
@@ -158,12 +164,44 @@ public class CTLParser extends Parser {
 			super.copyFrom(ctx);
 		}
 	}
+	public static class ForAllReleaseContext extends FormulaContext {
+		public TerminalNode A() { return getToken(CTLParser.A, 0); }
+		public List<FormulaContext> formula() {
+			return getRuleContexts(FormulaContext.class);
+		}
+		public FormulaContext formula(int i) {
+			return getRuleContext(FormulaContext.class,i);
+		}
+		public TerminalNode R() { return getToken(CTLParser.R, 0); }
+		public ForAllReleaseContext(FormulaContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterForAllRelease(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitForAllRelease(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitForAllRelease(this);
+			else return visitor.visitChildren(this);
+		}
+	}
 	public static class BracketContext extends FormulaContext {
 		public FormulaContext formula() {
 			return getRuleContext(FormulaContext.class,0);
 		}
 		public BracketContext(FormulaContext ctx) { copyFrom(ctx); }
 		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterBracket(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitBracket(this);
+		}
+		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
 			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitBracket(this);
 			else return visitor.visitChildren(this);
@@ -177,6 +215,14 @@ public class CTLParser extends Parser {
 		}
 		public ForAllAlwaysContext(FormulaContext ctx) { copyFrom(ctx); }
 		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterForAllAlways(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitForAllAlways(this);
+		}
+		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
 			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitForAllAlways(this);
 			else return visitor.visitChildren(this);
@@ -192,6 +238,14 @@ public class CTLParser extends Parser {
 		public TerminalNode VEE() { return getToken(CTLParser.VEE, 0); }
 		public OrContext(FormulaContext ctx) { copyFrom(ctx); }
 		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterOr(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitOr(this);
+		}
+		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
 			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitOr(this);
 			else return visitor.visitChildren(this);
@@ -207,6 +261,14 @@ public class CTLParser extends Parser {
 		public TerminalNode EQUIV() { return getToken(CTLParser.EQUIV, 0); }
 		public IffContext(FormulaContext ctx) { copyFrom(ctx); }
 		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterIff(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitIff(this);
+		}
+		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
 			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitIff(this);
 			else return visitor.visitChildren(this);
@@ -216,6 +278,14 @@ public class CTLParser extends Parser {
 		public TerminalNode TRUE() { return getToken(CTLParser.TRUE, 0); }
 		public TrueContext(FormulaContext ctx) { copyFrom(ctx); }
 		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterTrue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitTrue(this);
+		}
+		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
 			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitTrue(this);
 			else return visitor.visitChildren(this);
@@ -225,6 +295,14 @@ public class CTLParser extends Parser {
 		public TerminalNode FALSE() { return getToken(CTLParser.FALSE, 0); }
 		public FalseContext(FormulaContext ctx) { copyFrom(ctx); }
 		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterFalse(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitFalse(this);
+		}
+		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
 			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitFalse(this);
 			else return visitor.visitChildren(this);
@@ -238,6 +316,14 @@ public class CTLParser extends Parser {
 		}
 		public ExistsEventuallyContext(FormulaContext ctx) { copyFrom(ctx); }
 		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterExistsEventually(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitExistsEventually(this);
+		}
+		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
 			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitExistsEventually(this);
 			else return visitor.visitChildren(this);
@@ -247,6 +333,14 @@ public class CTLParser extends Parser {
 		public TerminalNode ATOMIC_PROPOSITION() { return getToken(CTLParser.ATOMIC_PROPOSITION, 0); }
 		public AtomicPropositionContext(FormulaContext ctx) { copyFrom(ctx); }
 		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterAtomicProposition(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitAtomicProposition(this);
+		}
+		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
 			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitAtomicProposition(this);
 			else return visitor.visitChildren(this);
@@ -260,11 +354,67 @@ public class CTLParser extends Parser {
 		}
 		public ForAllEventuallyContext(FormulaContext ctx) { copyFrom(ctx); }
 		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterForAllEventually(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitForAllEventually(this);
+		}
+		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
 			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitForAllEventually(this);
 			else return visitor.visitChildren(this);
 		}
 	}
+	public static class ForAllWeakUntilContext extends FormulaContext {
+		public TerminalNode A() { return getToken(CTLParser.A, 0); }
+		public List<FormulaContext> formula() {
+			return getRuleContexts(FormulaContext.class);
+		}
+		public FormulaContext formula(int i) {
+			return getRuleContext(FormulaContext.class,i);
+		}
+		public TerminalNode W() { return getToken(CTLParser.W, 0); }
+		public ForAllWeakUntilContext(FormulaContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterForAllWeakUntil(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitForAllWeakUntil(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitForAllWeakUntil(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class ExistsReleaseContext extends FormulaContext {
+		public TerminalNode E() { return getToken(CTLParser.E, 0); }
+		public List<FormulaContext> formula() {
+			return getRuleContexts(FormulaContext.class);
+		}
+		public FormulaContext formula(int i) {
+			return getRuleContext(FormulaContext.class,i);
+		}
+		public TerminalNode R() { return getToken(CTLParser.R, 0); }
+		public ExistsReleaseContext(FormulaContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterExistsRelease(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitExistsRelease(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitExistsRelease(this);
+			else return visitor.visitChildren(this);
+		}
+	}
 	public static class NotContext extends FormulaContext {
 		public TerminalNode NEG() { return getToken(CTLParser.NEG, 0); }
 		public FormulaContext formula() {
@@ -272,6 +422,14 @@ public class CTLParser extends Parser {
 		}
 		public NotContext(FormulaContext ctx) { copyFrom(ctx); }
 		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterNot(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitNot(this);
+		}
+		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
 			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitNot(this);
 			else return visitor.visitChildren(this);
@@ -288,6 +446,14 @@ public class CTLParser extends Parser {
 		public TerminalNode U() { return getToken(CTLParser.U, 0); }
 		public ForAllUntilContext(FormulaContext ctx) { copyFrom(ctx); }
 		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterForAllUntil(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitForAllUntil(this);
+		}
+		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
 			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitForAllUntil(this);
 			else return visitor.visitChildren(this);
@@ -303,6 +469,14 @@ public class CTLParser extends Parser {
 		public TerminalNode TO() { return getToken(CTLParser.TO, 0); }
 		public ImpliesContext(FormulaContext ctx) { copyFrom(ctx); }
 		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterImplies(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitImplies(this);
+		}
+		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
 			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitImplies(this);
 			else return visitor.visitChildren(this);
@@ -316,6 +490,14 @@ public class CTLParser extends Parser {
 		}
 		public ForAllNextContext(FormulaContext ctx) { copyFrom(ctx); }
 		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterForAllNext(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitForAllNext(this);
+		}
+		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
 			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitForAllNext(this);
 			else return visitor.visitChildren(this);
@@ -331,6 +513,14 @@ public class CTLParser extends Parser {
 		public TerminalNode WEDGE() { return getToken(CTLParser.WEDGE, 0); }
 		public AndContext(FormulaContext ctx) { copyFrom(ctx); }
 		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterAnd(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitAnd(this);
+		}
+		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
 			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitAnd(this);
 			else return visitor.visitChildren(this);
@@ -344,6 +534,14 @@ public class CTLParser extends Parser {
 		}
 		public ExistsAlwaysContext(FormulaContext ctx) { copyFrom(ctx); }
 		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterExistsAlways(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitExistsAlways(this);
+		}
+		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
 			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitExistsAlways(this);
 			else return visitor.visitChildren(this);
@@ -360,11 +558,43 @@ public class CTLParser extends Parser {
 		public TerminalNode U() { return getToken(CTLParser.U, 0); }
 		public ExistsUntilContext(FormulaContext ctx) { copyFrom(ctx); }
 		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterExistsUntil(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitExistsUntil(this);
+		}
+		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
 			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitExistsUntil(this);
 			else return visitor.visitChildren(this);
 		}
 	}
+	public static class ExistsWeakUntilContext extends FormulaContext {
+		public TerminalNode E() { return getToken(CTLParser.E, 0); }
+		public List<FormulaContext> formula() {
+			return getRuleContexts(FormulaContext.class);
+		}
+		public FormulaContext formula(int i) {
+			return getRuleContext(FormulaContext.class,i);
+		}
+		public TerminalNode W() { return getToken(CTLParser.W, 0); }
+		public ExistsWeakUntilContext(FormulaContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterExistsWeakUntil(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitExistsWeakUntil(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitExistsWeakUntil(this);
+			else return visitor.visitChildren(this);
+		}
+	}
 	public static class ExistsNextContext extends FormulaContext {
 		public TerminalNode E() { return getToken(CTLParser.E, 0); }
 		public TerminalNode X() { return getToken(CTLParser.X, 0); }
@@ -373,6 +603,14 @@ public class CTLParser extends Parser {
 		}
 		public ExistsNextContext(FormulaContext ctx) { copyFrom(ctx); }
 		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).enterExistsNext(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof CTLListener ) ((CTLListener)listener).exitExistsNext(this);
+		}
+		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
 			if ( visitor instanceof CTLVisitor ) return ((CTLVisitor<? extends T>)visitor).visitExistsNext(this);
 			else return visitor.visitChildren(this);
@@ -394,7 +632,7 @@ public class CTLParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(52);
+			setState(80);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,1,_ctx) ) {
 			case 1:
@@ -419,7 +657,7 @@ public class CTLParser extends Parser {
 				setState(15);
 				match(NEG);
 				setState(16);
-				formula(16);
+				formula(20);
 				}
 				break;
 			case 3:
@@ -459,7 +697,7 @@ public class CTLParser extends Parser {
 				setState(21);
 				match(X);
 				setState(22);
-				formula(12);
+				formula(16);
 				}
 				break;
 			case 7:
@@ -472,7 +710,7 @@ public class CTLParser extends Parser {
 				setState(24);
 				match(F);
 				setState(25);
-				formula(11);
+				formula(15);
 				}
 				break;
 			case 8:
@@ -485,7 +723,7 @@ public class CTLParser extends Parser {
 				setState(27);
 				match(G);
 				setState(28);
-				formula(10);
+				formula(14);
 				}
 				break;
 			case 9:
@@ -509,65 +747,141 @@ public class CTLParser extends Parser {
 				break;
 			case 10:
 				{
-				_localctx = new ExistsNextContext(_localctx);
+				_localctx = new ForAllWeakUntilContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
 				setState(36);
-				match(E);
+				match(A);
 				setState(37);
-				match(X);
+				match(T__0);
 				setState(38);
-				formula(8);
+				formula(0);
+				setState(39);
+				match(W);
+				setState(40);
+				formula(0);
+				setState(41);
+				match(T__1);
 				}
 				break;
 			case 11:
+				{
+				_localctx = new ForAllReleaseContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(43);
+				match(A);
+				setState(44);
+				match(T__0);
+				setState(45);
+				formula(0);
+				setState(46);
+				match(R);
+				setState(47);
+				formula(0);
+				setState(48);
+				match(T__1);
+				}
+				break;
+			case 12:
+				{
+				_localctx = new ExistsNextContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(50);
+				match(E);
+				setState(51);
+				match(X);
+				setState(52);
+				formula(10);
+				}
+				break;
+			case 13:
 				{
 				_localctx = new ExistsEventuallyContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(39);
+				setState(53);
 				match(E);
-				setState(40);
+				setState(54);
 				match(F);
-				setState(41);
-				formula(7);
+				setState(55);
+				formula(9);
 				}
 				break;
-			case 12:
+			case 14:
 				{
 				_localctx = new ExistsAlwaysContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(42);
+				setState(56);
 				match(E);
-				setState(43);
+				setState(57);
 				match(G);
-				setState(44);
-				formula(6);
+				setState(58);
+				formula(8);
 				}
 				break;
-			case 13:
+			case 15:
 				{
 				_localctx = new ExistsUntilContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(45);
+				setState(59);
 				match(E);
-				setState(46);
+				setState(60);
 				match(T__0);
-				setState(47);
+				setState(61);
 				formula(0);
-				setState(48);
+				setState(62);
 				match(U);
-				setState(49);
+				setState(63);
 				formula(0);
-				setState(50);
+				setState(64);
+				match(T__1);
+				}
+				break;
+			case 16:
+				{
+				_localctx = new ExistsWeakUntilContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(66);
+				match(E);
+				setState(67);
+				match(T__0);
+				setState(68);
+				formula(0);
+				setState(69);
+				match(W);
+				setState(70);
+				formula(0);
+				setState(71);
+				match(T__1);
+				}
+				break;
+			case 17:
+				{
+				_localctx = new ExistsReleaseContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(73);
+				match(E);
+				setState(74);
+				match(T__0);
+				setState(75);
+				formula(0);
+				setState(76);
+				match(R);
+				setState(77);
+				formula(0);
+				setState(78);
 				match(T__1);
 				}
 				break;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(68);
+			setState(96);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -575,18 +889,18 @@ public class CTLParser extends Parser {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(66);
+					setState(94);
 					_errHandler.sync(this);
 					switch ( getInterpreter().adaptivePredict(_input,2,_ctx) ) {
 					case 1:
 						{
 						_localctx = new AndContext(new FormulaContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_formula);
-						setState(54);
+						setState(82);
 						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-						setState(55);
+						setState(83);
 						match(WEDGE);
-						setState(56);
+						setState(84);
 						formula(5);
 						}
 						break;
@@ -594,11 +908,11 @@ public class CTLParser extends Parser {
 						{
 						_localctx = new OrContext(new FormulaContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_formula);
-						setState(57);
+						setState(85);
 						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
-						setState(58);
+						setState(86);
 						match(VEE);
-						setState(59);
+						setState(87);
 						formula(3);
 						}
 						break;
@@ -606,11 +920,11 @@ public class CTLParser extends Parser {
 						{
 						_localctx = new ImpliesContext(new FormulaContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_formula);
-						setState(60);
+						setState(88);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(61);
+						setState(89);
 						match(TO);
-						setState(62);
+						setState(90);
 						formula(2);
 						}
 						break;
@@ -618,18 +932,18 @@ public class CTLParser extends Parser {
 						{
 						_localctx = new IffContext(new FormulaContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_formula);
-						setState(63);
+						setState(91);
 						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-						setState(64);
+						setState(92);
 						match(EQUIV);
-						setState(65);
+						setState(93);
 						formula(1);
 						}
 						break;
 					}
 					} 
 				}
-				setState(70);
+				setState(98);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
 			}
@@ -668,27 +982,33 @@ public class CTLParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\23J\4\2\t\2\4\3\t"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\25f\4\2\t\2\4\3\t"+
 		"\3\3\2\7\2\b\n\2\f\2\16\2\13\13\2\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3"+
 		"\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3"+
-		"\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\5\3\67"+
-		"\n\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\7\3E\n\3\f\3\16\3"+
-		"H\13\3\3\3\2\3\4\4\2\4\2\2\2X\2\t\3\2\2\2\4\66\3\2\2\2\6\b\5\4\3\2\7\6"+
-		"\3\2\2\2\b\13\3\2\2\2\t\7\3\2\2\2\t\n\3\2\2\2\n\3\3\2\2\2\13\t\3\2\2\2"+
-		"\f\r\b\3\1\2\r\16\7\3\2\2\16\17\5\4\3\2\17\20\7\4\2\2\20\67\3\2\2\2\21"+
-		"\22\7\17\2\2\22\67\5\4\3\22\23\67\7\5\2\2\24\67\7\6\2\2\25\67\7\22\2\2"+
-		"\26\27\7\b\2\2\27\30\7\t\2\2\30\67\5\4\3\16\31\32\7\b\2\2\32\33\7\13\2"+
-		"\2\33\67\5\4\3\r\34\35\7\b\2\2\35\36\7\f\2\2\36\67\5\4\3\f\37 \7\b\2\2"+
-		" !\7\3\2\2!\"\5\4\3\2\"#\7\n\2\2#$\5\4\3\2$%\7\4\2\2%\67\3\2\2\2&\'\7"+
-		"\7\2\2\'(\7\t\2\2(\67\5\4\3\n)*\7\7\2\2*+\7\13\2\2+\67\5\4\3\t,-\7\7\2"+
-		"\2-.\7\f\2\2.\67\5\4\3\b/\60\7\7\2\2\60\61\7\3\2\2\61\62\5\4\3\2\62\63"+
-		"\7\n\2\2\63\64\5\4\3\2\64\65\7\4\2\2\65\67\3\2\2\2\66\f\3\2\2\2\66\21"+
-		"\3\2\2\2\66\23\3\2\2\2\66\24\3\2\2\2\66\25\3\2\2\2\66\26\3\2\2\2\66\31"+
-		"\3\2\2\2\66\34\3\2\2\2\66\37\3\2\2\2\66&\3\2\2\2\66)\3\2\2\2\66,\3\2\2"+
-		"\2\66/\3\2\2\2\67F\3\2\2\289\f\6\2\29:\7\r\2\2:E\5\4\3\7;<\f\5\2\2<=\7"+
-		"\16\2\2=E\5\4\3\5>?\f\4\2\2?@\7\20\2\2@E\5\4\3\4AB\f\3\2\2BC\7\21\2\2"+
-		"CE\5\4\3\3D8\3\2\2\2D;\3\2\2\2D>\3\2\2\2DA\3\2\2\2EH\3\2\2\2FD\3\2\2\2"+
-		"FG\3\2\2\2G\5\3\2\2\2HF\3\2\2\2\6\t\66DF";
+		"\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3"+
+		"\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3"+
+		"\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\5\3S\n\3\3\3\3\3\3\3\3\3\3\3\3\3\3"+
+		"\3\3\3\3\3\3\3\3\3\3\3\7\3a\n\3\f\3\16\3d\13\3\3\3\2\3\4\4\2\4\2\2\2x"+
+		"\2\t\3\2\2\2\4R\3\2\2\2\6\b\5\4\3\2\7\6\3\2\2\2\b\13\3\2\2\2\t\7\3\2\2"+
+		"\2\t\n\3\2\2\2\n\3\3\2\2\2\13\t\3\2\2\2\f\r\b\3\1\2\r\16\7\3\2\2\16\17"+
+		"\5\4\3\2\17\20\7\4\2\2\20S\3\2\2\2\21\22\7\21\2\2\22S\5\4\3\26\23S\7\5"+
+		"\2\2\24S\7\6\2\2\25S\7\24\2\2\26\27\7\b\2\2\27\30\7\t\2\2\30S\5\4\3\22"+
+		"\31\32\7\b\2\2\32\33\7\r\2\2\33S\5\4\3\21\34\35\7\b\2\2\35\36\7\16\2\2"+
+		"\36S\5\4\3\20\37 \7\b\2\2 !\7\3\2\2!\"\5\4\3\2\"#\7\n\2\2#$\5\4\3\2$%"+
+		"\7\4\2\2%S\3\2\2\2&\'\7\b\2\2\'(\7\3\2\2()\5\4\3\2)*\7\13\2\2*+\5\4\3"+
+		"\2+,\7\4\2\2,S\3\2\2\2-.\7\b\2\2./\7\3\2\2/\60\5\4\3\2\60\61\7\f\2\2\61"+
+		"\62\5\4\3\2\62\63\7\4\2\2\63S\3\2\2\2\64\65\7\7\2\2\65\66\7\t\2\2\66S"+
+		"\5\4\3\f\678\7\7\2\289\7\r\2\29S\5\4\3\13:;\7\7\2\2;<\7\16\2\2<S\5\4\3"+
+		"\n=>\7\7\2\2>?\7\3\2\2?@\5\4\3\2@A\7\n\2\2AB\5\4\3\2BC\7\4\2\2CS\3\2\2"+
+		"\2DE\7\7\2\2EF\7\3\2\2FG\5\4\3\2GH\7\13\2\2HI\5\4\3\2IJ\7\4\2\2JS\3\2"+
+		"\2\2KL\7\7\2\2LM\7\3\2\2MN\5\4\3\2NO\7\f\2\2OP\5\4\3\2PQ\7\4\2\2QS\3\2"+
+		"\2\2R\f\3\2\2\2R\21\3\2\2\2R\23\3\2\2\2R\24\3\2\2\2R\25\3\2\2\2R\26\3"+
+		"\2\2\2R\31\3\2\2\2R\34\3\2\2\2R\37\3\2\2\2R&\3\2\2\2R-\3\2\2\2R\64\3\2"+
+		"\2\2R\67\3\2\2\2R:\3\2\2\2R=\3\2\2\2RD\3\2\2\2RK\3\2\2\2Sb\3\2\2\2TU\f"+
+		"\6\2\2UV\7\17\2\2Va\5\4\3\7WX\f\5\2\2XY\7\20\2\2Ya\5\4\3\5Z[\f\4\2\2["+
+		"\\\7\22\2\2\\a\5\4\3\4]^\f\3\2\2^_\7\23\2\2_a\5\4\3\3`T\3\2\2\2`W\3\2"+
+		"\2\2`Z\3\2\2\2`]\3\2\2\2ad\3\2\2\2b`\3\2\2\2bc\3\2\2\2c\5\3\2\2\2db\3"+
+		"\2\2\2\6\tR`b";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
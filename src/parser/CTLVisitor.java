@@ -1,5 +1,5 @@
+// Generated from CTL.g4 by ANTLR 4.8
 package parser;
-// Generated from .\CTL.g4 by ANTLR 4.8
 import org.antlr.v4.runtime.tree.ParseTreeVisitor;
 
 /**
@@ -16,6 +16,13 @@ public interface CTLVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitRoot(CTLParser.RootContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code ForAllRelease}
+	 * labeled alternative in {@link CTLParser#formula}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitForAllRelease(CTLParser.ForAllReleaseContext ctx);
 	/**
 	 * Visit a parse tree produced by the {@code Bracket}
 	 * labeled alternative in {@link CTLParser#formula}.
@@ -79,6 +86,20 @@ public interface CTLVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitForAllEventually(CTLParser.ForAllEventuallyContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code ForAllWeakUntil}
+	 * labeled alternative in {@link CTLParser#formula}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitForAllWeakUntil(CTLParser.ForAllWeakUntilContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code ExistsRelease}
+	 * labeled alternative in {@link CTLParser#formula}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitExistsRelease(CTLParser.ExistsReleaseContext ctx);
 	/**
 	 * Visit a parse tree produced by the {@code Not}
 	 * labeled alternative in {@link CTLParser#formula}.
@@ -128,6 +149,13 @@ public interface CTLVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitExistsUntil(CTLParser.ExistsUntilContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code ExistsWeakUntil}
+	 * labeled alternative in {@link CTLParser#formula}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitExistsWeakUntil(CTLParser.ExistsWeakUntilContext ctx);
 	/**
 	 * Visit a parse tree produced by the {@code ExistsNext}
 	 * labeled alternative in {@link CTLParser#formula}.
@@ -2,15 +2,28 @@ package parser;
 
 import ctl.Formula;
 import ctl.Generator;
+import ctlform.ExistentialNormalForm;
+import ctlform.PositiveNormalForm;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
 
+import java.io.BufferedWriter;
+import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 
 public class Main {
 
+	/**
+	 * Parses the formula in the file named by the first argument and prints its
+	 * parse tree and the formula. An optional second argument, {@code enf} or
+	 * {@code pnf}, also prints the translated formula, which is streamed to the
+	 * file named by an optional third argument instead of standard output.
+	 * @param	args	The input file, then optionally the normal form and the output file
+	 */
 	public static void main(String[] args) {
 		try {
 			String filename = args[0];
@@ -19,14 +32,31 @@ public class Main {
 			CommonTokenStream tokens = new CommonTokenStream(lexer);
 			CTLParser parser = new CTLParser(tokens);
 			ParseTree tree = parser.root();
-			System.out.println(tree.toStringTree()); // 1st line of output
+			Writer out = new BufferedWriter(new OutputStreamWriter(System.out));
+			out.write(tree.toStringTree()); // 1st line of output
+			out.write(System.lineSeparator());
 			Generator generator = new Generator();
 			Formula formula = generator.visit(tree);
-			System.out.println(formula.toString()); // 2nd line of output
+			formula.appendTo(out); // 2nd line of output
+			out.write(System.lineSeparator());
+			if (args.length > 1) {
+				Formula translated = args[1].equalsIgnoreCase("pnf") ? PositiveNormalForm.translate(formula)
+						: ExistentialNormalForm.translate(formula);
+				if (args.length > 2) {
+					try (Writer file = new BufferedWriter(new FileWriter(args[2]))) {
+						translated.appendTo(file);
+						file.write(System.lineSeparator());
+					}
+				} else {
+					translated.appendTo(out); // 3rd line of output
+					out.write(System.lineSeparator());
+				}
+			}
+			out.flush();
 		} catch (IndexOutOfBoundsException e) {
 			System.out.println("Provide a command line argument");
 		} catch (IOException e) {
-			System.out.println("Something went wrong with reading the input");			
+			System.out.println("Something went wrong with reading the input or writing the output");
 		}
 	}
 }
@@ -0,0 +1,63 @@
+package test;
+
+import ctl.Formula;
+import ctlform.ExistentialNormalForm;
+import ctlform.PositiveNormalForm;
+import ctlform.RandomFormula;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ *
+ * Class for testing the batch translations that share a memo table
+ *
+ */
+
+class BatchTranslationTest {
+
+    /**
+     *
+     * Test for asserting that a batch is translated like its formulas one by
+     * one, in the order of the formulas
+     *
+     */
+    @Test
+    void testSameAsOneByOne() {
+        List<Formula> forms = new ArrayList<>();
+        for (int i = 0; i < 500; i++)
+            forms.add(i % 2 == 0 ? RandomFormula.generateTranslatableExistentialStateFormula(4)
+                    : RandomFormula.generateDeepStateFormula(40, i));
+
+        List<Formula> existential = ExistentialNormalForm.translateAll(forms);
+        List<Formula> positive = PositiveNormalForm.translateAll(forms.stream());
+
+        Assertions.assertEquals(forms.size(), existential.size());
+        for (int i = 0; i < forms.size(); i++) {
+            Assertions.assertEquals(ExistentialNormalForm.translate(forms.get(i)), existential.get(i));
+            Assertions.assertEquals(PositiveNormalForm.translate(forms.get(i)), positive.get(i));
+        }
+    }
+
+    /**
+     *
+     * Test for asserting that a batch runs on the pool it is given
+     *
+     */
+    @Test
+    void testCustomPool() {
+        List<Formula> forms = new ArrayList<>();
+        for (int i = 0; i < 100; i++)
+            forms.add(RandomFormula.generateDeepStateFormula(20, i));
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Assertions.assertEquals(ExistentialNormalForm.translateAll(forms), ExistentialNormalForm.translateAll(forms, pool));
+            Assertions.assertEquals(PositiveNormalForm.translateAll(forms), PositiveNormalForm.translateAll(forms.stream(), pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
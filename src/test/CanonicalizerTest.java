@@ -0,0 +1,137 @@
+package test;
+
+import ctl.*;
+import ctlform.Canonicalizer;
+import ctlform.ExistentialNormalForm;
+import ctlform.RandomFormula;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import parser.CTLLexer;
+import parser.CTLParser;
+
+/**
+ *
+ * Class for testing the canonical ordering of commutative operators
+ *
+ */
+
+class CanonicalizerTest {
+
+    public static final String p1 = "java.lang.error";
+    public static final String p2 = "java.lang.exception";
+    public static final String p3 = "java.lang.throwable";
+
+    /**
+   	 * Function to return a {@code Formula} from the inputed String in.
+   	 * @param	in	The string representation of the {@code Formula}.
+   	 * @return	Returns a {@code Formula}.
+   	 */
+    private static Formula getFormula(String in) {
+        CharStream input = CharStreams.fromString(in);
+        CTLLexer lexer = new CTLLexer(input);
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        CTLParser parser = new CTLParser(tokens);
+        ParseTree tree = parser.root();
+        Generator generator = new Generator();
+        return generator.visit(tree);
+    }
+
+    /**
+     *
+     * Test for asserting that reordered and regrouped operands of commutative
+     * operators give the same canonical formula
+     *
+     */
+    @Test
+    void testReorderedOperands() {
+        Formula first = Canonicalizer.canonicalize(getFormula(p1 + " && (" + p2 + " && " + p3 + ")"));
+        Formula second = Canonicalizer.canonicalize(getFormula("(" + p3 + " && " + p1 + ") && " + p2));
+        Formula third = Canonicalizer.canonicalize(getFormula("AX (" + p2 + " || !" + p1 + ") <-> " + p3));
+        Formula fourth = Canonicalizer.canonicalize(getFormula(p3 + " <-> AX (!" + p1 + " || " + p2 + ")"));
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals("(" + p1 + ")&&((" + p2 + ")&&(" + p3 + "))", first.toString());
+        Assertions.assertSame(third, fourth);
+        Assertions.assertNotEquals(first, Canonicalizer.canonicalize(getFormula(p1 + " || " + p2 + " || " + p3)));
+    }
+
+    /**
+     *
+     * Test for asserting that canonicalization is idempotent and keeps the
+     * size of the formula
+     *
+     */
+    @Test
+    void testIdempotent() {
+        for (int i = 0; i < 1000; i++) {
+            Formula generated = RandomFormula.UntranslatableRandomFormula(6);
+            Formula canonical = Canonicalizer.canonicalize(generated);
+            Assertions.assertSame(canonical, Canonicalizer.canonicalize(canonical));
+            Assertions.assertEquals(generated.size(), canonical.size());
+        }
+    }
+
+    /**
+     *
+     * Test for asserting that a shared sub-formula is canonicalized once, so
+     * the translation of deeply nested untils is canonicalized quickly
+     *
+     */
+    @Test
+    void testSharedSubFormulas() {
+        StateFormula q = Formulas.atom(p2);
+        StateFormula nested = Formulas.atom(p1);
+        for (int i = 0; i < 40; i++)
+            nested = Formulas.forAll(Formulas.until(q, Formulas.or(nested, Formulas.atom(p3))));
+        Formula translated = ExistentialNormalForm.translate(nested);
+
+        Formula canonical = Canonicalizer.canonicalize(translated);
+
+        Assertions.assertTrue(canonical.dagSize() <= translated.dagSize());
+        Assertions.assertEquals(translated.size(), canonical.size());
+        Assertions.assertSame(canonical, Canonicalizer.canonicalize(canonical));
+    }
+
+    /**
+     *
+     * Test for asserting that the order is a total order consistent with equals
+     *
+     */
+    @Test
+    void testOrder() {
+        for (int i = 0; i < 1000; i++) {
+            Formula a = RandomFormula.UntranslatableRandomFormula(4);
+            Formula b = RandomFormula.UntranslatableRandomFormula(4);
+            int ab = FormulaOrder.INSTANCE.compare(a, b);
+            Assertions.assertEquals(-Integer.signum(ab), Integer.signum(FormulaOrder.INSTANCE.compare(b, a)));
+            Assertions.assertEquals(a.equals(b), ab == 0);
+            Assertions.assertEquals(0, FormulaOrder.INSTANCE.compare(a, Formulas.intern(a)));
+        }
+    }
+
+    /**
+     *
+     * Test for asserting that the factory option builds the canonical form
+     * directly
+     *
+     */
+    @Test
+    void testFactoryOption() {
+        Formulas.setCanonicalOrdering(true);
+        try {
+            StateFormula first = Formulas.and(Formulas.atom(p3), Formulas.and(Formulas.atom(p2), Formulas.atom(p1)));
+            StateFormula second = Formulas.and(Formulas.and(Formulas.atom(p1), Formulas.atom(p3)), Formulas.atom(p2));
+
+            Assertions.assertSame(first, second);
+            Assertions.assertSame(Canonicalizer.canonicalize(getFormula(p2 + " && " + p1 + " && " + p3)), first);
+            Assertions.assertSame(Formulas.iff(Formulas.atom(p2), Formulas.atom(p1)), Formulas.iff(Formulas.atom(p1), Formulas.atom(p2)));
+        } finally {
+            Formulas.setCanonicalOrdering(false);
+        }
+        Assertions.assertNotSame(Formulas.or(Formulas.atom(p2), Formulas.atom(p1)), Formulas.or(Formulas.atom(p1), Formulas.atom(p2)));
+    }
+}
@@ -0,0 +1,86 @@
+package test;
+
+import ctl.*;
+import ctlform.ExistentialNormalForm;
+import ctlform.RandomFormula;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import parser.CTLLexer;
+import parser.CTLParser;
+
+/**
+ *
+ * Class for testing the printer with the fewest parentheses
+ *
+ */
+
+class CompactPrinterTest {
+
+    public static final String p1 = "java.lang.error";
+    public static final String p2 = "java.lang.exception";
+    public static final String p3 = "java.lang.throwable";
+
+    /**
+   	 * Function to return a {@code Formula} from the inputed String in.
+   	 * @param	in	The string representation of the {@code Formula}.
+   	 * @return	Returns a {@code Formula}.
+   	 */
+    private static Formula getFormula(String in) {
+        CharStream input = CharStreams.fromString(in);
+        CTLLexer lexer = new CTLLexer(input);
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        CTLParser parser = new CTLParser(tokens);
+        ParseTree tree = parser.root();
+        Generator generator = new Generator();
+        return generator.visit(tree);
+    }
+
+    /**
+     *
+     * Test for asserting that only the parentheses needed by the grammar are
+     * printed
+     *
+     */
+    @Test
+    void testParentheses() {
+        StateFormula a = new AtomicProposition(p1);
+        StateFormula b = new AtomicProposition(p2);
+        StateFormula c = new AtomicProposition(p3);
+
+        Assertions.assertEquals(p1 + "&&" + p2 + "||!" + p3, new Or(new And(a, b), new Not(c)).toCompactString());
+        Assertions.assertEquals(p1 + "&&(" + p2 + "&&" + p3 + ")", new And(a, new And(b, c)).toCompactString());
+        Assertions.assertEquals(p1 + "&&" + p2 + "&&" + p3, new And(new And(a, b), c).toCompactString());
+        Assertions.assertEquals("(" + p1 + "||" + p2 + ")||" + p3, new Or(new Or(a, b), c).toCompactString());
+        Assertions.assertEquals(p1 + "->" + p2 + "->" + p3, new Implies(a, new Implies(b, c)).toCompactString());
+        Assertions.assertEquals("!(" + p1 + "<->" + p2 + ")", new Not(new Iff(a, b)).toCompactString());
+        Assertions.assertEquals("AX !" + p1, new ForAll(new Next(new Not(a))).toCompactString());
+        Assertions.assertEquals("EG (" + p1 + "->" + p2 + ")", new Exists(new Always(new Implies(a, b))).toCompactString());
+        Assertions.assertEquals("A(" + p1 + "||" + p2 + " U AF " + p3 + ")",
+                new ForAll(new Until(new Or(a, b), new ForAll(new Eventually(c)))).toCompactString());
+    }
+
+    /**
+     *
+     * Test for asserting that compact output parses back to an equal formula
+     * and is shorter than the bracketed output
+     *
+     */
+    @Test
+    void testRoundTrip() {
+        int checked = 0;
+        for (int i = 0; i < 2000; i++) {
+            Formula generated = RandomFormula.generateUntranslatableStateFormula(6);
+            String compact = generated.toCompactString();
+            Assertions.assertEquals(generated, getFormula(compact), compact);
+            Formula translated = ExistentialNormalForm.translate(generated);
+            Assertions.assertEquals(translated, getFormula(translated.toCompactString()));
+            Assertions.assertTrue(compact.length() < generated.toString().length());
+            checked++;
+        }
+        Assertions.assertTrue(checked > 100);
+    }
+}
@@ -0,0 +1,125 @@
+package test;
+
+import ctl.*;
+import ctlform.ExistentialNormalForm;
+import ctlform.PositiveNormalForm;
+import ctlform.RandomFormula;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ *
+ * Class for testing that very deep formulas can be compared, printed and
+ * translated without overflowing the call stack
+ *
+ */
+
+class DeepFormulaTest {
+
+    public static final String p1 = "java.lang.error";
+    public static final int DEPTH = 100000;
+
+    /**
+   	 * Function to return a chain of {@code depth} negations of an atomic proposition.
+   	 * @param	depth	The number of negations.
+   	 * @return	Returns the negated {@code StateFormula}.
+   	 */
+    private static StateFormula negations(int depth) {
+        StateFormula formula = new AtomicProposition(p1);
+        for (int i = 0; i < depth; i++)
+            formula = new Not(formula);
+        return formula;
+    }
+
+    /**
+   	 * Function to return a right-nested chain of {@code depth} conjunctions.
+   	 * @param	depth	The number of conjunctions.
+   	 * @return	Returns the conjunction {@code StateFormula}.
+   	 */
+    private static StateFormula conjunctions(int depth) {
+        StateFormula formula = new True();
+        for (int i = 0; i < depth; i++)
+            formula = new And(new Not(new AtomicProposition(p1)), formula);
+        return formula;
+    }
+
+    /**
+     *
+     * Test for asserting that deep formulas are compared and hashed structurally
+     *
+     */
+    @Test
+    void testDeepEquality() {
+        Assertions.assertEquals(negations(DEPTH), negations(DEPTH));
+        Assertions.assertEquals(negations(DEPTH).hashCode(), negations(DEPTH).hashCode());
+        Assertions.assertNotEquals(negations(DEPTH), negations(DEPTH - 1));
+        Assertions.assertEquals(conjunctions(DEPTH), conjunctions(DEPTH));
+        Assertions.assertEquals(RandomFormula.generateDeepStateFormula(DEPTH, 7), RandomFormula.generateDeepStateFormula(DEPTH, 7));
+    }
+
+    /**
+     *
+     * Test for asserting that deep formulas are printed in full
+     *
+     */
+    @Test
+    void testDeepToString() {
+        String printed = negations(DEPTH).toString();
+
+        Assertions.assertEquals(3 * DEPTH + p1.length(), printed.length());
+        Assertions.assertEquals(2 * DEPTH, printed.indexOf(p1));
+        Assertions.assertEquals(("(!(" + p1 + "))&&(").length() * DEPTH + "true".length() + DEPTH,
+                conjunctions(DEPTH).toString().length());
+    }
+
+    /**
+     *
+     * Test for asserting that a deep formula streamed to a writer is the same
+     * text as its string representation
+     *
+     */
+    @Test
+    void testDeepAppendTo() throws IOException {
+        StateFormula formula = conjunctions(DEPTH);
+        StringWriter out = new StringWriter();
+        formula.appendTo(out);
+
+        Assertions.assertEquals(formula.toString(), out.toString());
+    }
+
+    /**
+     *
+     * Test for asserting that deep formulas are translated into both normal forms
+     *
+     */
+    @Test
+    void testDeepTranslation() {
+        Assertions.assertEquals(p1, PositiveNormalForm.translate(negations(DEPTH)).toString());
+        Assertions.assertEquals("!(" + p1 + ")", PositiveNormalForm.translate(negations(DEPTH + 1)).toString());
+        Assertions.assertEquals(conjunctions(DEPTH), PositiveNormalForm.translate(conjunctions(DEPTH)));
+        Assertions.assertEquals(conjunctions(DEPTH), ExistentialNormalForm.translate(conjunctions(DEPTH)));
+
+        Formula deep = RandomFormula.generateDeepStateFormula(DEPTH, 11);
+        Formula translated = ExistentialNormalForm.translate(deep);
+        Assertions.assertSame(translated, Formulas.intern(translated));
+    }
+
+    /**
+     *
+     * Test for asserting that the work stack translations give the same result
+     * as the recursive translations on formulas of ordinary depth
+     *
+     */
+    @Test
+    void testSameAsRecursiveTranslation() {
+        for (int i = 0; i < 1000; i++) {
+            Formula generated = RandomFormula.translatableENFRandomFormula(6);
+            Assertions.assertEquals(generated.existentialNormalForm(), ExistentialNormalForm.translate(generated));
+            generated = RandomFormula.translatablePNFRandomFormula(6);
+            Assertions.assertEquals(generated.positiveNormalForm(), PositiveNormalForm.translate(generated));
+        }
+    }
+}
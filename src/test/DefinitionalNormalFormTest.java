@@ -0,0 +1,95 @@
+package test;
+
+import ctl.*;
+import ctlform.DefinitionalNormalForm;
+import ctlform.ExistentialNormalForm;
+import ctlform.RandomFormula;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Class for testing the existential normal form with definitions
+ *
+ */
+
+class DefinitionalNormalFormTest {
+
+    public static final String p1 = "java.lang.error";
+    public static final String p2 = "java.lang.exception";
+    public static final String p3 = "java.lang.throwable";
+    public static final String p4 = "java.lang.object";
+
+    /**
+     *
+     * Test for asserting that expanding the definitions gives the plain
+     * existential normal form
+     *
+     */
+    @Test
+    void testExpand() {
+        for (int i = 0; i < 200; i++) {
+            Formula formula = i % 2 == 0 ? RandomFormula.generateTranslatableExistentialStateFormula(5)
+                    : RandomFormula.generateDeepStateFormula(60, i);
+
+            Assertions.assertEquals(ExistentialNormalForm.translate(formula), DefinitionalNormalForm.translate(formula).expand());
+        }
+    }
+
+    /**
+     *
+     * Test for asserting that nested universal untils grow the definitional
+     * form linearly
+     *
+     */
+    @Test
+    void testNestedUntilsGrowLinearly() {
+        StateFormula formula = new AtomicProposition(p1);
+        for (int i = 0; i < 200; i++)
+            formula = new ForAll(new Until(new AtomicProposition(p2), formula));
+
+        DefinitionalNormalForm translated = DefinitionalNormalForm.translate(formula);
+
+        Assertions.assertEquals(Long.MAX_VALUE, ExistentialNormalForm.translate(formula).size());
+        Assertions.assertEquals(199, translated.getDefinitions().size());
+        Assertions.assertTrue(translated.size() < 20 * formula.size());
+        Assertions.assertSame(ExistentialNormalForm.translate(formula), translated.expand());
+    }
+
+    /**
+     *
+     * Test for asserting that a composite right formula is defined once and
+     * referred to by name
+     *
+     */
+    @Test
+    void testDefinitions() {
+        StateFormula right = Formulas.exists(Formulas.next(Formulas.atom(p2)));
+        DefinitionalNormalForm translated = DefinitionalNormalForm.translate(Formulas.forAll(Formulas.until(Formulas.atom(p1), right)));
+        AtomicProposition name = Formulas.atom(DefinitionalNormalForm.PREFIX + 1);
+
+        Assertions.assertEquals(right, translated.getDefinitions().get(name));
+        Assertions.assertEquals("def.1 := E(X(java.lang.exception))\n"
+                + "(!(E((!(def.1))U((!(java.lang.error))&&(!(def.1))))))&&(!(E(G(!(def.1)))))", translated.toString());
+    }
+
+    /**
+     *
+     * Test for asserting that the defined propositions are fresh even when
+     * the formula already uses propositions named like them
+     *
+     */
+    @Test
+    void testFreshNames() {
+        StateFormula right = Formulas.exists(Formulas.next(Formulas.atom(p2)));
+        DefinitionalNormalForm first = DefinitionalNormalForm.translate(Formulas.forAll(Formulas.until(Formulas.atom(p1), right)));
+        StateFormula form = Formulas.forAll(Formulas.until((StateFormula) first.getFormula(),
+                Formulas.or(Formulas.atom(p3), Formulas.atom(p4))));
+
+        DefinitionalNormalForm second = DefinitionalNormalForm.translate(form);
+
+        Assertions.assertEquals(1, second.getDefinitions().size());
+        Assertions.assertFalse(first.getDefinitions().keySet().containsAll(second.getDefinitions().keySet()));
+        Assertions.assertEquals(ExistentialNormalForm.translate(form), second.expand());
+    }
+}
@@ -1,7 +1,12 @@
 package test;
 
+import ctl.AtomicProposition;
+import ctl.ForAll;
 import ctl.Formula;
 import ctl.Generator;
+import ctl.Next;
+import ctl.StateFormula;
+import ctl.Until;
 import ctlform.ExistentialNormalForm;
 import ctlform.RandomFormula;
 import org.antlr.v4.runtime.CharStream;
@@ -152,8 +157,28 @@ class ExistentialNormalFormTest {
         for (int i = 0; i < in.size(); i++) {
             String form = getFormula(in.get(i)).existentialNormalForm().toString();
             Assertions.assertEquals(form, out.get(i));
+            Assertions.assertEquals(ExistentialNormalForm.translate(getFormula(in.get(i))).toString(), out.get(i));
         }
 
     }
 
+    /**
+     *
+     * Test for asserting that a formula whose sub-formulas are shared is
+     * translated once per distinct sub-formula, into a shared formula
+     *
+     */
+    @Test
+    void testSharedSubFormulas() {
+        StateFormula formula = new AtomicProposition(p1);
+        for (int i = 0; i < 64; i++)
+            formula = new ForAll(new Until(formula, new ForAll(new Next(formula))));
+
+        Formula translated = ExistentialNormalForm.translate(formula);
+
+        Assertions.assertEquals(Long.MAX_VALUE, translated.size());
+        Assertions.assertTrue(translated.dagSize() <= 20 * formula.dagSize());
+        Assertions.assertSame(translated, ExistentialNormalForm.translate(translated));
+    }
+
 }
@@ -0,0 +1,70 @@
+package test;
+
+import ctl.*;
+import ctlform.RandomFormula;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ *
+ * Class for testing the 64-bit structural fingerprints of formulas
+ *
+ */
+
+class FingerprintTest {
+
+    public static final String p1 = "java.lang.error";
+    public static final String p2 = "java.lang.exception";
+
+    /**
+     *
+     * Test for asserting that fingerprints keep the documented values, so that
+     * stored fingerprints stay valid in later runs
+     *
+     */
+    @Test
+    void testStableValues() {
+        Assertions.assertEquals(-7160610219483255062L, new True().fingerprint());
+        Assertions.assertEquals(-8567528244152189299L, new AtomicProposition(p1).fingerprint());
+        Assertions.assertEquals(-4467251978915792475L, new ForAll(new Next(new AtomicProposition(p1))).fingerprint());
+    }
+
+    /**
+     *
+     * Test for asserting that equal formulas have equal fingerprints, and that
+     * swapping operands or changing a name changes the fingerprint
+     *
+     */
+    @Test
+    void testStructural() {
+        StateFormula left = new AtomicProposition(p1);
+        StateFormula right = new AtomicProposition(p2);
+
+        Assertions.assertEquals(new And(left, right).fingerprint(), Formulas.and(Formulas.atom(p1), Formulas.atom(p2)).fingerprint());
+        Assertions.assertNotEquals(new And(left, right).fingerprint(), new And(right, left).fingerprint());
+        Assertions.assertNotEquals(new And(left, right).fingerprint(), new Or(left, right).fingerprint());
+        Assertions.assertNotEquals(new Not(left).fingerprint(), new Not(right).fingerprint());
+    }
+
+    /**
+     *
+     * Test for asserting that distinct random formulas have distinct
+     * fingerprints, and that the arena computes the same fingerprints
+     *
+     */
+    @Test
+    void testNoCollisions() {
+        Map<Long, Formula> seen = new HashMap<>();
+        FormulaArena arena = new FormulaArena();
+        for (int i = 0; i < 20000; i++) {
+            Formula generated = RandomFormula.UntranslatableRandomFormula(5);
+            Formula previous = seen.putIfAbsent(generated.fingerprint(), generated);
+            if (previous != null)
+                Assertions.assertEquals(previous, generated);
+            Assertions.assertEquals(generated.fingerprint(), arena.fingerprint(arena.add(generated)));
+        }
+    }
+}
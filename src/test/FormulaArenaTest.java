@@ -0,0 +1,98 @@
+package test;
+
+import ctl.*;
+import ctlform.RandomFormula;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Class for testing that the arena representation converts, translates and
+ * prints formulas the same way as the object representation
+ *
+ */
+
+class FormulaArenaTest {
+
+    public static final String p1 = "java.lang.error";
+    public static final String p2 = "java.lang.exception";
+
+    /**
+     *
+     * Test for asserting that a formula converted to the arena and back is
+     * equal to the original, and that equal sub-formulas share a node
+     *
+     */
+    @Test
+    void testRoundTrip() {
+        FormulaArena arena = new FormulaArena();
+        StateFormula shared = new And(new AtomicProposition(p1), new Not(new AtomicProposition(p2)));
+        Formula formula = new Or(shared, new Exists(new Until(shared, new True())));
+        int node = arena.add(formula);
+
+        Assertions.assertEquals(formula, arena.toFormula(node));
+        Assertions.assertEquals(8, arena.size());
+        Assertions.assertEquals(FormulaArena.OR, arena.opcode(node));
+        Assertions.assertEquals(arena.left(node), arena.left(arena.left(arena.right(node))));
+        Assertions.assertEquals(node, arena.add(arena.toFormula(node)));
+    }
+
+    /**
+     *
+     * Test for asserting that nodes of the wrong kind are rejected
+     *
+     */
+    @Test
+    void testWrongKind() {
+        FormulaArena arena = new FormulaArena();
+        int atom = arena.atom(p1);
+        int next = arena.node(FormulaArena.NEXT, atom, FormulaArena.NONE);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> arena.node(FormulaArena.FORALL, atom, FormulaArena.NONE));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> arena.node(FormulaArena.NOT, next, FormulaArena.NONE));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> arena.node(FormulaArena.AND, atom, FormulaArena.NONE));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> arena.name(next));
+    }
+
+    /**
+     *
+     * Test for asserting that the arena translations and printing give the
+     * same results as the formula methods on random formulas
+     *
+     */
+    @Test
+    void testSameAsFormulas() {
+        FormulaArena arena = new FormulaArena();
+        for (int i = 0; i < 1000; i++) {
+            Formula generated = RandomFormula.translatableENFRandomFormula(6);
+            int node = arena.add(generated);
+            Assertions.assertEquals(generated.toString(), arena.toString(node));
+            Assertions.assertEquals(generated.existentialNormalForm(), arena.toFormula(arena.existentialNormalForm(node)));
+
+            generated = RandomFormula.translatablePNFRandomFormula(6);
+            node = arena.add(generated);
+            Assertions.assertEquals(generated.positiveNormalForm(), arena.toFormula(arena.positiveNormalForm(node)));
+            Assertions.assertEquals(generated.positiveNormalForm().toString(), arena.toString(arena.positiveNormalForm(node)));
+        }
+    }
+
+    /**
+     *
+     * Test for asserting that deep formulas are converted, translated and
+     * printed without overflowing the call stack
+     *
+     */
+    @Test
+    void testDeepFormula() {
+        FormulaArena arena = new FormulaArena();
+        StateFormula formula = new AtomicProposition(p1);
+        for (int i = 0; i < 100000; i++)
+            formula = new Not(new Not(formula));
+        int node = arena.add(formula);
+
+        Assertions.assertEquals(200001, arena.size());
+        Assertions.assertEquals(p1, arena.toString(arena.positiveNormalForm(node)));
+        Assertions.assertEquals(node, arena.existentialNormalForm(node));
+        Assertions.assertEquals(formula.toString().length(), arena.toString(node).length());
+    }
+}
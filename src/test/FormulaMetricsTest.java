@@ -0,0 +1,84 @@
+package test;
+
+import ctl.*;
+import ctlform.ExistentialNormalForm;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Class for testing the size, depth and DAG metrics cached on formulas
+ *
+ */
+
+class FormulaMetricsTest {
+
+    public static final String p1 = "java.lang.error";
+    public static final String p2 = "java.lang.exception";
+
+    /**
+     *
+     * Test for asserting the metrics of constants and atomic propositions
+     *
+     */
+    @Test
+    void testLeaves() {
+        Formula atom = new AtomicProposition(p1);
+
+        Assertions.assertEquals(1, atom.size());
+        Assertions.assertEquals(1, atom.depth());
+        Assertions.assertEquals(1, atom.dagSize());
+        Assertions.assertEquals(1, atom.propositionCount());
+        Assertions.assertEquals(0, new True().propositionCount());
+    }
+
+    /**
+     *
+     * Test for asserting that a shared sub-formula counts twice in the size
+     * but once in the DAG size
+     *
+     */
+    @Test
+    void testSharedSubFormula() {
+        StateFormula shared = Formulas.and(Formulas.atom(p1), Formulas.not(Formulas.atom(p2)));
+        Formula formula = Formulas.or(shared, Formulas.exists(Formulas.until(shared, Formulas.atom(p1))));
+
+        Assertions.assertEquals(12, formula.size());
+        Assertions.assertEquals(6, formula.depth());
+        Assertions.assertEquals(7, formula.dagSize());
+        Assertions.assertEquals(2, formula.propositionCount());
+    }
+
+    /**
+     *
+     * Test for asserting that the metrics of a translation give its blowup
+     *
+     */
+    @Test
+    void testBlowupFactor() {
+        Formula formula = new ForAll(new Until(new AtomicProposition(p1), new AtomicProposition(p2)));
+        Formula translated = ExistentialNormalForm.translate(formula);
+
+        Assertions.assertEquals(4, formula.size());
+        Assertions.assertEquals(16, translated.size());
+        Assertions.assertEquals(4.0, Formulas.blowupFactor(formula, translated));
+        Assertions.assertEquals(12.0 / 4, Formulas.dagBlowupFactor(formula, translated));
+    }
+
+    /**
+     *
+     * Test for asserting that the size of a formula shared at every level
+     * saturates instead of overflowing
+     *
+     */
+    @Test
+    void testSaturatedSize() {
+        StateFormula formula = Formulas.atom(p1);
+        for (int i = 0; i < 100; i++)
+            formula = Formulas.and(formula, formula);
+
+        Assertions.assertEquals(Long.MAX_VALUE, formula.size());
+        Assertions.assertEquals(101, formula.depth());
+        Assertions.assertEquals(101, formula.dagSize());
+    }
+}
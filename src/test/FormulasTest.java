@@ -0,0 +1,165 @@
+package test;
+
+import ctl.*;
+import ctlform.ExistentialNormalForm;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import parser.CTLLexer;
+import parser.CTLParser;
+
+/**
+ *
+ * Class for testing the hash-consing factory of the ctl package
+ *
+ */
+
+class FormulasTest {
+
+    public static final String p1 = "java.lang.error";
+    public static final String p2 = "java.lang.exception";
+
+    /**
+   	 * Function to return a {@code Formula} from the inputed String in.
+   	 * @param	in	The string representation of the {@code Formula}.
+   	 * @return	Returns a {@code Formula}.
+   	 */
+    private static Formula getFormula(String in) {
+        CharStream input = CharStreams.fromString(in);
+        CTLLexer lexer = new CTLLexer(input);
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        CTLParser parser = new CTLParser(tokens);
+        ParseTree tree = parser.root();
+        Generator generator = new Generator();
+        return generator.visit(tree);
+    }
+
+    /**
+     *
+     * Test for asserting that structurally identical formulas built through
+     * the factory are the same instance
+     *
+     */
+    @Test
+    void testIdenticalFormulasAreShared() {
+        StateFormula first = Formulas.and(Formulas.atom(p1), Formulas.not(Formulas.atom(p2)));
+        StateFormula second = Formulas.and(Formulas.atom(p1), Formulas.not(Formulas.atom(p2)));
+
+        Assertions.assertSame(first, second);
+        Assertions.assertNotSame(first, Formulas.and(Formulas.atom(p2), Formulas.not(Formulas.atom(p1))));
+        Assertions.assertSame(Formulas.TRUE, Formulas.intern(new True()));
+    }
+
+    /**
+     *
+     * Test for asserting that interning a parsed formula keeps it equal to the
+     * original and shares its repeated sub-formulas
+     *
+     */
+    @Test
+    void testInternParsedFormula() {
+        Formula parsed = getFormula("(AX " + p1 + ") && (AX " + p1 + ")");
+        And interned = (And) Formulas.intern(parsed);
+
+        Assertions.assertEquals(parsed, interned);
+        Assertions.assertEquals(parsed.toString(), interned.toString());
+        Assertions.assertSame(interned.left, interned.right);
+        Assertions.assertSame(interned, Formulas.intern(getFormula("(AX " + p1 + ") && (AX " + p1 + ")")));
+    }
+
+    /**
+     *
+     * Test for asserting that the existential normal form of an until shares
+     * the translated right sub-formula instead of copying it
+     *
+     */
+    @Test
+    void testTranslationIsShared() {
+        Formulas.resetStatistics();
+        Formula formula = getFormula("A(" + p1 + " U AX " + p2 + ")");
+        And translated = (And) ExistentialNormalForm.translate(formula);
+        Not left = (Not) translated.left;
+        Not right = (Not) translated.right;
+
+        Assertions.assertTrue(Formulas.hits() > 0);
+        Assertions.assertTrue(Formulas.sharingRatio() > 0);
+        Until until = (Until) ((Exists) left.inner).getInner();
+        StateFormula negatedRight = Formulas.not((StateFormula) getFormula("AX " + p2).existentialNormalForm());
+
+        Assertions.assertSame(negatedRight, until.left);
+        Assertions.assertEquals("!(E(G(!(!(E(X(!(" + p2 + "))))))))", right.toString());
+    }
+
+    /**
+     *
+     * Test for asserting that formulas built with the constructors are equal
+     * and hash alike when their structure is the same
+     *
+     */
+    @Test
+    void testStructuralEqualityAndHash() {
+        StateFormula first = new Exists(new Eventually(new Not(new AtomicProposition(p1))));
+        StateFormula second = new Exists(new Eventually(new Not(new AtomicProposition(p1))));
+
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals(first.hashCode(), second.hashCode());
+        Assertions.assertNotEquals(first, new Exists(new Eventually(new AtomicProposition(p1))));
+    }
+
+    /**
+     *
+     * Test for asserting that two separately built copies of a shared DAG are
+     * compared without walking every path through them
+     *
+     */
+    @Test
+    void testSharedStructuralEquality() {
+        StateFormula first = shared(60, p2);
+        StateFormula second = shared(60, p2);
+
+        Assertions.assertEquals(first, second);
+        Assertions.assertNotEquals(first, shared(60, p1));
+        Assertions.assertNotEquals(new And(first, first), new And(second, new Not(second)));
+    }
+
+    /**
+     * Returns {@code levels} levels of conjunctions whose two sides share the
+     * level below, built with the constructors.
+     */
+    private static StateFormula shared(int levels, String leaf) {
+        StateFormula formula = new AtomicProposition(leaf);
+        for (int i = 0; i < levels; i++)
+            formula = new And(new Or(formula, new AtomicProposition(p1)), new Not(formula));
+        return formula;
+    }
+
+    /**
+     *
+     * Test for asserting that a visitor is called once with the method for the
+     * type of the visited formula
+     *
+     */
+    @Test
+    void testVisitorDispatch() {
+        FormulaVisitor<String> names = new FormulaBaseVisitor<String>() {
+            @Override
+            protected String visitFormula(Formula form) {
+                return form.getClass().getSimpleName();
+            }
+
+            @Override
+            public String visitUntil(Until form) {
+                return "U";
+            }
+        };
+        Formula formula = getFormula("A(" + p1 + " U !" + p2 + ")");
+
+        Assertions.assertEquals("ForAll", formula.accept(names));
+        Assertions.assertEquals("U", formula.getChild(0).accept(names));
+        Assertions.assertEquals("Not", formula.getChild(0).getChild(1).accept(names));
+        Assertions.assertEquals("AtomicProposition", formula.getChild(0).getChild(0).accept(names));
+    }
+}
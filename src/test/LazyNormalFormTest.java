@@ -0,0 +1,137 @@
+package test;
+
+import ctl.*;
+import ctlform.ExistentialNormalForm;
+import ctlform.LazyNormalForm;
+import ctlform.PositiveNormalForm;
+import ctlform.RandomFormula;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ *
+ * Class for testing the views of normal forms that are translated on demand
+ *
+ */
+
+class LazyNormalFormTest {
+
+    public static final String p1 = "java.lang.error";
+    public static final String p2 = "java.lang.exception";
+
+    /**
+     *
+     * Test for asserting that a view builds the same formula as the eager
+     * translators, whether or not it was inspected first
+     *
+     */
+    @Test
+    void testSameAsEager() {
+        for (int i = 0; i < 200; i++) {
+            Formula existential = RandomFormula.generateTranslatableExistentialStateFormula(5);
+            Formula positive = i % 2 == 0 ? RandomFormula.generateTranslatablePositiveStateFormula(5)
+                    : RandomFormula.generateDeepStateFormula(30, i);
+
+            Assertions.assertEquals(ExistentialNormalForm.translate(existential), LazyNormalForm.existential(existential).toFormula());
+            Assertions.assertEquals(PositiveNormalForm.translate(positive), LazyNormalForm.positive(positive).toFormula());
+            Assertions.assertEquals(ExistentialNormalForm.translate(existential), inspected(LazyNormalForm.existential(existential)).toFormula());
+            Assertions.assertEquals(PositiveNormalForm.translate(positive), inspected(LazyNormalForm.positive(positive)).toFormula());
+        }
+    }
+
+    /**
+     *
+     * Test for asserting that inspecting the top of a translation leaves the
+     * sub-formulas untranslated
+     *
+     */
+    @Test
+    void testOnlyInspectedNodesAreTranslated() {
+        StateFormula left = Formulas.atom(p1);
+        StateFormula right = Formulas.atom(p2);
+        LazyNormalForm view = LazyNormalForm.existential(Formulas.forAll(Formulas.until(left, right)));
+
+        Assertions.assertFalse(view.isExpanded());
+        Assertions.assertEquals(FormulaArena.AND, view.opcode());
+        Assertions.assertEquals(FormulaArena.NOT, view.getChild(1).opcode());
+        Assertions.assertFalse(view.getChild(1).getChild(0).getChild(0).getChild(0).getChild(0).isExpanded());
+
+        LazyNormalForm negated = LazyNormalForm.positive(Formulas.not(Formulas.and(left, Formulas.not(right))));
+
+        Assertions.assertEquals(FormulaArena.OR, negated.opcode());
+        Assertions.assertEquals(right, negated.getChild(1).toFormula());
+        Assertions.assertFalse(negated.getChild(0).isExpanded());
+        Assertions.assertEquals("(!(java.lang.error))||(java.lang.exception)", negated.toString());
+    }
+
+    /**
+     *
+     * Test for asserting that shared sub-formulas have one view per polarity,
+     * so walking all the views of a shared DAG visits each of them once
+     *
+     */
+    @Test
+    void testSharedViews() {
+        StateFormula formula = Formulas.atom(p1);
+        for (int i = 0; i < 60; i++)
+            formula = Formulas.forAll(Formulas.until(Formulas.atom(p2), formula));
+        LazyNormalForm view = LazyNormalForm.existential(formula);
+
+        Set<LazyNormalForm> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        ArrayDeque<LazyNormalForm> pending = new ArrayDeque<>();
+        pending.push(view);
+        while (!pending.isEmpty()) {
+            LazyNormalForm next = pending.pop();
+            if (seen.add(next))
+                for (int i = 0; i < next.getChildCount(); i++)
+                    pending.push(next.getChild(i));
+        }
+
+        Assertions.assertTrue(seen.size() < 20 * formula.dagSize());
+        LazyNormalForm shared = LazyNormalForm.positive(Formulas.and(formula, formula));
+        Assertions.assertSame(shared.getChild(0), shared.getChild(1));
+        Assertions.assertSame(ExistentialNormalForm.translate(formula), view.toFormula());
+    }
+
+    /**
+     *
+     * Test for asserting that one branch of a very deep translation can be
+     * walked without translating the rest
+     *
+     */
+    @Test
+    void testDeepBranch() {
+        StateFormula formula = Formulas.atom(p1);
+        for (int i = 0; i < 100000; i++)
+            formula = new And(formula, RandomFormula.generateDeepStateFormula(20, i));
+        LazyNormalForm view = LazyNormalForm.positive(new Not(formula));
+
+        int depth = 0;
+        while (view.getChildCount() > 0) {
+            view = view.getChild(0);
+            depth++;
+        }
+
+        Assertions.assertEquals(100001, depth);
+        Assertions.assertEquals(Formulas.atom(p1), view.toFormula());
+    }
+
+    /**
+     * Inspects every node of a view.
+     */
+    private static LazyNormalForm inspected(LazyNormalForm view) {
+        ArrayDeque<LazyNormalForm> pending = new ArrayDeque<>();
+        pending.push(view);
+        while (!pending.isEmpty()) {
+            LazyNormalForm next = pending.pop();
+            for (int i = 0; i < next.getChildCount(); i++)
+                pending.push(next.getChild(i));
+        }
+        return view;
+    }
+}
@@ -0,0 +1,109 @@
+package test;
+
+import ctl.*;
+import ctlform.ExistentialNormalForm;
+import ctlform.RandomFormula;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Class for testing the printer that writes shared sub-formulas once
+ *
+ */
+
+class LetFormatTest {
+
+    public static final String p1 = "java.lang.error";
+    public static final String p2 = "java.lang.exception";
+
+    /**
+     *
+     * Test for asserting that shared sub-formulas are bound once and referred
+     * to by name
+     *
+     */
+    @Test
+    void testSharedSubFormula() {
+        StateFormula shared = Formulas.and(Formulas.atom(p1), Formulas.atom(p2));
+        Formula formula = Formulas.or(shared, Formulas.exists(Formulas.next(shared)));
+
+        Assertions.assertEquals("let let.x1 = java.lang.error&&java.lang.exception in\n"
+                + "let.x1||EX let.x1", formula.toLetString());
+        Assertions.assertEquals("java.lang.error", Formulas.atom(p1).toLetString());
+    }
+
+    /**
+     *
+     * Test for asserting that parsing a printed formula gives it back, with
+     * the same sharing
+     *
+     */
+    @Test
+    void testRoundTrip() {
+        for (int i = 0; i < 100; i++) {
+            Formula generated = RandomFormula.generateTranslatableExistentialStateFormula(4)
+                    .map(node -> node instanceof AtomicProposition ? Formulas.atom(p1) : node);	// the grammar needs dotted names
+            Formula formula = ExistentialNormalForm.translate(generated);
+            Formula parsed = LetFormat.parse(formula.toLetString());
+
+            Assertions.assertSame(formula, parsed);
+        }
+    }
+
+    /**
+     *
+     * Test for asserting that the text grows with the DAG size of nested
+     * universal untils rather than with their tree size
+     *
+     */
+    @Test
+    void testNestedUntils() {
+        StateFormula formula = new AtomicProposition(p1);
+        for (int i = 0; i < 100; i++)
+            formula = new ForAll(new Until(new AtomicProposition(p2), formula));
+        Formula translated = ExistentialNormalForm.translate(formula);
+
+        String text = translated.toLetString();
+        Formula parsed = LetFormat.parse(text);
+
+        Assertions.assertTrue(text.length() < 200 * translated.dagSize());
+        Assertions.assertSame(translated, parsed);
+    }
+
+    /**
+     *
+     * Test for asserting that the names of the bindings avoid the
+     * propositions of the formula
+     *
+     */
+    @Test
+    void testNamesAvoidPropositions() {
+        StateFormula shared = Formulas.not(Formulas.atom("let.x1"));
+
+        String text = Formulas.and(shared, Formulas.forAll(Formulas.eventually(shared))).toLetString();
+
+        Assertions.assertTrue(text.startsWith("let let.let.x1 = !let.x1 in\n"));
+        Assertions.assertEquals(Formulas.and(shared, Formulas.forAll(Formulas.eventually(shared))), LetFormat.parse(text));
+    }
+
+    /**
+     *
+     * Test for asserting that printing and parsing do not register the names
+     * of the bindings as propositions
+     *
+     */
+    @Test
+    void testNamesAreNotPropositions() {
+        StateFormula shared = Formulas.not(Formulas.and(Formulas.atom("let.x.a"), Formulas.atom("let.let.x.a")));
+        Formula formula = Formulas.and(shared, Formulas.exists(Formulas.until(shared, Formulas.atom("let.let.let.x.a"))));
+        int propositions = PropositionTable.size();
+
+        String text = formula.toLetString();
+        Formula parsed = LetFormat.parse(text);
+
+        Assertions.assertTrue(text.startsWith("let let.let.let.let.x1 = "));
+        Assertions.assertSame(formula, parsed);
+        Assertions.assertEquals(propositions, PropositionTable.size());
+    }
+}
@@ -0,0 +1,93 @@
+package test;
+
+import ctl.*;
+import ctlform.ExistentialNormalForm;
+import ctlform.RandomFormula;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ *
+ * Class for testing the fork-join translation of single large formulas
+ *
+ */
+
+class ParallelTranslationTest {
+
+    /**
+     *
+     * Test for asserting that a wide formula is translated in parallel like
+     * it is sequentially
+     *
+     */
+    @Test
+    void testWideFormula() {
+        Formula formula = wide(12, 0);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Assertions.assertEquals(ExistentialNormalForm.translate(formula), ExistentialNormalForm.translateParallel(formula, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     *
+     * Test for asserting that small and very deep formulas are translated in
+     * parallel like they are sequentially
+     *
+     */
+    @Test
+    void testSmallAndDeepFormulas() {
+        Formula small = RandomFormula.generateTranslatableExistentialStateFormula(3);
+        StateFormula deep = RandomFormula.generateDeepStateFormula(100000, 7);
+        StateFormula mixed = new And(new ForAll(new Until(deep, wide(8, 1))), new ForAll(new Next(wide(9, 2))));
+
+        Assertions.assertEquals(ExistentialNormalForm.translate(small), ExistentialNormalForm.translateParallel(small));
+        Assertions.assertEquals(ExistentialNormalForm.translate(deep), ExistentialNormalForm.translateParallel(deep));
+        Assertions.assertEquals(ExistentialNormalForm.translate(mixed), ExistentialNormalForm.translateParallel(mixed));
+    }
+
+    /**
+     *
+     * Test for asserting that formulas sharing their large sub-formulas are
+     * translated in parallel like they are sequentially
+     *
+     */
+    @Test
+    void testSharedSubFormulas() {
+        StateFormula wide = wide(10, 0);
+        StateFormula same = new And(wide, wide);
+        StateFormula reconverging = wide;
+        for (int i = 0; i < 30; i++)
+            reconverging = Formulas.or(Formulas.forAll(Formulas.next(reconverging)), Formulas.not(reconverging));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Assertions.assertEquals(ExistentialNormalForm.translate(same), ExistentialNormalForm.translateParallel(same, pool));
+            Assertions.assertSame(ExistentialNormalForm.translate(reconverging), ExistentialNormalForm.translateParallel(reconverging, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Returns a balanced formula with {@code levels} levels of binary
+     * operators over random translatable formulas.
+     */
+    private static StateFormula wide(int levels, long seed) {
+        if (levels == 0)
+            return RandomFormula.generateDeepStateFormula(10, seed);
+        StateFormula left = wide(levels - 1, seed * 2 + 1);
+        StateFormula right = wide(levels - 1, seed * 2 + 2);
+        switch ((int) (seed % 3)) {
+        case 0:
+            return new And(left, right);
+        case 1:
+            return new ForAll(new Until(left, right));
+        default:
+            return new Or(left, new Exists(new Until(left, right)));
+        }
+    }
+}
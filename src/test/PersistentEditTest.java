@@ -0,0 +1,117 @@
+package test;
+
+import ctl.*;
+import ctlform.ExistentialNormalForm;
+import ctlform.PositiveNormalForm;
+import ctlform.RandomFormula;
+import ctlform.TranslationMemo;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+/**
+ *
+ * Class for testing persistent edits of formulas and the translation memo
+ *
+ */
+
+class PersistentEditTest {
+
+    public static final String p1 = "java.lang.error";
+    public static final String p2 = "java.lang.exception";
+    public static final String p3 = "java.lang.throwable";
+
+    /**
+     *
+     * Test for asserting that replacing a sub-formula copies the path to it
+     * and shares every other sub-formula
+     *
+     */
+    @Test
+    void testReplaceAtSharesSiblings() {
+        StateFormula left = Formulas.forAll(Formulas.always(Formulas.atom(p1)));
+        StateFormula right = Formulas.exists(Formulas.until(Formulas.atom(p1), Formulas.atom(p2)));
+        StateFormula formula = new Or(left, right);
+
+        Formula edited = formula.replaceAt(new int[] {1, 0, 1}, Formulas.atom(p3));
+
+        Assertions.assertEquals("AG java.lang.error||E(java.lang.error U java.lang.throwable)", edited.toCompactString());
+        Assertions.assertSame(left, edited.getChild(0));
+        Assertions.assertSame(right.getChild(0).getChild(0), edited.getChild(1).getChild(0).getChild(0));
+        Assertions.assertEquals(Formulas.atom(p2), formula.getChild(1).getChild(0).getChild(1));
+        Assertions.assertEquals(Formulas.atom(p3), edited.getChild(1).getChild(0).getChild(1));
+        Assertions.assertSame(formula, formula.replaceAt(new int[] {1}, right));
+        Assertions.assertSame(right, formula.replaceAt(new int[0], right));
+    }
+
+    /**
+     *
+     * Test for asserting that edits of an interned formula are interned
+     *
+     */
+    @Test
+    void testReplaceAtKeepsInterning() {
+        StateFormula formula = Formulas.and(Formulas.atom(p1), Formulas.not(Formulas.atom(p2)));
+
+        Formula edited = formula.replaceAt(new int[] {1, 0}, Formulas.atom(p1));
+
+        Assertions.assertSame(Formulas.and(Formulas.atom(p1), Formulas.not(Formulas.atom(p1))), edited);
+    }
+
+    /**
+     *
+     * Test for asserting that invalid edits are rejected
+     *
+     */
+    @Test
+    void testReplaceAtRejectsInvalidEdits() {
+        StateFormula formula = Formulas.forAll(Formulas.next(Formulas.atom(p1)));
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> formula.replaceAt(new int[] {0, 1}, Formulas.atom(p2)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> formula.replaceAt(new int[] {0}, Formulas.atom(p2)));
+    }
+
+    /**
+     *
+     * Test for asserting that mapping shares what the function leaves unchanged
+     *
+     */
+    @Test
+    void testMap() {
+        StateFormula shared = Formulas.and(Formulas.atom(p1), Formulas.atom(p2));
+        StateFormula formula = new Or(shared, Formulas.exists(Formulas.eventually(shared)));
+
+        Assertions.assertSame(formula, formula.map(node -> node));
+
+        Formula renamed = formula.map(node -> node.equals(Formulas.atom(p2)) ? Formulas.atom(p3) : node);
+
+        Assertions.assertEquals(new Or(Formulas.and(Formulas.atom(p1), Formulas.atom(p3)),
+                Formulas.exists(Formulas.eventually(Formulas.and(Formulas.atom(p1), Formulas.atom(p3))))), renamed);
+        Assertions.assertSame(renamed.getChild(0), renamed.getChild(1).getChild(0).getChild(0));
+    }
+
+    /**
+     *
+     * Test for asserting that translating an edited formula with a memo gives
+     * the same result and only translates the edited path again
+     *
+     */
+    @Test
+    void testTranslationMemo() {
+        StateFormula formula = Formulas.atom(p1);
+        for (int i = 0; i < 200; i++)
+            formula = new And(RandomFormula.generateTranslatableExistentialStateFormula(3), formula);
+        int[] path = new int[150];
+        Arrays.fill(path, 1);
+        TranslationMemo memo = new TranslationMemo();
+        Assertions.assertEquals(ExistentialNormalForm.translate(formula), ExistentialNormalForm.translate(formula, memo));
+        int before = memo.size();
+
+        Formula edited = formula.replaceAt(path, Formulas.forAll(Formulas.next(Formulas.atom(p3))));
+
+        Assertions.assertEquals(ExistentialNormalForm.translate(edited), ExistentialNormalForm.translate(edited, memo));
+        Assertions.assertTrue(memo.size() <= before + path.length + 2);
+        Assertions.assertEquals(PositiveNormalForm.translate(edited), PositiveNormalForm.translate(edited, memo));
+    }
+}
@@ -1,7 +1,13 @@
 package test;
 
+import ctl.And;
+import ctl.AtomicProposition;
+import ctl.ForAll;
 import ctl.Formula;
 import ctl.Generator;
+import ctl.Not;
+import ctl.StateFormula;
+import ctl.Until;
 import ctlform.PositiveNormalForm;
 import ctlform.RandomFormula;
 import org.antlr.v4.runtime.CharStream;
@@ -288,4 +294,32 @@ class PositiveNormalFormTest {
             assertEquals(outputList.get(i), out.toString());
         }
     }
+
+    /**
+     *
+     * Test for asserting that nested negations are pushed down once per
+     * sub-formula and polarity, into a shared formula
+     *
+     */
+    @Test
+    void testSharedNestedNegations() {
+        StateFormula formula = nestedNegations(64);
+
+        Formula translated = PositiveNormalForm.translate(formula);
+
+        Assertions.assertEquals(Long.MAX_VALUE, translated.size());
+        Assertions.assertTrue(translated.dagSize() <= 10 * formula.dagSize());
+        Assertions.assertEquals(nestedNegations(6).positiveNormalForm(), PositiveNormalForm.translate(nestedNegations(6)));
+    }
+
+    /**
+     * Returns {@code !(f && !A(f U p2))} nested {@code levels} times, with
+     * both copies of {@code f} the same object.
+     */
+    private static StateFormula nestedNegations(int levels) {
+        StateFormula formula = new AtomicProposition(p1);
+        for (int i = 0; i < levels; i++)
+            formula = new Not(new And(formula, new Not(new ForAll(new Until(formula, new AtomicProposition(p2))))));
+        return formula;
+    }
 }
@@ -0,0 +1,92 @@
+package test;
+
+import ctl.AtomicProposition;
+import ctl.FormulaArena;
+import ctl.Formulas;
+import ctl.PropositionTable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Class for testing the ids that the proposition table gives to the names
+ * of atomic propositions
+ *
+ */
+
+class PropositionTableTest {
+
+    public static final String p1 = "java.lang.error";
+    public static final String p2 = "java.lang.exception";
+
+    /**
+     *
+     * Test for asserting that every name gets one dense id, and that the id
+     * gives back the name
+     *
+     */
+    @Test
+    void testIds() {
+        int first = PropositionTable.id(p1);
+        int second = PropositionTable.id(p2);
+
+        Assertions.assertNotEquals(first, second);
+        Assertions.assertEquals(first, PropositionTable.id(new String(p1)));
+        Assertions.assertEquals(first, PropositionTable.indexOf(p1));
+        Assertions.assertEquals(p2, PropositionTable.name(second));
+        Assertions.assertTrue(first < PropositionTable.size() && second < PropositionTable.size());
+        Assertions.assertEquals(-1, PropositionTable.indexOf("never.seen.before"));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> PropositionTable.name(-1));
+    }
+
+    /**
+     *
+     * Test for asserting that atomic propositions carry the id of their name
+     * and are equal exactly when the ids are
+     *
+     */
+    @Test
+    void testAtomicPropositionIds() {
+        AtomicProposition first = new AtomicProposition(new String(p1));
+        AtomicProposition second = new AtomicProposition(new String(p1));
+
+        Assertions.assertEquals(PropositionTable.id(p1), first.getId());
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals(first.hashCode(), second.hashCode());
+        Assertions.assertNotEquals(first, new AtomicProposition(p2));
+        Assertions.assertEquals(p1, first.toString());
+        Assertions.assertEquals(p1, first.getName());
+
+        FormulaArena arena = new FormulaArena();
+        int node = arena.add(first);
+        Assertions.assertEquals(first.getId(), arena.proposition(node));
+        Assertions.assertSame(Formulas.atom(p1), arena.toFormula(node));
+    }
+
+    /**
+     *
+     * Test for asserting that names added from many threads get distinct ids
+     *
+     */
+    @Test
+    void testConcurrentIds() throws InterruptedException {
+        Thread[] threads = new Thread[4];
+        int[][] ids = new int[threads.length][1000];
+        for (int t = 0; t < threads.length; t++) {
+            int[] mine = ids[t];
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < mine.length; i++)
+                    mine[i] = PropositionTable.id("concurrent.name" + i);
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+
+        for (int i = 0; i < 1000; i++) {
+            for (int t = 1; t < threads.length; t++)
+                Assertions.assertEquals(ids[0][i], ids[t][i]);
+            Assertions.assertEquals("concurrent.name" + i, PropositionTable.name(ids[0][i]));
+        }
+    }
+}
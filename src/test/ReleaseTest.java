@@ -0,0 +1,112 @@
+package test;
+
+import ctl.*;
+import ctlform.ExistentialNormalForm;
+import ctlform.LazyNormalForm;
+import ctlform.PositiveNormalForm;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import parser.CTLLexer;
+import parser.CTLParser;
+
+/**
+ *
+ * Class for testing the release operator and the linear positive normal form
+ *
+ */
+
+class ReleaseTest {
+
+    public static final String p1 = "java.lang.error";
+    public static final String p2 = "java.lang.exception";
+
+    /**
+   	 * Function to return a {@code Formula} from the inputed String in.
+   	 * @param	in	The string representation of the {@code Formula}.
+   	 * @return	Returns a {@code Formula}.
+   	 */
+    private static Formula getFormula(String in) {
+        CharStream input = CharStreams.fromString(in);
+        CTLLexer lexer = new CTLLexer(input);
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        CTLParser parser = new CTLParser(tokens);
+        ParseTree tree = parser.root();
+        Generator generator = new Generator();
+        return generator.visit(tree);
+    }
+
+    /**
+     *
+     * Test for asserting that quantified weak untils and releases are parsed,
+     * printed and compared
+     *
+     */
+    @Test
+    void testParseAndPrint() {
+        StateFormula a = new AtomicProposition(p1);
+        StateFormula b = new AtomicProposition(p2);
+
+        Assertions.assertEquals(new ForAll(new Release(a, b)), getFormula("A(" + p1 + " R " + p2 + ")"));
+        Assertions.assertEquals(new Exists(new Release(a, b)), getFormula("E(" + p1 + " R " + p2 + ")"));
+        Assertions.assertEquals(new ForAll(new WeakUntil(a, b)), getFormula("A(" + p1 + " W " + p2 + ")"));
+        Assertions.assertEquals(new Exists(new WeakUntil(a, b)), getFormula("E(" + p1 + " W " + p2 + ")"));
+        Assertions.assertNotEquals(new ForAll(new Release(a, b)), new ForAll(new Until(a, b)));
+
+        Assertions.assertEquals("E((" + p1 + ")R(" + p2 + "))", new Exists(new Release(a, b)).toString());
+        Assertions.assertEquals("A(!" + p1 + " R " + p2 + "&&" + p1 + ")",
+                new ForAll(new Release(new Not(a), new And(b, a))).toCompactString());
+    }
+
+    /**
+     *
+     * Test for asserting that a negated release is negated into an until by
+     * every positive normal form translation
+     *
+     */
+    @Test
+    void testNegatedRelease() {
+        StateFormula a = new AtomicProposition(p1);
+        StateFormula b = new AtomicProposition(p2);
+        StateFormula formula = new Not(new Exists(new Release(a, b)));
+        Formula expected = Formulas.forAll(Formulas.until(Formulas.not(a), Formulas.not(b)));
+
+        Assertions.assertSame(expected, PositiveNormalForm.translate(formula));
+        Assertions.assertSame(expected, Formulas.intern(formula.positiveNormalForm()));
+        Assertions.assertSame(expected, Formulas.intern(LazyNormalForm.positive(formula).toFormula()));
+        FormulaArena arena = new FormulaArena();
+        Assertions.assertSame(expected, Formulas.intern(arena.toFormula(arena.positiveNormalForm(arena.add(formula)))));
+        Assertions.assertSame(Formulas.exists(Formulas.release(a, b)), Formulas.intern(ExistentialNormalForm.translate(new Exists(new Release(a, b)))));
+    }
+
+    /**
+     *
+     * Test for asserting that the linear positive normal form negates untils
+     * into releases, and grows linearly where the default one grows
+     * exponentially
+     *
+     */
+    @Test
+    void testLinearPositiveNormalForm() {
+        StateFormula a = Formulas.atom(p1);
+        StateFormula b = Formulas.atom(p2);
+
+        Assertions.assertSame(Formulas.forAll(Formulas.release(Formulas.not(a), Formulas.not(b))),
+                PositiveNormalForm.translateLinear(Formulas.not(Formulas.exists(Formulas.until(a, b)))));
+        Assertions.assertSame(Formulas.exists(Formulas.release(Formulas.not(a), Formulas.not(b))),
+                PositiveNormalForm.translateLinear(Formulas.not(Formulas.forAll(Formulas.until(a, b)))));
+
+        StateFormula nested = a;
+        for (int i = 0; i < 24; i++)
+            nested = Formulas.not(Formulas.exists(Formulas.until(nested, b)));
+        Formula linear = PositiveNormalForm.translateLinear(nested);
+        Formula repeated = PositiveNormalForm.translate(nested);
+
+        Assertions.assertTrue(linear.size() <= 2 * nested.size(), linear.size() + " nodes");
+        Assertions.assertTrue(repeated.size() > 1000 * nested.size(), repeated.size() + " nodes");
+        Assertions.assertFalse(linear.subformulas().anyMatch(f -> f instanceof Not && !(((Not) f).inner instanceof AtomicProposition)));
+    }
+}
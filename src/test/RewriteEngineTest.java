@@ -0,0 +1,105 @@
+package test;
+
+import ctl.*;
+import ctlform.ExistentialNormalForm;
+import ctlform.PositiveNormalForm;
+import ctlform.RandomFormula;
+import ctlform.RewriteEngine;
+import ctlform.RewriteRule;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Class for testing the table-driven rewrite engine
+ *
+ */
+
+class RewriteEngineTest {
+
+    public static final String p1 = "java.lang.error";
+    public static final String p2 = "java.lang.exception";
+
+    /**
+     *
+     * Test for asserting that the rules of the existential normal form give
+     * the same results as the translator
+     *
+     */
+    @Test
+    void testExistentialNormalForm() {
+        RewriteEngine engine = RewriteEngine.existentialNormalForm();
+        for (int i = 0; i < 200; i++) {
+            Formula formula = i % 2 == 0 ? RandomFormula.generateTranslatableExistentialStateFormula(5)
+                    : RandomFormula.generateDeepStateFormula(50, i);
+
+            Assertions.assertEquals(ExistentialNormalForm.translate(formula), engine.rewrite(formula));
+        }
+        StateFormula deep = RandomFormula.generateDeepStateFormula(100000, 3);
+        Assertions.assertEquals(ExistentialNormalForm.translate(deep), engine.rewrite(deep));
+    }
+
+    /**
+     *
+     * Test for asserting that the top-down rules of the positive normal form
+     * give the same results as the recursive translation
+     *
+     */
+    @Test
+    void testPositiveNormalForm() {
+        RewriteEngine engine = RewriteEngine.positiveNormalForm();
+        for (int i = 0; i < 200; i++) {
+            Formula formula = new Not((StateFormula) (i % 2 == 0 ? RandomFormula.generateTranslatablePositiveStateFormula(5)
+                    : RandomFormula.generateDeepStateFormula(50, i)));
+
+            Assertions.assertEquals(formula.positiveNormalForm(), engine.rewrite(formula));
+            Assertions.assertEquals(PositiveNormalForm.translate(formula), engine.rewrite(formula));
+        }
+        StateFormula conjunction = Formulas.and(Formulas.atom(p1), Formulas.forAll(Formulas.next(Formulas.atom(p2))));
+
+        engine.resetStatistics();
+        Assertions.assertEquals(Formulas.or(Formulas.not(Formulas.atom(p1)), Formulas.exists(Formulas.next(Formulas.not(Formulas.atom(p2))))),
+                engine.rewrite(Formulas.not(Formulas.not(Formulas.not(conjunction)))));
+        Assertions.assertEquals(1L, engine.firings().get("not-not"));
+        Assertions.assertEquals(1L, engine.firings().get("not-and"));
+        Assertions.assertEquals(1L, engine.firings().get("not-forall-next"));
+    }
+
+    /**
+     *
+     * Test for asserting that the firings of every rule are counted
+     *
+     */
+    @Test
+    void testFirings() {
+        RewriteEngine engine = RewriteEngine.existentialNormalForm();
+        StateFormula next = Formulas.forAll(Formulas.next(Formulas.atom(p1)));
+
+        engine.rewrite(Formulas.and(next, Formulas.forAll(Formulas.until(next, Formulas.atom(p2)))));
+
+        Assertions.assertEquals(1L, engine.firings().get("forall-next"));
+        Assertions.assertEquals(1L, engine.firings().get("forall-until"));
+        engine.resetStatistics();
+        Assertions.assertEquals(0L, engine.firings().get("forall-next"));
+    }
+
+    /**
+     *
+     * Test for asserting that the results of rules are rewritten until no
+     * rule applies
+     *
+     */
+    @Test
+    void testFixpoint() {
+        RewriteEngine engine = new RewriteEngine(
+                new RewriteRule("double-negation", FormulaArena.NOT, FormulaArena.NOT, form -> form.getChild(0).getChild(0)),
+                new RewriteRule("de-morgan", FormulaArena.NOT, FormulaArena.AND, form -> Formulas.or(
+                        Formulas.not((StateFormula) form.getChild(0).getChild(0)),
+                        Formulas.not((StateFormula) form.getChild(0).getChild(1)))));
+        StateFormula formula = new Not(new And(new Not(new AtomicProposition(p1)), new Not(new Not(new AtomicProposition(p2)))));
+
+        Assertions.assertEquals(Formulas.or(Formulas.atom(p1), Formulas.not(Formulas.atom(p2))), engine.rewrite(formula));
+        Assertions.assertEquals(2L, engine.firings().get("double-negation"));
+        Assertions.assertEquals(1L, engine.firings().get("de-morgan"));
+    }
+}
@@ -0,0 +1,156 @@
+package test;
+
+import ctl.*;
+import ctlform.ExistentialNormalForm;
+import ctlform.PositiveNormalForm;
+import ctlform.RandomFormula;
+import ctlform.Simplifier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Class for testing the simplification of formulas
+ *
+ */
+
+class SimplifierTest {
+
+    public static final String p1 = "java.lang.error";
+    public static final String p2 = "java.lang.exception";
+
+    /**
+     *
+     * Test for asserting that the boolean identities are applied
+     *
+     */
+    @Test
+    void testBooleanIdentities() {
+        Simplifier simplifier = new Simplifier();
+        StateFormula p = Formulas.atom(p1);
+        StateFormula q = Formulas.atom(p2);
+
+        Assertions.assertSame(p, simplifier.simplify(new Not(new Not(p))));
+        Assertions.assertSame(p, simplifier.simplify(new And(new True(), p)));
+        Assertions.assertSame(p, simplifier.simplify(new Or(p, p)));
+        Assertions.assertSame(Formulas.TRUE, simplifier.simplify(new Not(new False())));
+        Assertions.assertSame(Formulas.FALSE, simplifier.simplify(new And(p, new Not(p))));
+        Assertions.assertSame(p, simplifier.simplify(new And(p, new Or(q, p))));
+        Assertions.assertSame(Formulas.not(p), simplifier.simplify(new Implies(p, new False())));
+        Assertions.assertSame(q, simplifier.simplify(new Iff(new Not(new False()), q)));
+    }
+
+    /**
+     *
+     * Test for asserting that the temporal identities are applied
+     *
+     */
+    @Test
+    void testTemporalIdentities() {
+        Simplifier simplifier = new Simplifier();
+        StateFormula p = Formulas.atom(p1);
+
+        Assertions.assertSame(Formulas.TRUE, simplifier.simplify(new Exists(new Next(new True()))));
+        Assertions.assertSame(Formulas.TRUE, simplifier.simplify(new Exists(new Eventually(new True()))));
+        Assertions.assertSame(Formulas.FALSE, simplifier.simplify(new ForAll(new Always(new False()))));
+        Assertions.assertSame(Formulas.exists(Formulas.eventually(p)), simplifier.simplify(new Exists(new Until(new True(), p))));
+        Assertions.assertSame(Formulas.forAll(Formulas.always(p)), simplifier.simplify(new ForAll(new WeakUntil(p, new False()))));
+        Assertions.assertSame(Formulas.forAll(Formulas.always(p)),
+                simplifier.simplify(new ForAll(new Always(new ForAll(new Always(p))))));
+        Assertions.assertSame(p, simplifier.simplify(new ForAll(new Until(new False(), p))));
+    }
+
+    /**
+     *
+     * Test for asserting that the simplifier counts removed nodes and firings,
+     * and can be chained into the translations
+     *
+     */
+    @Test
+    void testChainedIntoTranslation() {
+        Simplifier simplifier = new Simplifier();
+        StateFormula p = Formulas.atom(p1);
+        Formula formula = Formulas.not(Formulas.and(Formulas.TRUE, Formulas.forAll(Formulas.next(Formulas.not(p)))));
+
+        Formula translated = PositiveNormalForm.translate(formula, simplifier);
+
+        Assertions.assertEquals("E(X(" + p1 + "))", translated.toString());
+        Assertions.assertTrue(simplifier.nodesRemoved() > 0);
+        Assertions.assertEquals(1L, simplifier.firings().get("and-constant"));
+        Assertions.assertEquals("!(E(X(" + p1 + ")))",
+                ExistentialNormalForm.translate(Formulas.forAll(Formulas.next(Formulas.not(Formulas.not(Formulas.not(p))))), simplifier).toString());
+    }
+
+    /**
+     *
+     * Test for asserting that the chained translations stay in their normal
+     * forms: no universal quantifier in existential normal form and no
+     * negation above a composite formula in positive normal form
+     *
+     */
+    @Test
+    void testChainedStaysInNormalForm() {
+        Simplifier simplifier = new Simplifier();
+        StateFormula p = Formulas.atom(p1);
+
+        Formula existential = ExistentialNormalForm.translate(new ForAll(new Until(new True(), p)), simplifier);
+        Assertions.assertFalse(hasForAll(existential), existential.toString());
+        Formula positive = PositiveNormalForm.translate(new Not(new Exists(new WeakUntil(p, new False()))), simplifier);
+        Assertions.assertFalse(negatesComposite(positive), positive.toString());
+        Assertions.assertSame(Formulas.forAll(Formulas.eventually(Formulas.not(p))), positive);
+        positive = PositiveNormalForm.translate(new Implies(new Or(p, Formulas.atom(p2)), new False()), simplifier);
+        Assertions.assertFalse(negatesComposite(positive), positive.toString());
+
+        for (int i = 0; i < 500; i++) {
+            StateFormula formula = RandomFormula.generateUntranslatableStateFormula(4);
+            if (!hasForAll(ExistentialNormalForm.translate(formula)))
+                Assertions.assertFalse(hasForAll(ExistentialNormalForm.translate(formula, simplifier)), formula.toString());
+            if (!negatesComposite(PositiveNormalForm.translate(formula)))
+                Assertions.assertFalse(negatesComposite(PositiveNormalForm.translate(formula, simplifier)), formula.toString());
+        }
+    }
+
+    private static boolean hasForAll(Formula form) {
+        return form.subformulas().anyMatch(f -> f instanceof ForAll);
+    }
+
+    private static boolean negatesComposite(Formula form) {
+        return form.subformulas().anyMatch(f -> f instanceof Not && f.getChild(0).getChildCount() > 0);
+    }
+
+    /**
+     *
+     * Test for asserting that a shared sub-formula is simplified once, so a
+     * formula with an exponentially large tree is simplified quickly
+     *
+     */
+    @Test
+    void testSharedSubFormulas() {
+        Simplifier simplifier = new Simplifier();
+        StateFormula p = Formulas.atom(p1);
+        StateFormula shared = p;
+        for (int i = 0; i < 64; i++)
+            shared = new Or(new And(shared, new True()), new Exists(new Until(new False(), shared)));
+
+        Assertions.assertSame(p, simplifier.simplify(shared));
+        Assertions.assertEquals(6L * 64, simplifier.nodesRemoved());
+    }
+
+    /**
+     *
+     * Test for asserting that simplifying never grows a formula and is
+     * idempotent
+     *
+     */
+    @Test
+    void testRandomFormulas() {
+        Simplifier simplifier = new Simplifier();
+        for (int i = 0; i < 200; i++) {
+            Formula translated = ExistentialNormalForm.translate(RandomFormula.generateTranslatableExistentialStateFormula(5));
+            Formula simplified = simplifier.simplify(translated);
+
+            Assertions.assertTrue(simplified.dagSize() <= translated.dagSize());
+            Assertions.assertSame(simplified, simplifier.simplify(simplified));
+        }
+    }
+}
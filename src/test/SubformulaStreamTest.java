@@ -0,0 +1,77 @@
+package test;
+
+import ctl.*;
+import ctlform.ExistentialNormalForm;
+import ctlform.RandomFormula;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ *
+ * Class for testing the sequential and parallel streams of sub-formulas
+ *
+ */
+
+class SubformulaStreamTest {
+
+    public static final String p1 = "java.lang.error";
+    public static final String p2 = "java.lang.exception";
+
+    /**
+     *
+     * Test for asserting that a sequential stream visits every occurrence in
+     * pre-order from the left
+     *
+     */
+    @Test
+    void testPreOrder() {
+        StateFormula left = new AtomicProposition(p1);
+        StateFormula right = new Not(new AtomicProposition(p2));
+        Formula formula = new Exists(new Until(left, right));
+        List<Formula> visited = formula.subformulas().collect(Collectors.toList());
+
+        Assertions.assertEquals(List.of(formula, formula.getChild(0), left, right, right.getChild(0)), visited);
+    }
+
+    /**
+     *
+     * Test for asserting that parallel streams visit the same formulas as
+     * sequential streams, in both modes
+     *
+     */
+    @Test
+    void testParallelSameAsSequential() {
+        for (int i = 0; i < 200; i++) {
+            Formula generated = RandomFormula.UntranslatableRandomFormula(7);
+            Formula translated = ExistentialNormalForm.translate(generated);
+
+            Assertions.assertEquals(generated.size(), generated.subformulas().parallel().count());
+            Assertions.assertEquals(translated.size(), translated.subformulas().parallel().count());
+            Assertions.assertEquals(translated.dagSize(), translated.subformulas(true).parallel().count());
+            Assertions.assertEquals(translated.dagSize(), translated.subformulas(true).count());
+            Assertions.assertEquals(
+                    translated.subformulas().filter(f -> f instanceof AtomicProposition).count(),
+                    translated.subformulas().parallel().filter(f -> f instanceof AtomicProposition).count());
+        }
+    }
+
+    /**
+     *
+     * Test for asserting that a deep chain of unary formulas over binary
+     * formulas is streamed without overflowing the call stack
+     *
+     */
+    @Test
+    void testDeepFormula() {
+        StateFormula formula = Formulas.atom(p1);
+        for (int i = 0; i < 100000; i++)
+            formula = i % 2 == 0 ? new Not(formula) : new And(formula, new AtomicProposition(p2));
+
+        Assertions.assertEquals(formula.size(), formula.subformulas().parallel().count());
+        Assertions.assertEquals(50000, formula.subformulas().parallel().filter(f -> f instanceof And).count());
+        Assertions.assertEquals(2, formula.subformulas().filter(f -> f instanceof AtomicProposition).distinct().count());
+    }
+}
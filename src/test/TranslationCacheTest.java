@@ -0,0 +1,155 @@
+package test;
+
+import ctl.*;
+import ctlform.ExistentialNormalForm;
+import ctlform.PositiveNormalForm;
+import ctlform.TranslationCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Class for testing the bounded cache of translations
+ *
+ */
+
+class TranslationCacheTest {
+
+    public static final String p1 = "java.lang.error";
+    public static final String p2 = "java.lang.exception";
+
+    /**
+     *
+     * Test for asserting that a repeated translation of an equal formula is
+     * answered from the cache
+     *
+     */
+    @Test
+    void testRepeatedTranslation() {
+        TranslationCache.enable(1000);
+        TranslationCache.resetStatistics();
+        try {
+            Formula first = ExistentialNormalForm.translate(new ForAll(new Until(new AtomicProposition(p1), new AtomicProposition(p2))));
+            Formula second = ExistentialNormalForm.translate(new ForAll(new Until(new AtomicProposition(p1), new AtomicProposition(p2))));
+            PositiveNormalForm.translate(new ForAll(new Until(new AtomicProposition(p1), new AtomicProposition(p2))));
+
+            Assertions.assertSame(first, second);
+            Assertions.assertEquals(1, TranslationCache.hits());
+            Assertions.assertEquals(2, TranslationCache.misses());
+            Assertions.assertEquals(2, TranslationCache.size());
+            Assertions.assertTrue(TranslationCache.savedNanos() > 0);
+        } finally {
+            TranslationCache.disable();
+        }
+    }
+
+    /**
+     *
+     * Test for asserting that the least recently used translations are
+     * evicted to keep the weight bound
+     *
+     */
+    @Test
+    void testEviction() {
+        TranslationCache.enable(12);
+        TranslationCache.resetStatistics();
+        try {
+            StateFormula a = Formulas.exists(Formulas.next(Formulas.atom(p1)));
+            StateFormula b = Formulas.exists(Formulas.next(Formulas.atom(p2)));
+            StateFormula c = Formulas.exists(Formulas.always(Formulas.atom(p2)));
+
+            ExistentialNormalForm.translate(a);
+            ExistentialNormalForm.translate(b);
+            ExistentialNormalForm.translate(a);
+            ExistentialNormalForm.translate(c);
+
+            Assertions.assertEquals(1, TranslationCache.evictions());
+            Assertions.assertEquals(12, TranslationCache.weight());
+            ExistentialNormalForm.translate(a);
+            Assertions.assertEquals(2, TranslationCache.hits());
+            ExistentialNormalForm.translate(b);
+            Assertions.assertEquals(4, TranslationCache.misses());
+        } finally {
+            TranslationCache.disable();
+        }
+        Assertions.assertFalse(TranslationCache.isEnabled());
+        Assertions.assertEquals(0, TranslationCache.size());
+    }
+
+    /**
+     *
+     * Test for asserting that a cache filled well past its bound keeps the
+     * recently used translations and evicts the least recently used ones
+     *
+     */
+    @Test
+    void testLeastRecentlyUsedAreEvicted() {
+        TranslationCache.enable(60);
+        TranslationCache.resetStatistics();
+        try {
+            for (int i = 0; i < 30; i++)
+                ExistentialNormalForm.translate(next("g" + i));
+            Assertions.assertEquals(10, TranslationCache.size());
+            Assertions.assertEquals(20, TranslationCache.evictions());
+
+            for (int i = 20; i < 25; i++)
+                ExistentialNormalForm.translate(next("g" + i));
+            for (int i = 0; i < 5; i++)
+                ExistentialNormalForm.translate(next("f" + i));
+            Assertions.assertEquals(25, TranslationCache.evictions());
+            Assertions.assertEquals(5, TranslationCache.hits());
+
+            for (int i = 20; i < 25; i++)
+                ExistentialNormalForm.translate(next("g" + i));
+            for (int i = 0; i < 5; i++)
+                ExistentialNormalForm.translate(next("f" + i));
+            Assertions.assertEquals(15, TranslationCache.hits());
+            for (int i = 25; i < 30; i++)
+                ExistentialNormalForm.translate(next("g" + i));
+            Assertions.assertEquals(15, TranslationCache.hits());
+            Assertions.assertEquals(60, TranslationCache.weight());
+        } finally {
+            TranslationCache.disable();
+        }
+    }
+
+    /**
+     * Returns {@code E(X(p1.name))}, which weighs 6 in the cache.
+     */
+    private static StateFormula next(String name) {
+        return Formulas.exists(Formulas.next(Formulas.atom(p1 + "." + name)));
+    }
+
+    /**
+     *
+     * Test for asserting that concurrent lookups and evictions keep the
+     * counters and the weight consistent
+     *
+     */
+    @Test
+    void testConcurrentUse() throws InterruptedException {
+        TranslationCache.enable(200);
+        TranslationCache.resetStatistics();
+        try {
+            Thread[] threads = new Thread[4];
+            for (int t = 0; t < threads.length; t++) {
+                threads[t] = new Thread(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        StateFormula form = new ForAll(new Until(new AtomicProposition(p1), new AtomicProposition(p2 + i % 40)));
+                        Assertions.assertNotNull(ExistentialNormalForm.translate(form));
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads)
+                thread.join();
+
+            Assertions.assertEquals(2000, TranslationCache.hits() + TranslationCache.misses());
+            Assertions.assertTrue(TranslationCache.weight() <= 200);
+            Assertions.assertTrue(TranslationCache.evictions() > 0);
+        } finally {
+            TranslationCache.disable();
+        }
+        Assertions.assertEquals(0, TranslationCache.weight());
+    }
+}
@@ -0,0 +1,90 @@
+package test;
+
+import ctl.*;
+import ctlform.ExistentialNormalForm;
+import ctlform.PositiveNormalForm;
+import ctlform.RandomFormula;
+import ctlform.TranslationAbortedException;
+import ctlform.TranslationOptions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+/**
+ *
+ * Class for testing the budgets of translations
+ *
+ */
+
+class TranslationOptionsTest {
+
+    public static final String p1 = "java.lang.error";
+
+    /**
+     *
+     * Test for asserting that a translation building more nodes than allowed
+     * is aborted with partial statistics
+     *
+     */
+    @Test
+    void testNodeLimit() {
+        StateFormula formula = Formulas.atom(p1);
+        for (int i = 0; i < 10000; i++)
+            formula = Formulas.forAll(Formulas.next(formula));
+        StateFormula nested = formula;
+        TranslationOptions options = new TranslationOptions(100, null);
+
+        TranslationAbortedException aborted = Assertions.assertThrows(TranslationAbortedException.class,
+                () -> ExistentialNormalForm.translate(nested, options));
+
+        Assertions.assertEquals(TranslationAbortedException.Reason.NODE_LIMIT, aborted.getReason());
+        Assertions.assertTrue(aborted.getNodes() > 100 && aborted.getNodes() <= 104);
+        Assertions.assertTrue(aborted.getSteps() > 0);
+        Assertions.assertThrows(TranslationAbortedException.class,
+                () -> PositiveNormalForm.translate(Formulas.not(nested), options));
+    }
+
+    /**
+     *
+     * Test for asserting that cancelled and expired translations are aborted
+     * before building anything
+     *
+     */
+    @Test
+    void testCancellationAndDeadline() {
+        StateFormula formula = Formulas.forAll(Formulas.until(Formulas.atom(p1), Formulas.TRUE));
+        TranslationOptions cancelled = new TranslationOptions();
+        cancelled.cancel();
+        TranslationOptions expired = new TranslationOptions(Long.MAX_VALUE, Duration.ZERO);
+
+        TranslationAbortedException aborted = Assertions.assertThrows(TranslationAbortedException.class,
+                () -> PositiveNormalForm.translate(formula, cancelled));
+        Assertions.assertEquals(TranslationAbortedException.Reason.CANCELLED, aborted.getReason());
+        Assertions.assertEquals(0L, aborted.getNodes());
+
+        aborted = Assertions.assertThrows(TranslationAbortedException.class,
+                () -> ExistentialNormalForm.translate(formula, expired));
+        Assertions.assertEquals(TranslationAbortedException.Reason.DEADLINE, aborted.getReason());
+        Assertions.assertEquals(Duration.ZERO, expired.getRemaining());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TranslationOptions(0, null));
+    }
+
+    /**
+     *
+     * Test for asserting that translations within their budget give the
+     * usual results
+     *
+     */
+    @Test
+    void testWithinBudget() {
+        TranslationOptions options = new TranslationOptions(1_000_000, Duration.ofMinutes(10));
+        for (int i = 0; i < 100; i++) {
+            StateFormula formula = RandomFormula.generateTranslatableExistentialStateFormula(5);
+
+            Assertions.assertEquals(ExistentialNormalForm.translate(formula), ExistentialNormalForm.translate(formula, options));
+            Assertions.assertEquals(PositiveNormalForm.translate(formula), PositiveNormalForm.translate(formula, options));
+        }
+        Assertions.assertFalse(options.isCancelled());
+    }
+}